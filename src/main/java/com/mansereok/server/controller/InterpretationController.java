@@ -14,10 +14,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -78,6 +80,17 @@ public class InterpretationController {
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(
+		summary = "사주 해석 생성(Posteller 만세력, 스트리밍)",
+		description = "해석을 생성되는 대로 SSE 로 보냅니다. delta 이벤트는 해석 조각, done 이벤트는 전체 응답(ManseryeokInterpretationResponse), error 이벤트는 오류 메시지입니다."
+	)
+	@PostMapping(value = "/api/v1/manseryeok/interpretation/stream",
+		produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamInterpretation(@RequestBody ManseryeokCreateRequest request) {
+		log.info("[ManseryeokController.streamInterpretation] name={}", request.getName());
+		return interpretationService.createInterpretationStream(request);
+	}
+
 	@Operation(
 		summary = "두 사람의 궁합 분석",
 		description = "두 사람의 생년월일시 정보를 입력받아 AI 기반 사주 궁합 분석을 제공합니다"
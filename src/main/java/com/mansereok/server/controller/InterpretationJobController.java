@@ -0,0 +1,84 @@
+package com.mansereok.server.controller;
+
+import com.mansereok.server.exception.JobRejectedException;
+import com.mansereok.server.service.InterpretationJobService;
+import com.mansereok.server.service.request.CompatibilityAnalysisRequest;
+import com.mansereok.server.service.request.ManseCompatibilityAnalysisRequest;
+import com.mansereok.server.service.request.ManseInterpretationRequest;
+import com.mansereok.server.service.request.ManseryeokCreateRequest;
+import com.mansereok.server.service.response.InterpretationJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "해석 작업 API", description = "해석을 작업으로 제출하고 상태/결과를 조회하는 API. 제출은 바로 반환됩니다.")
+public class InterpretationJobController {
+
+	private final InterpretationJobService interpretationJobService;
+
+	@Operation(summary = "만세력 종합 해석 작업 제출", description = "/api/v1/manseryeok/interpret 와 같은 요청을 작업으로 실행합니다.")
+	@PostMapping("/api/v1/jobs/manseryeok/interpret")
+	public ResponseEntity<?> submitInterpret(@Valid @RequestBody ManseInterpretationRequest request) {
+		log.info("해석 작업 제출: name={}", request.getName());
+		return accepted(() -> interpretationJobService.submitInterpret(request));
+	}
+
+	@Operation(summary = "궁합 분석 작업 제출", description = "/api/v1/manseryeok/interpret/compatibility 와 같은 요청을 작업으로 실행합니다.")
+	@PostMapping("/api/v1/jobs/manseryeok/interpret/compatibility")
+	public ResponseEntity<?> submitInterpretCompatibility(
+		@Valid @RequestBody ManseCompatibilityAnalysisRequest request) {
+		log.info("궁합 분석 작업 제출: person1={}, person2={}",
+			request.getPerson1().getName(), request.getPerson2().getName());
+		return accepted(() -> interpretationJobService.submitInterpretCompatibility(request));
+	}
+
+	@Operation(summary = "사주 해석 작업 제출(Posteller 만세력)", description = "/api/v1/manseryeok/interpretation 과 같은 요청을 작업으로 실행합니다.")
+	@PostMapping("/api/v1/jobs/manseryeok/interpretation")
+	public ResponseEntity<?> submitInterpretation(@RequestBody ManseryeokCreateRequest request) {
+		log.info("해석 작업 제출 (Posteller): name={}", request.getName());
+		return accepted(() -> interpretationJobService.submitInterpretation(request));
+	}
+
+	@Operation(summary = "두 사람의 궁합 분석 작업 제출", description = "/api/v1/manseryeok/compatibility 와 같은 요청을 작업으로 실행합니다.")
+	@PostMapping("/api/v1/jobs/manseryeok/compatibility")
+	public ResponseEntity<?> submitCompatibility(@RequestBody CompatibilityAnalysisRequest request) {
+		log.info("궁합 분석 작업 제출 (Posteller): person1={}, person2={}",
+			request.getPerson1().getName(), request.getPerson2().getName());
+		return accepted(() -> interpretationJobService.submitCompatibility(request));
+	}
+
+	@Operation(summary = "작업 조회", description = "작업 상태, 대기 순서, 결과를 조회합니다.")
+	@GetMapping("/api/v1/jobs/{jobId}")
+	public ResponseEntity<InterpretationJobResponse> getJob(@PathVariable String jobId) {
+		return ResponseEntity.of(interpretationJobService.find(jobId));
+	}
+
+	@Operation(summary = "작업 구독", description = "상태가 바뀔 때마다 status 이벤트(작업 조회 응답과 같은 형태)를 SSE 로 보냅니다. 작업이 끝나면 연결이 닫힙니다.")
+	@GetMapping(value = "/api/v1/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> subscribe(@PathVariable String jobId) {
+		return ResponseEntity.of(interpretationJobService.subscribe(jobId));
+	}
+
+	private ResponseEntity<?> accepted(Supplier<InterpretationJobResponse> submit) {
+		try {
+			return ResponseEntity.accepted().body(submit.get());
+		} catch (JobRejectedException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.mansereok.server.controller;
+
+import com.mansereok.server.exception.JobRejectedException;
+import com.mansereok.server.service.pipeline.InterpretationPipelineService;
+import com.mansereok.server.service.request.ManseCompatibilityAnalysisRequest;
+import com.mansereok.server.service.request.ManseInterpretationRequest;
+import com.mansereok.server.service.response.InterpretationRequestResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnProperty(name = "manse.pipeline.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "해석 파이프라인 API", description = "해석 요청을 Kafka 로 발행하고 처리 상태/결과를 조회하는 API. 처리는 아무 워커가 맡습니다.")
+public class InterpretationPipelineController {
+
+	private final InterpretationPipelineService interpretationPipelineService;
+
+	@Operation(summary = "만세력 종합 해석 요청 발행", description = "/api/v1/manseryeok/interpret 와 같은 요청을 파이프라인으로 처리합니다.")
+	@PostMapping("/api/v1/pipeline/manseryeok/interpret")
+	public ResponseEntity<?> submitInterpret(@Valid @RequestBody ManseInterpretationRequest request) {
+		log.info("해석 요청 발행: name={}", request.getName());
+		return accepted(() -> interpretationPipelineService.submitInterpret(request));
+	}
+
+	@Operation(summary = "궁합 분석 요청 발행", description = "/api/v1/manseryeok/interpret/compatibility 와 같은 요청을 파이프라인으로 처리합니다.")
+	@PostMapping("/api/v1/pipeline/manseryeok/interpret/compatibility")
+	public ResponseEntity<?> submitInterpretCompatibility(
+		@Valid @RequestBody ManseCompatibilityAnalysisRequest request) {
+		log.info("궁합 분석 요청 발행: person1={}, person2={}",
+			request.getPerson1().getName(), request.getPerson2().getName());
+		return accepted(() -> interpretationPipelineService.submitInterpretCompatibility(request));
+	}
+
+	@Operation(summary = "요청 조회", description = "처리 상태를 조회합니다. 완료되었으면 저장된 해석을 함께 돌려줍니다.")
+	@GetMapping("/api/v1/pipeline/requests/{requestId}")
+	public ResponseEntity<InterpretationRequestResponse> getRequest(@PathVariable String requestId) {
+		return ResponseEntity.of(interpretationPipelineService.find(requestId));
+	}
+
+	private ResponseEntity<?> accepted(Supplier<InterpretationRequestResponse> submit) {
+		try {
+			return ResponseEntity.accepted().body(submit.get());
+		} catch (JobRejectedException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+		}
+	}
+}
@@ -1,22 +1,27 @@
 package com.mansereok.server.controller;
 
+import com.mansereok.server.service.ManseBatchCalculationService;
 import com.mansereok.server.service.ManseCalculationService;
 import com.mansereok.server.service.ManseInterpretationService;
 import com.mansereok.server.service.request.ManseCompatibilityAnalysisRequest;
 import com.mansereok.server.service.request.ManseInterpretationRequest;
+import com.mansereok.server.service.request.ManseryeokBatchCalculationRequest;
 import com.mansereok.server.service.request.ManseryeokCalculationRequest;
 import com.mansereok.server.service.response.ManseCompatibilityAnalysisResponse;
 import com.mansereok.server.service.response.ManseInterpretationResponse;
+import com.mansereok.server.service.response.ManseryeokBatchCalculationResponse;
 import com.mansereok.server.service.response.ManseryeokCalculationResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ManseryeokController {
 
 	private final ManseCalculationService manseCalculationService;
+	private final ManseBatchCalculationService manseBatchCalculationService;
 	private final ManseInterpretationService manseInterpretationService;
 
 	@Operation(
@@ -42,6 +48,22 @@ public class ManseryeokController {
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(
+		summary = "만세력 일괄 계산",
+		description = "여러 건의 생년월일시를 한 번에 계산합니다. 건별 오류는 해당 건의 결과에만 담기고 나머지 건은 계속 계산됩니다."
+	)
+	@PostMapping("/api/v1/manseryeok/calculate/batch")
+	public ResponseEntity<ManseryeokBatchCalculationResponse> calculateBatch(
+		@Valid @RequestBody ManseryeokBatchCalculationRequest request
+	) {
+		log.info("만세력 일괄 계산 요청: count={}",
+			request.getRequests() != null ? request.getRequests().size() : 0);
+		ManseryeokBatchCalculationResponse response =
+			manseBatchCalculationService.calculate(request.getRequests());
+
+		return ResponseEntity.ok(response);
+	}
+
 	@Operation(
 		summary = "만세력 종합 해석"
 	)
@@ -57,7 +79,8 @@ public class ManseryeokController {
 				request.getSolarDate(),
 				request.getSolarTime(),
 				request.getGender(),
-				request.getIsLunar()
+				request.getIsLunar(),
+				request.getIsLeapMonth()
 			)
 		);
 
@@ -70,6 +93,29 @@ public class ManseryeokController {
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(
+		summary = "만세력 종합 해석 (스트리밍)",
+		description = "해석을 생성되는 대로 SSE 로 보냅니다. delta 이벤트는 해석 조각, done 이벤트는 저장된 해석(ManseInterpretationResponse), error 이벤트는 오류 메시지입니다."
+	)
+	@PostMapping(value = "/api/v1/manseryeok/interpret/stream",
+		produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter interpretStream(
+		@Valid @RequestBody ManseInterpretationRequest request
+	) {
+		ManseryeokCalculationResponse manse = manseCalculationService.calculate(
+			new ManseryeokCalculationRequest(
+				request.getName(),
+				request.getSolarDate(),
+				request.getSolarTime(),
+				request.getGender(),
+				request.getIsLunar(),
+				request.getIsLeapMonth()
+			)
+		);
+
+		return manseInterpretationService.interpretStream(request.getName(), manse);
+	}
+
 	@Operation(
 		summary = "궁합 분석",
 		description = "두 사람의 이름과 생년월일시 정보를 받아 AI를 통해 종합적인 궁합을 분석합니다."
@@ -88,7 +134,8 @@ public class ManseryeokController {
 				person1.getSolarDate(),
 				person1.getSolarTime(),
 				person1.getGender(),
-				person1.getIsLunar()
+				person1.getIsLunar(),
+				person1.getIsLeapMonth()
 			)
 		);
 
@@ -99,7 +146,8 @@ public class ManseryeokController {
 				person2.getSolarDate(),
 				person2.getSolarTime(),
 				person2.getGender(),
-				person2.getIsLunar()
+				person2.getIsLunar(),
+				person2.getIsLeapMonth()
 			)
 		);
 
@@ -38,6 +38,12 @@ public class CompatibilityResult {
 	@Column(name = "person2_ilgan")
 	private String person2Ilgan;
 
+	@Column(name = "person1_chart_key")
+	private Long person1ChartKey;  // 사주 명식 키 (ChartKey)
+
+	@Column(name = "person2_chart_key")
+	private Long person2ChartKey;
+
 	@Column(name = "compatibility_score")
 	private Integer compatibilityScore;
 
@@ -52,14 +58,17 @@ public class CompatibilityResult {
 	}
 
 	public static CompatibilityResult create(
-		Long userId, String person1Name, String person1Ilgan, String person2Name,
-		String person2Ilgan, Integer compatibilityScore, String interpretation) {
+		Long userId, String person1Name, String person1Ilgan, Long person1ChartKey,
+		String person2Name, String person2Ilgan, Long person2ChartKey, Integer compatibilityScore,
+		String interpretation) {
 		CompatibilityResult result = new CompatibilityResult();
 		result.userId = userId;
 		result.person1Name = person1Name;
 		result.person1Ilgan = person1Ilgan;
 		result.person2Name = person2Name;
 		result.person2Ilgan = person2Ilgan;
+		result.person1ChartKey = person1ChartKey;
+		result.person2ChartKey = person2ChartKey;
 		result.compatibilityScore = compatibilityScore;
 		result.interpretation = interpretation;
 		return result;
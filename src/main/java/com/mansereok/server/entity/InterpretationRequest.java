@@ -0,0 +1,86 @@
+package com.mansereok.server.entity;
+
+import com.mansereok.server.service.job.JobStatus;
+import com.mansereok.server.service.job.JobType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Kafka 해석 파이프라인에 발행한 요청 하나의 처리 상태. 결과는 results / compatibility_results 에 저장되고 여기에는 그 ID 만 남는다.
+ */
+@Entity
+@Table(name = "interpretation_requests")
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InterpretationRequest {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	@Column(name = "request_id", length = 36)
+	private String requestId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private JobType type;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private JobStatus status;
+
+	@Column(name = "result_id")
+	private Long resultId;  // 요청 종류에 따라 results.id 또는 compatibility_results.id
+
+	@Column(length = MAX_ERROR_LENGTH)
+	private String error;
+
+	private LocalDateTime createdAt;
+
+	private LocalDateTime updatedAt;
+
+	@PrePersist
+	protected void onCreate() {
+		createdAt = LocalDateTime.now();
+		updatedAt = createdAt;
+	}
+
+	@PreUpdate
+	protected void onUpdate() {
+		updatedAt = LocalDateTime.now();
+	}
+
+	public static InterpretationRequest create(String requestId, JobType type) {
+		InterpretationRequest request = new InterpretationRequest();
+		request.requestId = requestId;
+		request.type = type;
+		request.status = JobStatus.QUEUED;
+		return request;
+	}
+
+	public void running() {
+		status = JobStatus.RUNNING;
+	}
+
+	public void succeeded(Long resultId) {
+		this.resultId = resultId;
+		status = JobStatus.SUCCEEDED;
+	}
+
+	public void failed(String error) {
+		this.error = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH) : error;
+		status = JobStatus.FAILED;
+	}
+}
@@ -46,12 +46,19 @@ public class Result {
 	@Column(name = "is_lunar", nullable = false)
 	private Boolean isLunar;
 
+	@Column(name = "chart_key")
+	private Long chartKey;  // 사주 명식 키 (ChartKey)
+
 	@Column(nullable = false, length = 10)
 	private String ilgan;
 
 	@Column(columnDefinition = "TEXT", nullable = false)
 	private String interpretation;
 
+	// 이름 대신 자리표시(○○)로 만든 해석. 있을 때만 같은 사주의 다른 사람에게 재사용한다
+	@Column(name = "interpretation_template", columnDefinition = "TEXT")
+	private String interpretationTemplate;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
@@ -70,7 +77,8 @@ public class Result {
 	}
 
 	public static Result create(Long userId, String name, LocalDate solarDate,
-		LocalTime solarTime, String gender, Boolean isLunar, String ilgan, String interpretation
+		LocalTime solarTime, String gender, Boolean isLunar, Long chartKey, String ilgan,
+		String interpretation, String interpretationTemplate
 	) {
 		Result result = new Result();
 		result.userId = userId;
@@ -79,8 +87,10 @@ public class Result {
 		result.solarTime = solarTime;
 		result.gender = gender;
 		result.isLunar = isLunar;
+		result.chartKey = chartKey;
 		result.ilgan = ilgan;
 		result.interpretation = interpretation;
+		result.interpretationTemplate = interpretationTemplate;
 
 		return result;
 	}
@@ -0,0 +1,8 @@
+package com.mansereok.server.exception;
+
+public class JobRejectedException extends RuntimeException {
+
+	public JobRejectedException(String message) {
+		super(message);
+	}
+}
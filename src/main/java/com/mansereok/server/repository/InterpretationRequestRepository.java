@@ -0,0 +1,10 @@
+package com.mansereok.server.repository;
+
+import com.mansereok.server.entity.InterpretationRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InterpretationRequestRepository extends JpaRepository<InterpretationRequest, String> {
+
+}
@@ -3,6 +3,7 @@ package com.mansereok.server.repository;
 import com.mansereok.server.entity.Manse;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,11 +19,25 @@ public interface ManseRepository extends JpaRepository<Manse, Long> {
 	 */
 	Optional<Manse> findBySolarDate(LocalDate solarDate);
 
+	/**
+	 * 여러 양력 날짜의 만세력을 한 번에 조회
+	 */
+	List<Manse> findBySolarDateIn(Collection<LocalDate> solarDates);
+
 	/**
 	 * 음력 날짜로 만세력 조회
 	 */
 	Optional<Manse> findByLunarDate(LocalDate lunarDate);
 
+	/**
+	 * 음력 날짜와 윤달 여부로 만세력 조회 (윤달이 있는 해는 같은 음력 날짜가 두 번 존재).
+	 * leap_month 가 NULL 인 행은 평달로 본다. 컬럼을 함수로 감싸지 않아야 idx_lunar_leap 를 탄다.
+	 */
+	@Query("SELECT m FROM Manse m WHERE m.lunarDate = :lunarDate"
+		+ " AND (m.leapMonth = :leapMonth OR (:leapMonth = false AND m.leapMonth IS NULL))")
+	Optional<Manse> findByLunarDateAndLeapMonth(@Param("lunarDate") LocalDate lunarDate,
+		@Param("leapMonth") boolean leapMonth);
+
 	/**
 	 * 절입시간이 특정 시간 이후인 첫 번째 만세력 조회 (순행용)
 	 */
@@ -2,6 +2,7 @@ package com.mansereok.server.repository;
 
 import com.mansereok.server.entity.Result;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,4 +14,9 @@ public interface ResultRepository extends JpaRepository<Result, Long> {
 	Optional<Result> findBySolarDateAndSolarTimeAndGenderAndIsLunar(
 		LocalDate solarDate, LocalTime solarTime, String gender, Boolean isLunar
 	);
+
+	// 같은 명식, 같은 출생 정보로 만든 가장 최근 해석 (idx_results_chart_key)
+	Optional<Result> findFirstByChartKeyAndSolarDateAndSolarTimeAndIsLunarAndCreatedAtAfterOrderByIdDesc(
+		Long chartKey, LocalDate solarDate, LocalTime solarTime, Boolean isLunar, LocalDateTime createdAfter
+	);
 }
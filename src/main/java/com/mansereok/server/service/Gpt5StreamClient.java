@@ -0,0 +1,210 @@
+package com.mansereok.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mansereok.server.service.request.Gpt5Request;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * GPT-5 /v1/responses 를 stream: true 로 호출해 출력 조각을 SSE 로 바로 전달한다.
+ * <p>
+ * 보내는 이벤트는 세 가지다.
+ * <ul>
+ *   <li>delta: 출력 텍스트 조각</li>
+ *   <li>done: 전체 텍스트로 onComplete 를 실행한 결과 (저장된 응답 DTO)</li>
+ *   <li>error: 오류 메시지. 이 경우 onComplete 는 실행하지 않는다</li>
+ * </ul>
+ * 호출은 가상 스레드에서 진행하므로 요청 스레드는 바로 반환된다. 클라이언트 연결이 끊겨도 응답은 끝까지 읽어
+ * onComplete 로 넘긴다 (이미 생성 비용을 냈으므로 결과는 저장해 둔다).
+ */
+@Component
+@Slf4j
+class Gpt5StreamClient {
+
+	static final String DELTA = "delta";
+	static final String DONE = "done";
+	static final String ERROR = "error";
+
+	private static final String DATA_PREFIX = "data:";
+
+	private final RestClient restClient;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Duration timeout;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	Gpt5StreamClient(@Value("${openai.api.key}") String apiKey,
+		@Value("${openai.api.base-url:https://api.openai.com}") String baseUrl,
+		@Value("${openai.stream.timeout:PT5M}") Duration timeout) {
+		this.restClient = RestClient.builder()
+			.baseUrl(baseUrl + "/v1")
+			.defaultHeader("Authorization", "Bearer " + apiKey)
+			.defaultHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+			.build();
+		this.timeout = timeout;
+	}
+
+	/**
+	 * GPT-5 응답을 스트리밍한다. 스트림이 정상적으로 끝나면 전체 텍스트로 onComplete 를 실행해 done 으로 보낸다.
+	 */
+	SseEmitter stream(Gpt5Request request, Function<String, ?> onComplete) {
+		Emitter emitter = new Emitter(new SseEmitter(timeout.toMillis()));
+		executor.execute(() -> {
+			try {
+				String requestBody = objectMapper.writeValueAsString(request);
+				log.info("GPT-5 스트리밍 호출 시작");
+				String text = restClient.post()
+					.uri("/responses")
+					.accept(MediaType.TEXT_EVENT_STREAM)
+					.body(requestBody)
+					.exchange((httpRequest, response) -> {
+						if (response.getStatusCode().isError()) {
+							throw new IllegalArgumentException(
+								"GPT API 에러: HTTP " + response.getStatusCode().value());
+						}
+						try (BufferedReader reader = new BufferedReader(
+							new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+							return read(reader, emitter::delta);
+						}
+					});
+				log.info("✅ GPT 스트리밍 응답 완료 - 길이: {} 문자", text.length());
+				emitter.done(onComplete.apply(text));
+			} catch (Exception e) {
+				log.error("GPT 스트리밍 요청 중 오류 발생: {}", e.getMessage(), e);
+				emitter.error("해석 생성 중 API 요청 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+			}
+		});
+		return emitter.sseEmitter;
+	}
+
+	/**
+	 * 이미 만들어 둔 텍스트(재사용한 해석)를 delta 한 번과 done 으로 보낸다.
+	 */
+	SseEmitter replay(String text, Function<String, ?> onComplete) {
+		Emitter emitter = new Emitter(new SseEmitter(timeout.toMillis()));
+		executor.execute(() -> {
+			try {
+				emitter.delta(text);
+				emitter.done(onComplete.apply(text));
+			} catch (RuntimeException e) {
+				log.error("재사용 해석 전송 중 오류 발생: {}", e.getMessage(), e);
+				emitter.error("해석 저장 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+			}
+		});
+		return emitter.sseEmitter;
+	}
+
+	/**
+	 * /v1/responses 스트림(SSE)을 읽어 출력 조각마다 onDelta 를 호출하고 전체 텍스트를 돌려준다.
+	 * <p>
+	 * response.output_text.delta 의 delta 를 이어 붙인다. error / response.failed / response.incomplete
+	 * (토큰 한도 등으로 잘린 응답) 이벤트를 받거나, response.completed 없이 스트림이 끝나거나, 완료됐는데 텍스트가
+	 * 비어 있으면 예외. 잘리거나 빈 해석이 저장되지 않도록 onComplete 까지 가지 않게 한다.
+	 */
+	String read(BufferedReader reader, Consumer<String> onDelta) throws IOException {
+		StringBuilder text = new StringBuilder();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (!line.startsWith(DATA_PREFIX)) {
+				continue;
+			}
+			String data = line.substring(DATA_PREFIX.length()).trim();
+			if (data.isEmpty() || "[DONE]".equals(data)) {
+				continue;
+			}
+
+			JsonNode event = objectMapper.readTree(data);
+			switch (event.path("type").asText()) {
+				case "response.output_text.delta" -> {
+					String delta = event.path("delta").asText();
+					text.append(delta);
+					onDelta.accept(delta);
+				}
+				case "response.completed" -> {
+					if (text.toString().isBlank()) {
+						throw new IllegalArgumentException("GPT 응답이 비어있습니다.");
+					}
+					return text.toString();
+				}
+				case "response.incomplete" -> throw new IllegalArgumentException(
+					"GPT 응답이 완료되지 않았습니다: " + event.path("response").path("incomplete_details")
+						.path("reason").asText("알 수 없는 이유"));
+				case "error" -> throw new IllegalArgumentException(
+					"GPT API 에러: " + event.path("message").asText("알 수 없는 API 오류"));
+				case "response.failed" -> throw new IllegalArgumentException(
+					"GPT API 에러: " + event.path("response").path("error").path("message")
+						.asText("알 수 없는 API 오류"));
+				default -> {
+				}
+			}
+		}
+		throw new IllegalArgumentException("GPT 응답 스트림이 완료 이벤트 없이 끊겼습니다.");
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * 클라이언트 연결이 끊기면 이후 전송은 건너뛴다.
+	 */
+	private static final class Emitter {
+
+		private final SseEmitter sseEmitter;
+		private volatile boolean connected = true;
+
+		private Emitter(SseEmitter sseEmitter) {
+			this.sseEmitter = sseEmitter;
+			sseEmitter.onCompletion(() -> connected = false);
+			sseEmitter.onTimeout(() -> connected = false);
+			sseEmitter.onError(e -> connected = false);
+		}
+
+		void delta(String delta) {
+			send(DELTA, delta);
+		}
+
+		void done(Object result) {
+			send(DONE, result);
+			complete();
+		}
+
+		void error(String message) {
+			send(ERROR, message);
+			complete();
+		}
+
+		private void send(String name, Object data) {
+			if (!connected) {
+				return;
+			}
+			try {
+				sseEmitter.send(SseEmitter.event().name(name).data(data));
+			} catch (IOException | IllegalStateException e) {
+				connected = false;
+				log.info("클라이언트 연결 끊김, 스트림 전송 중단: {}", e.getMessage());
+			}
+		}
+
+		private void complete() {
+			if (connected) {
+				sseEmitter.complete();
+			}
+		}
+	}
+}
@@ -66,17 +66,8 @@ public class GptApiClient {
 //				0.7
 //			);
 
-			String input = GPT5_SYSTEM_INSTRUCTION + userPrompt;
-
-			Gpt5Request gpt5Request = new Gpt5Request(
-				"gpt-5",
-				input, // ⚠️ String input으로 전달
-				8000,
-				"medium",
-				"medium"
-			);
-
-			String requestBody = objectMapper.writeValueAsString(gpt5Request);
+			String requestBody = objectMapper.writeValueAsString(
+				createInterpretationRequest(userPrompt, false));
 
 			String gptResponse = restClient.post()
 				.uri("/responses") // /v1/responses
@@ -96,6 +87,31 @@ public class GptApiClient {
 		}
 	}
 
+	/**
+	 * {@link #interpret} 와 같은 프롬프트로 스트리밍용(stream: true) GPT-5 요청을 만든다.
+	 */
+	public Gpt5Request createStreamingRequest(
+		DaeunCreateResponse daeunResponse,
+		ChartCreateResponse chartResponse,
+		OhaengCreateResponse ohaengResponse,
+		ManseryeokCreateRequest request
+	) {
+		log.info("✅ 사주 해석 스트리밍 요청, 요청한 사람: {}", request.getName());
+		return createInterpretationRequest(
+			createPrompt(daeunResponse, chartResponse, ohaengResponse, request), true);
+	}
+
+	private Gpt5Request createInterpretationRequest(String userPrompt, boolean stream) {
+		return new Gpt5Request(
+			"gpt-5",
+			GPT5_SYSTEM_INSTRUCTION + userPrompt, // ⚠️ String input으로 전달
+			8000,
+			"medium",
+			"medium",
+			stream
+		);
+	}
+
 	private String createPrompt(
 		DaeunCreateResponse daeunResponse,
 		ChartCreateResponse chartResponse,
@@ -740,9 +756,11 @@ public class GptApiClient {
 			sajuChart.getDayPillar().getJiji().getName(),
 			sajuChart.getDayPillar().getCheongan().getName(),
 			sajuChart.getDayPillar().getCheongan().getOhaeng().getName()));
-		prompt.append(String.format("- 시주: %s%s\n",
-			sajuChart.getTimePillar().getCheongan().getName(),
-			sajuChart.getTimePillar().getJiji().getName()));
+		if (sajuChart.getTimePillar() != null) {
+			prompt.append(String.format("- 시주: %s%s\n",
+				sajuChart.getTimePillar().getCheongan().getName(),
+				sajuChart.getTimePillar().getJiji().getName()));
+		}
 
 		// 오행 분포
 		prompt.append("오행 분포:\n");
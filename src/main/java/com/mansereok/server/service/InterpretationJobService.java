@@ -0,0 +1,84 @@
+package com.mansereok.server.service;
+
+import com.mansereok.server.service.job.InterpretationJob;
+import com.mansereok.server.service.job.InterpretationJobExecutor;
+import com.mansereok.server.service.job.JobType;
+import com.mansereok.server.service.request.CompatibilityAnalysisRequest;
+import com.mansereok.server.service.request.ManseCompatibilityAnalysisRequest;
+import com.mansereok.server.service.request.ManseInterpretationRequest;
+import com.mansereok.server.service.request.ManseryeokCalculationRequest;
+import com.mansereok.server.service.request.ManseryeokCreateRequest;
+import com.mansereok.server.service.response.InterpretationJobResponse;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 해석 API 를 작업으로 제출한다. 제출은 바로 반환되고, 만세력 계산부터 GPT 해석까지 전체가 작업 안에서 실행된다.
+ * 결과는 동기 API 의 응답과 같은 객체이다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterpretationJobService {
+
+	private final InterpretationJobExecutor interpretationJobExecutor;
+
+	private final ManseCalculationService manseCalculationService;
+	private final ManseInterpretationService manseInterpretationService;
+	private final InterpretationService interpretationService;
+
+	public InterpretationJobResponse submitInterpret(ManseInterpretationRequest request) {
+		return submit(JobType.INTERPRET, () -> manseInterpretationService.interpret(
+			request.getName(),
+			calculate(request.getName(), request.getSolarDate(), request.getSolarTime(),
+				request.getGender(), request.getIsLunar(), request.getIsLeapMonth())));
+	}
+
+	public InterpretationJobResponse submitInterpretCompatibility(
+		ManseCompatibilityAnalysisRequest request) {
+		ManseCompatibilityAnalysisRequest.PersonInfo person1 = request.getPerson1();
+		ManseCompatibilityAnalysisRequest.PersonInfo person2 = request.getPerson2();
+		return submit(JobType.INTERPRET_COMPATIBILITY, () -> manseInterpretationService.analyzeCompatibility(
+			person1.getName(), calculate(person1), person2.getName(), calculate(person2)));
+	}
+
+	public InterpretationJobResponse submitInterpretation(ManseryeokCreateRequest request) {
+		return submit(JobType.INTERPRETATION, () -> interpretationService.createInterpretation(request));
+	}
+
+	public InterpretationJobResponse submitCompatibility(CompatibilityAnalysisRequest request) {
+		return submit(JobType.COMPATIBILITY,
+			() -> interpretationService.createCompatibilityAnalysis(request));
+	}
+
+	public Optional<InterpretationJobResponse> find(String jobId) {
+		return interpretationJobExecutor.find(jobId).map(interpretationJobExecutor::toResponse);
+	}
+
+	public Optional<SseEmitter> subscribe(String jobId) {
+		return interpretationJobExecutor.find(jobId).map(interpretationJobExecutor::subscribe);
+	}
+
+	private InterpretationJobResponse submit(JobType type, Supplier<?> work) {
+		InterpretationJob job = interpretationJobExecutor.submit(type, work);
+		return interpretationJobExecutor.toResponse(job);
+	}
+
+	private ManseryeokCalculationResponse calculate(ManseCompatibilityAnalysisRequest.PersonInfo person) {
+		return calculate(person.getName(), person.getSolarDate(), person.getSolarTime(),
+			person.getGender(), person.getIsLunar(), person.getIsLeapMonth());
+	}
+
+	private ManseryeokCalculationResponse calculate(String name, LocalDate solarDate,
+		LocalTime solarTime, String gender, Boolean isLunar, Boolean isLeapMonth) {
+		return manseCalculationService.calculate(
+			new ManseryeokCalculationRequest(name, solarDate, solarTime, gender, isLunar, isLeapMonth));
+	}
+}
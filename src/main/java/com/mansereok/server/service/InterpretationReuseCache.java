@@ -0,0 +1,177 @@
+package com.mansereok.server.service;
+
+import com.mansereok.server.entity.Result;
+import com.mansereok.server.repository.ResultRepository;
+import com.mansereok.server.service.cache.CacheKeys;
+import com.mansereok.server.service.cache.StripedLruCache;
+import com.mansereok.server.service.saju.ChartKey;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse.InputInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 사주로 이미 만든 GPT 해석을 찾아 재사용한다.
+ * <p>
+ * 1차로 메모리(hot) 캐시를, 2차로 results 테이블(idx_results_chart_key)을 본다. 재사용하는 것은 실제 이름 대신
+ * 자리표시({@link #NAME_PLACEHOLDER})로 만든 해석(템플릿)뿐이고, 돌려줄 때 자리표시를 새 이름으로 바꾼다
+ * ({@link Reusable#renderFor}). 실제 이름으로 만든 해석은 호칭이 여러 형태로 섞여 있어 다른 사람에게 쓰지 않는다.
+ * <ul>
+ *   <li>메모리 캐시 키: 명식 키({@link ChartKey}) + 입력(양력 날짜, 시각, 양/음력, 윤달)</li>
+ *   <li>DB 조회: (명식 키, 양력 날짜, 시각, 양/음력). 윤달 여부는 results 에 없으므로 윤달이면 DB 를 보지 않는다</li>
+ *   <li>신선도: max-age 보다 오래되었거나 not-before(프롬프트 변경 시점) 이전에 만든 해석은 쓰지 않는다</li>
+ *   <li>템플릿이 없는 results 행(실제 이름으로 만든 해석)은 재사용하지 않는다</li>
+ * </ul>
+ * 메트릭: manse.interpretation.reuse{tier=hot|db|miss}, manse.interpretation.reuse.hot.*
+ */
+@Component
+@Slf4j
+class InterpretationReuseCache {
+
+	static final String NAME_PLACEHOLDER = "○○";
+
+	private final ResultRepository resultRepository;
+	private final StripedLruCache<HotEntry> hot;
+	private final Duration maxAge;
+	private final LocalDateTime notBefore;
+	private final Supplier<LocalDateTime> clock;
+
+	private final Counter hotHits;
+	private final Counter dbHits;
+	private final Counter misses;
+
+	@Autowired
+	InterpretationReuseCache(ResultRepository resultRepository,
+		@Value("${manse.interpretation.reuse.enabled:true}") boolean enabled,
+		@Value("${manse.interpretation.reuse.max-age:P30D}") Duration maxAge,
+		@Value("${manse.interpretation.reuse.not-before:}") String notBefore,
+		@Value("${manse.interpretation.reuse.hot.max-size:1000}") int hotMaxSize,
+		MeterRegistry meterRegistry) {
+		this(resultRepository, enabled, maxAge,
+			notBefore == null || notBefore.isBlank() ? null : LocalDateTime.parse(notBefore),
+			hotMaxSize, meterRegistry, LocalDateTime::now);
+	}
+
+	InterpretationReuseCache(ResultRepository resultRepository, boolean enabled, Duration maxAge,
+		LocalDateTime notBefore, int hotMaxSize, MeterRegistry meterRegistry,
+		Supplier<LocalDateTime> clock) {
+		this.resultRepository = resultRepository;
+		this.maxAge = maxAge;
+		this.notBefore = notBefore;
+		this.clock = clock;
+		if (enabled) {
+			this.hot = new StripedLruCache<>("manse.interpretation.reuse.hot", hotMaxSize, 8);
+			hot.bindTo(meterRegistry);
+			log.info("해석 재사용 사용: maxAge={}, notBefore={}, hotMaxSize={}", maxAge, notBefore,
+				hotMaxSize);
+		} else {
+			this.hot = null;
+			log.info("해석 재사용 사용 안 함");
+		}
+		this.hotHits = meterRegistry.counter("manse.interpretation.reuse", "tier", "hot");
+		this.dbHits = meterRegistry.counter("manse.interpretation.reuse", "tier", "db");
+		this.misses = meterRegistry.counter("manse.interpretation.reuse", "tier", "miss");
+	}
+
+	/**
+	 * 재사용할 수 있는 해석을 찾는다.
+	 */
+	Optional<Reusable> find(ManseryeokCalculationResponse response) {
+		String fingerprint = fingerprint(response);
+		if (hot == null || fingerprint == null) {
+			return Optional.empty();
+		}
+
+		LocalDateTime oldest = oldestFresh();
+		HotEntry entry = hot.get(CacheKeys.hash(fingerprint),
+			cached -> cached.fingerprint().equals(fingerprint) && cached.createdAt().isAfter(oldest));
+		if (entry != null) {
+			hotHits.increment();
+			return Optional.of(entry.reusable());
+		}
+
+		Optional<Result> stored = Optional.empty();
+		if (!Boolean.TRUE.equals(response.getInput().getIsLeapMonth())) {
+			InputInfo input = response.getInput();
+			stored = resultRepository
+				.findFirstByChartKeyAndSolarDateAndSolarTimeAndIsLunarAndCreatedAtAfterOrderByIdDesc(
+					response.getChartKey(), input.getSolarDate(), input.getSolarTime(), input.getIsLunar(),
+					oldest)
+				.filter(result -> result.getInterpretationTemplate() != null);
+		}
+		if (stored.isEmpty()) {
+			misses.increment();
+			return Optional.empty();
+		}
+
+		dbHits.increment();
+		Result result = stored.get();
+		Reusable reusable = new Reusable(result.getIlgan(), result.getInterpretationTemplate());
+		LocalDateTime createdAt = result.getCreatedAt() != null ? result.getCreatedAt() : clock.get();
+		hot.put(CacheKeys.hash(fingerprint), new HotEntry(fingerprint, reusable, createdAt));
+		return Optional.of(reusable);
+	}
+
+	/**
+	 * 자리표시로 새로 만든 해석(템플릿)을 메모리 캐시에 넣는다.
+	 */
+	void put(ManseryeokCalculationResponse response, String ilgan, String template) {
+		String fingerprint = fingerprint(response);
+		if (hot == null || fingerprint == null || template == null) {
+			return;
+		}
+		hot.put(CacheKeys.hash(fingerprint), new HotEntry(fingerprint, new Reusable(ilgan, template),
+			clock.get()));
+	}
+
+	/**
+	 * 템플릿의 자리표시를 이름으로 바꾼다.
+	 */
+	static String render(String template, String name) {
+		return template.replace(NAME_PLACEHOLDER, name);
+	}
+
+	private LocalDateTime oldestFresh() {
+		LocalDateTime oldest = clock.get().minus(maxAge);
+		return notBefore != null && notBefore.isAfter(oldest) ? notBefore : oldest;
+	}
+
+	/**
+	 * 프롬프트에 들어가는 값 중 이름을 뺀 것. 필요한 값이 없으면 null (재사용하지 않음).
+	 */
+	static String fingerprint(ManseryeokCalculationResponse response) {
+		if (response == null || response.getChartKey() == null || response.getInput() == null
+			|| response.getInput().getSolarDate() == null || response.getInput().getSolarTime() == null) {
+			return null;
+		}
+		InputInfo input = response.getInput();
+		return String.join("|",
+			Long.toHexString(response.getChartKey()),
+			input.getSolarDate().toString(),
+			input.getSolarTime().toString(),
+			String.valueOf(input.getIsLunar()),
+			String.valueOf(Boolean.TRUE.equals(input.getIsLeapMonth())));
+	}
+
+	/**
+	 * 재사용할 해석. 템플릿의 자리표시를 새 이름으로 바꿔 쓴다.
+	 */
+	record Reusable(String ilgan, String template) {
+
+		String renderFor(String name) {
+			return render(template, name);
+		}
+	}
+
+	private record HotEntry(String fingerprint, Reusable reusable, LocalDateTime createdAt) {
+
+	}
+}
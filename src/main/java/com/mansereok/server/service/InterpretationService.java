@@ -2,6 +2,8 @@ package com.mansereok.server.service;
 
 import com.mansereok.server.entity.PersonalInfo;
 import com.mansereok.server.repository.PersonalInfoRepository;
+import com.mansereok.server.service.concurrent.FanOutExecutor;
+import com.mansereok.server.service.concurrent.FanOutScope;
 import com.mansereok.server.service.request.CompatibilityAnalysisRequest;
 import com.mansereok.server.service.request.ManseryeokCreateRequest;
 import com.mansereok.server.service.response.ChartCreateResponse;
@@ -12,9 +14,11 @@ import com.mansereok.server.service.response.ManseryeokInterpretationResponse;
 import com.mansereok.server.service.response.OhaengCreateResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @RequiredArgsConstructor
@@ -23,17 +27,21 @@ public class InterpretationService {
 
 	private final PersonalInfoRepository personalInfoRepository;
 
-	private final PostellerService postellerService;
+	private final SajuResponseService sajuResponseService;
+	private final FanOutExecutor fanOutExecutor;
 
 	private final GeminiApiClient geminiApiClient;
 	private final GptApiClient gptApiClient;
+	private final Gpt5StreamClient gpt5StreamClient;
 
 	public ManseryeokInterpretationResponse createInterpretation(ManseryeokCreateRequest request) {
-		PersonalInfo savedPersonalInfo = save(request);
+		Prepared prepared = prepare(request);
+		PersonalInfo savedPersonalInfo = prepared.personalInfo();
+		SajuResponses saju = prepared.saju();
 
-		DaeunCreateResponse daeunResponse = postellerService.getDaeun(request);// 대운 API 호출
-		ChartCreateResponse chartResponse = postellerService.getChart(request);// 사주 기본 차트 API 호출
-		OhaengCreateResponse ohaengResponse = postellerService.getOhaeng(request);// 오행/십성 API 호출
+		DaeunCreateResponse daeunResponse = saju.daeun();// 대운
+		ChartCreateResponse chartResponse = saju.chart();// 사주 기본 차트
+		OhaengCreateResponse ohaengResponse = saju.ohaeng();// 오행/십성 점수
 
 //		log.info("🚀GEMINI 해석 시작");
 //		String interpretation = geminiApiClient.interpret(
@@ -49,24 +57,57 @@ public class InterpretationService {
 			ohaengResponse,
 			request);
 
-		// 일간.. 일주의 천간 + 일주의 오행
-		// 1. 일주 객체 가져오기
-		Pillar dayPillar = chartResponse.getData().getSajuChart().getDayPillar();
-
-		// 2. 일간(천간)의 '이름'과 '오행'의 '이름'을 추출
-		// Pillar -> 천간 -> 오행 -> 이름
-		String cheonganName = dayPillar.getCheongan().getName(); // "임"
-		String ohaengName = dayPillar.getCheongan().getOhaeng().getName(); // "수"
-
-		String ilgan = cheonganName + ohaengName;
-
 		return ManseryeokInterpretationResponse.builder()
 			.personalInfo(savedPersonalInfo)
-			.ilgan(ilgan)
+			.ilgan(ilgan(chartResponse))
 			.interpretation(interpretation)
 			.build();
 	}
 
+	/**
+	 * {@link #createInterpretation} 의 스트리밍 버전. 개인정보 저장과 사주 데이터 조회까지는 같고,
+	 * GPT 해석은 조각(delta)마다 바로 보낸 뒤 끝나면 전체 응답(done)을 보낸다.
+	 */
+	public SseEmitter createInterpretationStream(ManseryeokCreateRequest request) {
+		Prepared prepared = prepare(request);
+		SajuResponses saju = prepared.saju();
+		String ilgan = ilgan(saju.chart());
+
+		log.info("🚀 GPT 해석 스트리밍 시작");
+		return gpt5StreamClient.stream(
+			gptApiClient.createStreamingRequest(saju.daeun(), saju.chart(), saju.ohaeng(), request),
+			interpretation -> ManseryeokInterpretationResponse.builder()
+				.personalInfo(prepared.personalInfo())
+				.ilgan(ilgan)
+				.interpretation(interpretation)
+				.build());
+	}
+
+	/**
+	 * 개인정보 저장과 사주 데이터 조회를 동시에 실행
+	 */
+	private Prepared prepare(ManseryeokCreateRequest request) {
+		try (FanOutScope scope = fanOutExecutor.open()) {
+			Supplier<PersonalInfo> saved = scope.fork(() -> save(request));
+			Supplier<SajuResponses> sajuResponses = scope.fork(() -> sajuResponseService.get(request));
+			scope.join();
+			return new Prepared(saved.get(), sajuResponses.get());
+		}
+	}
+
+	/**
+	 * 일간.. 일주의 천간 + 일주의 오행 (예: "임" + "수" -> "임수")
+	 */
+	private static String ilgan(ChartCreateResponse chartResponse) {
+		// Pillar -> 천간 -> 오행 -> 이름
+		Pillar dayPillar = chartResponse.getData().getSajuChart().getDayPillar();
+		return dayPillar.getCheongan().getName() + dayPillar.getCheongan().getOhaeng().getName();
+	}
+
+	private record Prepared(PersonalInfo personalInfo, SajuResponses saju) {
+
+	}
+
 	private PersonalInfo save(ManseryeokCreateRequest request) {
 		PersonalInfo personalInfo = PersonalInfo.from(request);
 		return personalInfoRepository.save(personalInfo);
@@ -77,19 +118,32 @@ public class InterpretationService {
 		log.info("🚀 궁합 분석 시작: {} & {}", request.getPerson1().getName(),
 			request.getPerson2().getName());
 
-		// 두 사람의 개별 만세력 데이터 수집
-		PersonalInfo person1Info = save(request.getPerson1());
-		PersonalInfo person2Info = save(request.getPerson2());
+		// 두 사람의 개인정보 저장과 만세력 데이터 수집을 동시에 실행
+		PersonalInfo person1Info;
+		PersonalInfo person2Info;
+		SajuResponses person1;
+		SajuResponses person2;
+		try (FanOutScope scope = fanOutExecutor.open()) {
+			Supplier<PersonalInfo> saved1 = scope.fork(() -> save(request.getPerson1()));
+			Supplier<PersonalInfo> saved2 = scope.fork(() -> save(request.getPerson2()));
+			Supplier<SajuResponses> saju1 = scope.fork(() -> sajuResponseService.get(request.getPerson1()));
+			Supplier<SajuResponses> saju2 = scope.fork(() -> sajuResponseService.get(request.getPerson2()));
+			scope.join();
+			person1Info = saved1.get();
+			person2Info = saved2.get();
+			person1 = saju1.get();
+			person2 = saju2.get();
+		}
 
 		// Person 1 데이터
-		DaeunCreateResponse person1Daeun = postellerService.getDaeun(request.getPerson1());
-		ChartCreateResponse person1Chart = postellerService.getChart(request.getPerson1());
-		OhaengCreateResponse person1Ohaeng = postellerService.getOhaeng(request.getPerson1());
+		DaeunCreateResponse person1Daeun = person1.daeun();
+		ChartCreateResponse person1Chart = person1.chart();
+		OhaengCreateResponse person1Ohaeng = person1.ohaeng();
 
 		// Person 2 데이터
-		DaeunCreateResponse person2Daeun = postellerService.getDaeun(request.getPerson2());
-		ChartCreateResponse person2Chart = postellerService.getChart(request.getPerson2());
-		OhaengCreateResponse person2Ohaeng = postellerService.getOhaeng(request.getPerson2());
+		DaeunCreateResponse person2Daeun = person2.daeun();
+		ChartCreateResponse person2Chart = person2.chart();
+		OhaengCreateResponse person2Ohaeng = person2.ohaeng();
 
 		// 궁합 분석 프롬프트 생성 및 AI 분석 실행
 		log.info("🚀 GPT 궁합 해석 시작");
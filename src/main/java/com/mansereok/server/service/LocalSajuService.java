@@ -0,0 +1,86 @@
+package com.mansereok.server.service;
+
+import com.mansereok.server.service.request.ManseryeokCalculationRequest;
+import com.mansereok.server.service.request.ManseryeokCreateRequest;
+import com.mansereok.server.service.response.ChartCreateResponse;
+import com.mansereok.server.service.response.DaeunCreateResponse;
+import com.mansereok.server.service.response.OhaengCreateResponse;
+import com.mansereok.server.service.saju.ChartEngine;
+import com.mansereok.server.service.saju.DaeunEngine;
+import com.mansereok.server.service.saju.OhaengEngine;
+import com.mansereok.server.service.saju.SajuChart;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 포스텔러 API 와 같은 형태의 응답을 서버 안에서 계산한다 ({@link PostellerService} 대체).
+ * 명식은 {@link ManseCalculationService} 로 구하고, 각 응답은 saju 패키지의 엔진이 만든다.
+ * 요청의 자정 보정(midnightAdjust)과 출생지(locationId)는 계산에 쓰지 않는다 ({@link ManseryeokCalculationRequest#from}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LocalSajuService {
+
+	private static final int STATUS_OK = 200;
+
+	private final ManseCalculationService manseCalculationService;
+	private final DaeunEngine daeunEngine;
+	private final ChartEngine chartEngine;
+	private final OhaengEngine ohaengEngine;
+
+	public ChartCreateResponse getChart(ManseryeokCreateRequest request) {
+		log.info("로컬 사주 차트 계산, name={}", request.getName());
+		return chart(calculateChart(request), request);
+	}
+
+	public DaeunCreateResponse getDaeun(ManseryeokCreateRequest request) {
+		log.info("로컬 대운 계산, name={}", request.getName());
+		return daeun(calculateChart(request));
+	}
+
+	public OhaengCreateResponse getOhaeng(ManseryeokCreateRequest request) {
+		log.info("로컬 오행/십성 점수 계산, name={}", request.getName());
+		return ohaeng(calculateChart(request));
+	}
+
+	/**
+	 * 대운, 기본 차트, 오행/십성을 한 번 계산한 명식으로 함께 만든다.
+	 */
+	public SajuResponses getAll(ManseryeokCreateRequest request) {
+		log.info("로컬 사주 데이터 계산, name={}", request.getName());
+		SajuChart chart = calculateChart(request);
+		return new SajuResponses(daeun(chart), chart(chart, request), ohaeng(chart));
+	}
+
+	private SajuChart calculateChart(ManseryeokCreateRequest request) {
+		if (request.isMidnightAdjust()) {
+			log.info("로컬 계산은 자정 보정(midnightAdjust)을 적용하지 않음, 자시 처리는 서버 설정을 따름: name={}",
+				request.getName());
+		}
+		return manseCalculationService.calculateChart(ManseryeokCalculationRequest.from(request));
+	}
+
+	private ChartCreateResponse chart(SajuChart chart, ManseryeokCreateRequest request) {
+		ChartCreateResponse response = new ChartCreateResponse();
+		response.setStatus(STATUS_OK);
+		response.setData(chartEngine.create(chart));
+		response.getData().getProfile().setLocation(request.getLocationName());
+		return response;
+	}
+
+	private DaeunCreateResponse daeun(SajuChart chart) {
+		DaeunCreateResponse response = new DaeunCreateResponse();
+		response.setStatus(STATUS_OK);
+		response.setData(daeunEngine.create(chart));
+		return response;
+	}
+
+	private OhaengCreateResponse ohaeng(SajuChart chart) {
+		OhaengCreateResponse response = new OhaengCreateResponse();
+		response.setStatus(STATUS_OK);
+		response.setData(ohaengEngine.create(chart));
+		return response;
+	}
+}
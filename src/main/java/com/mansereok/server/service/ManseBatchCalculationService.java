@@ -0,0 +1,128 @@
+package com.mansereok.server.service;
+
+import com.mansereok.server.service.calendar.CalendarDay;
+import com.mansereok.server.service.request.ManseryeokCalculationRequest;
+import com.mansereok.server.service.response.ManseryeokBatchCalculationResponse;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 여러 건의 만세력을 한 번에 계산한다.
+ * <p>
+ * 모든 요청의 날짜를 먼저 한 번에 조회한 뒤, 크기가 제한된 전용 {@link ForkJoinPool} 에서 건별 계산을 나눠 실행한다.
+ * 건별 오류는 해당 건의 결과로만 보고하고 나머지 건은 계속 계산한다.
+ */
+@Service
+@Slf4j
+public class ManseBatchCalculationService {
+
+	private final ManseCalculationService manseCalculationService;
+	private final ForkJoinPool pool;
+	private final int maxSize;
+
+	public ManseBatchCalculationService(ManseCalculationService manseCalculationService,
+		@Value("${manse.batch.parallelism:0}") int parallelism,
+		@Value("${manse.batch.max-size:5000}") int maxSize) {
+		this.manseCalculationService = manseCalculationService;
+		this.pool = new ForkJoinPool(
+			parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		this.maxSize = maxSize;
+	}
+
+	public ManseryeokBatchCalculationResponse calculate(List<ManseryeokCalculationRequest> requests) {
+		if (requests == null || requests.isEmpty()) {
+			throw new RuntimeException("계산할 요청이 없습니다.");
+		}
+		if (requests.size() > maxSize) {
+			throw new RuntimeException("한 번에 계산할 수 있는 요청은 최대 " + maxSize + "건입니다.");
+		}
+
+		long startedAt = System.nanoTime();
+
+		// 1. 모든 요청의 날짜를 한 번에 조회
+		Map<LocalDate, CalendarDay> resolved = manseCalculationService.resolveCalendarDays(requests);
+
+		// 2. 전용 풀에서 건별 계산
+		List<ManseryeokBatchCalculationResponse.Item> results;
+		try {
+			results = pool.submit(() -> IntStream.range(0, requests.size())
+				.parallel()
+				.mapToObj(i -> calculateItem(i, requests.get(i), resolved))
+				.toList()
+			).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("만세력 일괄 계산이 중단되었습니다.");
+		} catch (ExecutionException e) {
+			throw new RuntimeException("만세력 일괄 계산 중 오류가 발생했습니다: " + e.getCause().getMessage());
+		}
+
+		int succeeded = (int) results.stream().filter(ManseryeokBatchCalculationResponse.Item::isSuccess)
+			.count();
+
+		log.info("만세력 일괄 계산 완료: total={}, succeeded={}, failed={}, resolvedDays={}, elapsedMs={}",
+			results.size(), succeeded, results.size() - succeeded, resolved.size(),
+			(System.nanoTime() - startedAt) / 1_000_000);
+
+		return ManseryeokBatchCalculationResponse.builder()
+			.total(results.size())
+			.succeeded(succeeded)
+			.failed(results.size() - succeeded)
+			.results(results)
+			.build();
+	}
+
+	private ManseryeokBatchCalculationResponse.Item calculateItem(int index,
+		ManseryeokCalculationRequest request, Map<LocalDate, CalendarDay> resolved) {
+		String invalid = validate(request);
+		if (invalid != null) {
+			return failure(index, invalid);
+		}
+
+		try {
+			ManseryeokCalculationResponse response = manseCalculationService.calculate(request, resolved);
+			return ManseryeokBatchCalculationResponse.Item.builder()
+				.index(index)
+				.success(true)
+				.result(response)
+				.build();
+		} catch (RuntimeException e) {
+			return failure(index, e.getMessage());
+		}
+	}
+
+	private String validate(ManseryeokCalculationRequest request) {
+		if (request == null) {
+			return "요청이 비어 있습니다.";
+		}
+		if (request.getSolarDate() == null) {
+			return "생년월일(solarDate)이 없습니다.";
+		}
+		if (request.getIsLunar() == null) {
+			return "양력/음력 구분(isLunar)이 없습니다.";
+		}
+		return null;
+	}
+
+	private ManseryeokBatchCalculationResponse.Item failure(int index, String error) {
+		return ManseryeokBatchCalculationResponse.Item.builder()
+			.index(index)
+			.success(false)
+			.error(error)
+			.build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdown();
+	}
+}
@@ -0,0 +1,51 @@
+package com.mansereok.server.service;
+
+import com.mansereok.server.service.ManseCalculationService.ChartCore;
+import com.mansereok.server.service.cache.StripedLruCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만세력 계산 결과 중 성별과 무관한 부분(삼주, 시주)의 캐시.
+ * <p>
+ * 키는 {@link ManseCalculationService} 가 (입력 날짜, 양/음력, 윤달, 시진) 으로 만든다.
+ * manse.calculation.cache.enabled=false 이면 항상 미스로 동작한다.
+ * 메트릭: manse.calculation.cache.gets{result=hit|miss}, .evictions, .size, .hit.ratio
+ */
+@Component
+@Slf4j
+class ManseCalculationCache {
+
+	private final StripedLruCache<ChartCore> cache;
+
+	ManseCalculationCache(
+		@Value("${manse.calculation.cache.enabled:true}") boolean enabled,
+		@Value("${manse.calculation.cache.max-size:100000}") int maxSize,
+		@Value("${manse.calculation.cache.stripes:16}") int stripes,
+		MeterRegistry meterRegistry) {
+		if (enabled) {
+			this.cache = new StripedLruCache<>("manse.calculation.cache", maxSize, stripes);
+			cache.bindTo(meterRegistry);
+			log.info("만세력 계산 캐시 사용: maxSize={}, stripes={}", maxSize, stripes);
+		} else {
+			this.cache = null;
+			log.info("만세력 계산 캐시 사용 안 함");
+		}
+	}
+
+	boolean isEnabled() {
+		return cache != null;
+	}
+
+	ChartCore get(long key) {
+		return cache != null ? cache.get(key) : null;
+	}
+
+	void put(long key, ChartCore value) {
+		if (cache != null) {
+			cache.put(key, value);
+		}
+	}
+}
@@ -2,15 +2,37 @@ package com.mansereok.server.service;
 
 import com.mansereok.server.entity.Manse;
 import com.mansereok.server.repository.ManseRepository;
+import com.mansereok.server.service.calendar.CalendarDay;
+import com.mansereok.server.service.calendar.LunarCalendarEngine;
+import com.mansereok.server.service.calendar.ManseCalendarIndex;
+import com.mansereok.server.service.calendar.SexagenaryDay;
+import com.mansereok.server.service.calendar.SolarTermEngine;
+import com.mansereok.server.service.calendar.SolarTermIndex;
 import com.mansereok.server.service.request.ManseryeokCalculationRequest;
 import com.mansereok.server.service.response.ManseryeokCalculationResponse;
+import com.mansereok.server.service.saju.Branch;
+import com.mansereok.server.service.saju.ChartKey;
+import com.mansereok.server.service.saju.Ganji;
+import com.mansereok.server.service.saju.PillarElements;
+import com.mansereok.server.service.saju.SajuChart;
+import com.mansereok.server.service.saju.SajuTables;
+import com.mansereok.server.service.saju.Stem;
+import com.mansereok.server.service.saju.YinYang;
+import com.mansereok.server.service.saju.ZiHourPolicy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,62 +40,62 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class ManseCalculationService {
 
-	private final ManseRepository manseRepository;
-	private final SajuDataService sajuDataService;
-
-	public ManseryeokCalculationResponse calculate(ManseryeokCalculationRequest request) {
-		try {
-			log.info("만세력 계산 시작: solarDate={}, gender={}, isLunar={}",
-				request.getSolarDate(), request.getGender(), request.getIsLunar());
-
-			// 1. 생년월일을 삼주(양력)로 변환
-			SamjuResult samju = convertBirthToSamju(
-				request.getIsLunar() ? "LUNAR" : "SOLAR",
-				request.getSolarDate(),
-				request.getSolarTime()
-			);
+	// 캐시 키의 시간 부분
+	private static final int LATE_ZI_SLOT = 12;   // 23:30 이후 (야자시)
+	private static final int EXACT_TIME = 1 << 17; // 절입일: 출생시각 초 단위
 
-			// 2. 생년월일시(양력) 생성
-			LocalDateTime solarDatetime = LocalDateTime.of(
-				samju.getSolarDate(),
-				request.getSolarTime()
-			);
+	// 절입일이라 시진 키 대신 출생시각 키를 봐야 함을 나타내는 표시
+	private static final ChartCore SEASON_DAY = new ChartCore(null, null);
 
-			// 3. 순행(true), 역행(false) 판단
-			boolean direction = isRightDirection(request.getGender(), samju.getYearSky());
+	private final ManseRepository manseRepository;
+	private final ManseCalendarIndex manseCalendarIndex;
+	private final SolarTermIndex solarTermIndex;
+	private final SolarTermEngine solarTermEngine;
+	private final LunarCalendarEngine lunarCalendarEngine;
+	private final ManseCalculationCache manseCalculationCache;
 
-			// 4. 절입시간 가져오기
-			LocalDateTime seasonTime = getSeasonStartTime(direction, solarDatetime);
+	@Value("${manse.calculation.zi-hour-policy:UNIFIED}")
+	private ZiHourPolicy ziHourPolicy = ZiHourPolicy.UNIFIED;
 
-			// 5. 대운수 및 대운 시작년 가져오기
-			BigFortuneResult bigFortune = getBigFortuneNumber(direction, seasonTime, solarDatetime);
+	public ManseryeokCalculationResponse calculate(ManseryeokCalculationRequest request) {
+		return calculate(request, Map.of());
+	}
 
-			// 6. 시주 가져오기
-			TimePillarResult timePillar = getTimePillar(samju.getDaySky(), request.getSolarTime());
+	/**
+	 * 미리 조회해 둔 날짜별 만세력({@link #resolveCalendarDays})을 우선 사용해 계산한다.
+	 * 맵에 없는 날짜는 평소처럼 인덱스, DB, 절기 계산 순으로 조회한다.
+	 */
+	ManseryeokCalculationResponse calculate(ManseryeokCalculationRequest request,
+		Map<LocalDate, CalendarDay> resolved) {
+		try {
+			SajuChart chart = calculateChart(request, resolved);
+			Stem dayStem = chart.dayStem();
+			Ganji timePillar = chart.time();
 
-			// 7. 응답 생성
 			return ManseryeokCalculationResponse.builder()
 				.input(ManseryeokCalculationResponse.InputInfo.builder()
 					.solarDate(request.getSolarDate())
 					.solarTime(request.getSolarTime())
 					.gender(request.getGender())
 					.isLunar(request.getIsLunar())
+					.isLeapMonth(request.getIsLeapMonth())
 					.build())
 				.saju(ManseryeokCalculationResponse.SajuInfo.builder()
-					.bigFortuneNumber(bigFortune.getBigFortuneNumber())
-					.bigFortuneStartYear(bigFortune.getBigFortuneStart())
-					.seasonStartTime(samju.getSeasonStartTime())
-					.yearSky(formatChinese(samju.getYearSky(), samju.getDaySky(), false))
-					.yearGround(formatChinese(samju.getYearGround(), samju.getDaySky(), true))
-					.monthSky(formatChinese(samju.getMonthSky(), samju.getDaySky(), false))
-					.monthGround(formatChinese(samju.getMonthGround(), samju.getDaySky(), true))
-					.daySky(formatChinese(samju.getDaySky(), samju.getDaySky(), false))
-					.dayGround(formatChinese(samju.getDayGround(), samju.getDaySky(), true))
-					.timeSky(timePillar.getTimeSky() != null ?
-						formatChinese(timePillar.getTimeSky(), samju.getDaySky(), false) : null)
-					.timeGround(timePillar.getTimeGround() != null ?
-						formatChinese(timePillar.getTimeGround(), samju.getDaySky(), true) : null)
+					.bigFortuneNumber(chart.bigFortuneNumber())
+					.bigFortuneStartYear(chart.bigFortuneStartYear())
+					.seasonStartTime(chart.seasonStartTime())
+					.yearSky(PillarElements.of(chart.year().stem(), dayStem))
+					.yearGround(PillarElements.of(chart.year().branch(), dayStem))
+					.monthSky(PillarElements.of(chart.month().stem(), dayStem))
+					.monthGround(PillarElements.of(chart.month().branch(), dayStem))
+					.daySky(PillarElements.of(chart.day().stem(), dayStem))
+					.dayGround(PillarElements.of(chart.day().branch(), dayStem))
+					.timeSky(timePillar != null ? PillarElements.of(timePillar.stem(), dayStem) : null)
+					.timeGround(timePillar != null ?
+						PillarElements.of(timePillar.branch(), dayStem) : null)
+					.timeCandidates(request.isTimeUnknown() ? PillarElements.timeCandidates(dayStem) : null)
 					.build())
+				.chartKey(ChartKey.of(chart, request.getGender()))
 				.build();
 
 		} catch (Exception e) {
@@ -82,90 +104,303 @@ public class ManseCalculationService {
 		}
 	}
 
+	/**
+	 * 사주 명식 계산 (삼주, 시주, 대운수). 로컬 대운/차트/오행 엔진의 입력으로 쓴다.
+	 */
+	public SajuChart calculateChart(ManseryeokCalculationRequest request) {
+		return calculateChart(request, Map.of());
+	}
+
+	private SajuChart calculateChart(ManseryeokCalculationRequest request,
+		Map<LocalDate, CalendarDay> resolved) {
+		log.debug("만세력 계산 시작: solarDate={}, gender={}, isLunar={}",
+			request.getSolarDate(), request.getGender(), request.getIsLunar());
+
+		// 1. 생년월일을 삼주(양력)와 시주로 변환 (캐시)
+		ChartCore chart = getChartCore(request, resolved);
+		SamjuResult samju = chart.samju();
+
+		// 2. 생년월일시(양력) 생성
+		LocalDateTime solarDatetime = LocalDateTime.of(
+			samju.getSolarDate(),
+			request.getSolarTime()
+		);
+
+		// 3. 순행(true), 역행(false) 판단
+		boolean direction = isRightDirection(request.getGender(), samju.getYear().stem());
+
+		// 4. 절입시간 가져오기
+		LocalDateTime seasonTime = getSeasonStartTime(direction, solarDatetime);
+
+		// 5. 대운수 및 대운 시작년 가져오기
+		BigFortuneResult bigFortune = getBigFortuneNumber(direction, seasonTime, solarDatetime);
+
+		// 6. 시주 (출생시간을 모르면 없음)
+		boolean timeUnknown = request.isTimeUnknown();
+
+		return new SajuChart(
+			samju.getSolarDate(),
+			samju.getBirthDate(),
+			timeUnknown ? null : request.getSolarTime(),
+			samju.getSeasonStartTime(),
+			samju.getYear(),
+			samju.getMonth(),
+			samju.getDay(),
+			timeUnknown ? null : chart.timePillar(),
+			direction,
+			bigFortune.getBigFortuneNumber(),
+			bigFortune.getBigFortuneStart()
+		);
+	}
+
+	/**
+	 * 삼주와 시주를 캐시에서 찾고, 없으면 계산해 넣는다.
+	 * <p>
+	 * 삼주와 시주는 성별과 무관하고 출생시간은 시진 단위로만 영향을 주므로 키는 시진까지만 본다.
+	 * 다만 절입일에는 절입시간 전후로 삼주가 달라지므로, 시진 키에는 {@link #SEASON_DAY} 표시만 남기고
+	 * 실제 결과는 출생시각(초 단위) 키로 보관한다. 대운은 출생시각과 성별에 따라 매번 다시 계산한다.
+	 */
+	private ChartCore getChartCore(ManseryeokCalculationRequest request,
+		Map<LocalDate, CalendarDay> resolved) {
+		if (!manseCalculationCache.isEnabled()) {
+			return computeChartCore(request, resolved);
+		}
+
+		LocalTime time = request.getSolarTime();
+		long slotKey = chartKey(request, timeSlot(time));
+		ChartCore chart = manseCalculationCache.get(slotKey);
+		if (chart != null && chart != SEASON_DAY) {
+			return chart;
+		}
+
+		long exactKey = chartKey(request, EXACT_TIME | time.toSecondOfDay());
+		if (chart == SEASON_DAY) {
+			chart = manseCalculationCache.get(exactKey);
+			if (chart != null) {
+				return chart;
+			}
+		}
+
+		chart = computeChartCore(request, resolved);
+		if (chart.samju().getSeasonStartTime() != null) {
+			manseCalculationCache.put(slotKey, SEASON_DAY);
+			manseCalculationCache.put(exactKey, chart);
+		} else {
+			manseCalculationCache.put(slotKey, chart);
+		}
+		return chart;
+	}
+
+	private ChartCore computeChartCore(ManseryeokCalculationRequest request,
+		Map<LocalDate, CalendarDay> resolved) {
+		SamjuResult samju = convertBirthToSamju(
+			request.getIsLunar() ? "LUNAR" : "SOLAR",
+			request.getSolarDate(),
+			Boolean.TRUE.equals(request.getIsLeapMonth()),
+			request.getSolarTime(),
+			resolved
+		);
+		return new ChartCore(samju, getTimePillar(samju.getDay().stem(), request.getSolarTime()));
+	}
+
+	/**
+	 * 캐시 키: 입력 날짜 epoch day | 음력 | 윤달 | 시간 키 (시진 번호 또는 EXACT_TIME | 초)
+	 */
+	private static long chartKey(ManseryeokCalculationRequest request, int timeKey) {
+		boolean lunar = request.getIsLunar();
+		boolean leap = lunar && Boolean.TRUE.equals(request.getIsLeapMonth());
+		return request.getSolarDate().toEpochDay() << 20
+			| (lunar ? 1L << 19 : 0)
+			| (leap ? 1L << 18 : 0)
+			| timeKey;
+	}
+
+	/**
+	 * 삼주/시주 계산 결과가 같은 시간 구간 번호 (시지). 야자시는 자시와 따로 센다.
+	 */
+	private static int timeSlot(LocalTime time) {
+		return SajuTables.isLateZi(time) ? LATE_ZI_SLOT : SajuTables.timeBranch(time);
+	}
+
+	/**
+	 * 야자시(23:30 이후)에 태어나 날짜를 다음날로 보는지 (통자시)
+	 */
+	private boolean isNextDayZi(LocalTime time) {
+		return time != null && ziHourPolicy == ZiHourPolicy.UNIFIED && SajuTables.isLateZi(time);
+	}
+
 	/**
 	 * 생년월일을 삼주로 변환
 	 */
 	private SamjuResult convertBirthToSamju(String birthdayType, LocalDate birthday,
-		LocalTime time) {
+		boolean leapMonth, LocalTime time, Map<LocalDate, CalendarDay> resolved) {
 		LocalTime birthtime = time != null ? time : LocalTime.of(12, 0);
 
+		log.debug("만세력 데이터 조회: birthdayType={}, birthday={}, leapMonth={}", birthdayType,
+			birthday, leapMonth);
+
+		// 음력은 먼저 양력 날짜로 변환
+		LocalDate solarBirthday = birthdayType.equals("SOLAR") ? birthday :
+			toSolarDate(birthday, leapMonth)
+				.orElseThrow(() -> new RuntimeException("해당 음력 날짜의 만세력 데이터를 찾을 수 없습니다."));
+
 		// 23:30 ~ 23:59 자시에 태어난 경우 다음날로 처리
-		if (time != null &&
-			((time.isAfter(LocalTime.of(23, 30)) || time.equals(LocalTime.of(23, 30))) &&
-				time.isBefore(LocalTime.of(23, 59, 59)))) {
-			birthday = birthday.plusDays(1);
-			log.info("자시 처리: 날짜를 다음날로 변경 -> {}", birthday);
+		LocalDate birthDate = solarBirthday;
+		if (isNextDayZi(time)) {
+			solarBirthday = solarBirthday.plusDays(1);
+			log.debug("자시 처리: 날짜를 다음날로 변경 -> {}", solarBirthday);
 		}
 
-		log.info("만세력 데이터 조회: birthdayType={}, birthday={}", birthdayType, birthday);
-
-		Manse samju = birthdayType.equals("SOLAR") ?
-			manseRepository.findBySolarDate(birthday)
-				.orElseThrow(() -> new RuntimeException("해당 양력 날짜의 만세력 데이터를 찾을 수 없습니다.")) :
-			manseRepository.findByLunarDate(birthday)
-				.orElseThrow(() -> new RuntimeException("해당 음력 날짜의 만세력 데이터를 찾을 수 없습니다."));
+		CalendarDay samju = findBySolarDate(solarBirthday, resolved)
+			.orElseThrow(() -> new RuntimeException("해당 양력 날짜의 만세력 데이터를 찾을 수 없습니다."));
 
 		// 절입일인 경우 처리
-		if (samju.getSeason() != null && !samju.getSeason().isEmpty()) {
-			log.info("절입일 처리: season={}, seasonStartTime={}", samju.getSeason(),
-				samju.getSeasonStartTime());
+		if (samju.hasSeason()) {
+			log.debug("절입일 처리: season={}, seasonStartTime={}", samju.season(),
+				samju.seasonStartTime());
 
-			LocalDateTime seasonTime = samju.getSeasonStartTime();
-			LocalDateTime solarDatetime = LocalDateTime.of(birthday, birthtime);
+			LocalDateTime seasonTime = samju.seasonStartTime();
+			LocalDateTime solarDatetime = LocalDateTime.of(solarBirthday, birthtime);
 
 			if (solarDatetime.isBefore(seasonTime)) {
-				log.info("절입시간 이전 출생: 이전 날짜 만세력 사용");
-				Manse previousManse = manseRepository.findBySolarDate(birthday.minusDays(1))
+				log.debug("절입시간 이전 출생: 이전 날짜 만세력 사용");
+				CalendarDay previousManse = findBySolarDate(solarBirthday.minusDays(1), resolved)
 					.orElseThrow(() -> new RuntimeException("이전 날짜의 만세력 데이터를 찾을 수 없습니다"));
 
-				return SamjuResult.builder()
-					.solarDate(samju.getSolarDate())
-					.yearSky(previousManse.getYearSky())
-					.yearGround(previousManse.getYearGround())
-					.monthSky(previousManse.getMonthSky())
-					.monthGround(previousManse.getMonthGround())
-					.daySky(previousManse.getDaySky())
-					.dayGround(previousManse.getDayGround())
-					.seasonStartTime(samju.getSeasonStartTime() != null ?
-						samju.getSeasonStartTime().toString() : null)
-					.build();
+				return toSamjuResult(samju, previousManse, birthDate);
 			}
 		}
 
+		return toSamjuResult(samju, samju, birthDate);
+	}
+
+	/**
+	 * 음력 날짜를 양력으로 변환. 윤달 여부까지 구분하며, 테이블에 없으면 음력 계산으로 변환한다.
+	 */
+	private Optional<LocalDate> toSolarDate(LocalDate lunarDate, boolean leapMonth) {
+		Optional<CalendarDay> day = manseCalendarIndex.findByLunarDate(lunarDate, leapMonth);
+		if (day.isPresent()) {
+			return day.map(CalendarDay::solarDate);
+		}
+
+		log.debug("만세력 메모리 인덱스 미스, 음력 계산으로 변환: lunarDate={}, leapMonth={}", lunarDate,
+			leapMonth);
+		return lunarCalendarEngine.toSolar(lunarDate, leapMonth);
+	}
+
+	/**
+	 * 여러 요청이 조회할 양력 날짜(출생일과 앞뒤 하루)를 한 번에 모아 만세력을 조회한다.
+	 * 메모리 인덱스에 없는 날짜는 DB 를 한 번만 조회하고, 그래도 없으면 절기 계산으로 채운다.
+	 * 날짜를 알 수 없는 요청(잘못된 음력 날짜, 계산 범위 밖의 날짜 등)은 건너뛰며, 계산 단계에서 건별 오류로 보고된다.
+	 */
+	Map<LocalDate, CalendarDay> resolveCalendarDays(List<ManseryeokCalculationRequest> requests) {
+		Set<LocalDate> dates = new HashSet<>();
+		for (ManseryeokCalculationRequest request : requests) {
+			if (request == null || request.getSolarDate() == null) {
+				continue;
+			}
+			Optional<LocalDate> solarDate;
+			try {
+				solarDate = Boolean.TRUE.equals(request.getIsLunar())
+					? toSolarDate(request.getSolarDate(), Boolean.TRUE.equals(request.getIsLeapMonth()))
+					: Optional.of(request.getSolarDate());
+			} catch (RuntimeException e) {
+				log.info("만세력 일괄 조회 제외 (음력 변환 불가): solarDate={}, message={}",
+					request.getSolarDate(), e.getMessage());
+				continue;
+			}
+			solarDate.ifPresent(date -> {
+				dates.add(date.minusDays(1));
+				dates.add(date);
+				dates.add(date.plusDays(1)); // 자시 처리
+			});
+		}
+
+		Map<LocalDate, CalendarDay> resolved = new HashMap<>(dates.size() * 2);
+		List<LocalDate> missing = new ArrayList<>();
+		for (LocalDate date : dates) {
+			manseCalendarIndex.findBySolarDate(date)
+				.ifPresentOrElse(day -> resolved.put(date, day), () -> missing.add(date));
+		}
+
+		if (!missing.isEmpty()) {
+			log.info("만세력 메모리 인덱스 미스, DB 일괄 조회: count={}", missing.size());
+			for (Manse manse : manseRepository.findBySolarDateIn(missing)) {
+				resolved.put(manse.getSolarDate(), CalendarDay.from(manse));
+			}
+			for (LocalDate date : missing) {
+				if (resolved.containsKey(date)) {
+					continue;
+				}
+				try {
+					resolved.put(date, solarTermEngine.calendarDay(date));
+				} catch (RuntimeException e) {
+					// 절기 계산 범위 밖. 비워 두면 그 날짜를 쓰는 요청의 계산에서 오류로 보고된다
+					log.info("만세력 일괄 조회 제외 (절기 계산 불가): solarDate={}, message={}", date,
+						e.getMessage());
+				}
+			}
+		}
+
+		return resolved;
+	}
+
+	private Optional<CalendarDay> findBySolarDate(LocalDate solarDate,
+		Map<LocalDate, CalendarDay> resolved) {
+		CalendarDay day = resolved.get(solarDate);
+		return day != null ? Optional.of(day) : findBySolarDate(solarDate);
+	}
+
+	/**
+	 * 양력 날짜의 만세력 조회. 메모리 인덱스를 먼저 보고, 없으면 DB 에서 조회한다.
+	 * 테이블 범위 밖의 날짜는 절기 계산으로 연주/월주를 구한다.
+	 */
+	private Optional<CalendarDay> findBySolarDate(LocalDate solarDate) {
+		Optional<CalendarDay> day = manseCalendarIndex.findBySolarDate(solarDate);
+		if (day.isPresent()) {
+			return day;
+		}
+
+		log.debug("만세력 메모리 인덱스 미스, DB 조회: solarDate={}", solarDate);
+		day = manseRepository.findBySolarDate(solarDate).map(CalendarDay::from);
+		if (day.isPresent()) {
+			return day;
+		}
+
+		log.info("만세력 데이터 없음, 절기 계산으로 대체: solarDate={}", solarDate);
+		return Optional.of(solarTermEngine.calendarDay(solarDate));
+	}
+
+	private SamjuResult toSamjuResult(CalendarDay day, CalendarDay pillars, LocalDate birthDate) {
 		return SamjuResult.builder()
-			.solarDate(samju.getSolarDate())
-			.yearSky(samju.getYearSky())
-			.yearGround(samju.getYearGround())
-			.monthSky(samju.getMonthSky())
-			.monthGround(samju.getMonthGround())
-			.daySky(samju.getDaySky())
-			.dayGround(samju.getDayGround())
-			.seasonStartTime(samju.getSeasonStartTime() != null ?
-				samju.getSeasonStartTime().toString() : null)
+			.solarDate(day.solarDate())
+			.birthDate(birthDate)
+			.year(pillars.yearPillar())
+			.month(pillars.monthPillar())
+			// 일주는 테이블 대신 출생일(자시 처리 반영)로부터 직접 계산한다. 절입 전 출생이라도 연주/월주만 전날 것을 쓴다
+			.day(SexagenaryDay.ganji(day.solarDate()))
+			.seasonStartTime(day.seasonStartTime() != null ?
+				day.seasonStartTime().toString() : null)
 			.build();
 	}
 
 	/**
 	 * 순행(true), 역행(false) 판단 (성별, 연간)
 	 */
-	private boolean isRightDirection(String gender, String yearSky) {
-		String minusPlus = sajuDataService.getMinusPlus().get(yearSky);
-
-		if (minusPlus == null) {
-			throw new RuntimeException("연간 " + yearSky + "의 음양 정보를 찾을 수 없습니다");
-		}
+	private boolean isRightDirection(String gender, Stem yearStem) {
+		YinYang yinYang = yearStem.getYinYang();
 
 		// 남양여음 순행, 남음여양 역행
 		boolean result;
-		if (("MALE".equals(gender) && "양".equals(minusPlus)) ||
-			("FEMALE".equals(gender) && "음".equals(minusPlus))) {
+		if (("MALE".equals(gender) && yinYang == YinYang.YANG) ||
+			("FEMALE".equals(gender) && yinYang == YinYang.YIN)) {
 			result = true; // 순행
 		} else {
 			result = false; // 역행
 		}
 
-		log.info("대운 방향 판단: gender={}, yearSky={}, minusPlus={}, direction={}",
-			gender, yearSky, minusPlus, result ? "순행" : "역행");
+		log.debug("대운 방향 판단: gender={}, yearSky={}, minusPlus={}, direction={}",
+			gender, yearStem.getChinese(), yinYang.getKorean(), result ? "순행" : "역행");
 
 		return result;
 	}
@@ -174,24 +409,36 @@ public class ManseCalculationService {
 	 * 절입 시간 가져오기
 	 */
 	private LocalDateTime getSeasonStartTime(boolean direction, LocalDateTime solarDatetime) {
-		Manse manse;
+		LocalDateTime seasonStartTime = findSeasonStartTimeFromTable(direction, solarDatetime)
+			.orElseGet(() -> {
+				log.info("절입시간 테이블 범위 밖, 절기 계산으로 대체: solarDatetime={}", solarDatetime);
+				return direction ? solarTermEngine.nextJeol(solarDatetime)
+					: solarTermEngine.previousJeol(solarDatetime);
+			});
+
+		log.debug("절입시간 조회 완료: seasonStartTime={}, direction={}",
+			seasonStartTime, direction ? "순행" : "역행");
+
+		return seasonStartTime;
+	}
+
+	private Optional<LocalDateTime> findSeasonStartTimeFromTable(boolean direction,
+		LocalDateTime solarDatetime) {
+		// 인덱스 범위 밖이면 테이블의 앞뒤 절입시간은 실제 앞뒤 절입이 아니다
+		if (solarTermIndex.isLoaded() && !solarTermIndex.covers(solarDatetime)) {
+			return Optional.empty();
+		}
 
 		if (direction) {
 			// 순행: 생년월일 뒤에 오는 절입 시간
-			manse = manseRepository.findFirstBySeasonStartTimeGreaterThanEqualOrderBySolarDateAsc(
-					solarDatetime)
-				.orElseThrow(() -> new RuntimeException("순행 절입 시간을 찾을 수 없습니다"));
-		} else {
-			// 역행: 생년월일 앞에 오는 절입 시간
-			manse = manseRepository.findFirstBySeasonStartTimeLessThanEqualOrderBySolarDateDesc(
-					solarDatetime)
-				.orElseThrow(() -> new RuntimeException("역행 절입 시간을 찾을 수 없습니다"));
+			return solarTermIndex.findNext(solarDatetime)
+				.or(() -> manseRepository.findFirstBySeasonStartTimeGreaterThanEqualOrderBySolarDateAsc(
+					solarDatetime).map(Manse::getSeasonStartTime));
 		}
-
-		log.info("절입시간 조회 완료: seasonStartTime={}, direction={}",
-			manse.getSeasonStartTime(), direction ? "순행" : "역행");
-
-		return manse.getSeasonStartTime();
+		// 역행: 생년월일 앞에 오는 절입 시간
+		return solarTermIndex.findPrevious(solarDatetime)
+			.or(() -> manseRepository.findFirstBySeasonStartTimeLessThanEqualOrderBySolarDateDesc(
+				solarDatetime).map(Manse::getSeasonStartTime));
 	}
 
 	/**
@@ -223,7 +470,7 @@ public class ManseCalculationService {
 
 		int bigFortuneStart = solarDatetime.getYear() + bigFortuneNumber;
 
-		log.info("대운 계산 완료: diffDays={}, bigFortuneNumber={}, bigFortuneStart={}",
+		log.debug("대운 계산 완료: diffDays={}, bigFortuneNumber={}, bigFortuneStart={}",
 			diffDays, bigFortuneNumber, bigFortuneStart);
 
 		return BigFortuneResult.builder()
@@ -233,161 +480,38 @@ public class ManseCalculationService {
 	}
 
 	/**
-	 * 시주 계산하기
+	 * 시주 계산하기. 출생시간이 없으면 null
+	 * <p>
+	 * 시지는 분 단위 표, 시간은 일간 x 시지 표에서 바로 읽는다.
+	 * 야자시/조자시를 구분할 때 야자시는 당일 일주를 유지하므로 시간은 다음날 일간 기준으로 정한다.
 	 */
-	private TimePillarResult getTimePillar(String daySky, LocalTime time) {
+	private Ganji getTimePillar(Stem dayStem, LocalTime time) {
 		if (time == null) {
-			log.info("출생시간이 없어 시주 계산 생략");
-			return TimePillarResult.builder()
-				.timeSky(null)
-				.timeGround(null)
-				.build();
-		}
-
-		String timeKey = getTimeJuIndex(time);
-		if (timeKey == null) {
-			return TimePillarResult.builder()
-				.timeSky(null)
-				.timeGround(null)
-				.build();
-		}
-
-		Map<String, Map<String, String[]>> timeJuData2 = sajuDataService.getTimeJuData2();
-		Map<String, String[]> dayData = timeJuData2.get(daySky);
-
-		if (dayData == null) {
-			throw new RuntimeException("일간 " + daySky + "의 시주 데이터를 찾을 수 없습니다");
-		}
-
-		if (dayData.containsKey(timeKey)) {
-			String[] timeJu = dayData.get(timeKey);
-			log.info("시주 계산 완료: daySky={}, time={}, timeKey={}, timeSky={}, timeGround={}",
-				daySky, time, timeKey, timeJu[0], timeJu[1]);
-
-			return TimePillarResult.builder()
-				.timeSky(timeJu[0])
-				.timeGround(timeJu[1])
-				.build();
-		}
-
-		throw new RuntimeException("시주 계산 실패: daySky=" + daySky + ", timeKey=" + timeKey);
-	}
-
-	private String getTimeJuIndex(LocalTime time) {
-		Map<String, LocalTime[]> timeJuData = sajuDataService.getTimeJuData();
-
-		for (Map.Entry<String, LocalTime[]> entry : timeJuData.entrySet()) {
-			LocalTime[] timeRange = entry.getValue();
-			if (time.compareTo(timeRange[0]) >= 0 && time.compareTo(timeRange[1]) <= 0) {
-				return entry.getKey();
-			}
-		}
-
-		// 자시 특별 처리 (23:30-01:29)
-		if ((time.isAfter(LocalTime.of(23, 30)) || time.equals(LocalTime.of(23, 30))) ||
-			(time.isBefore(LocalTime.of(1, 30)) && time.isAfter(LocalTime.of(0, 0)))) {
-			return "0";
-		}
-
-		return null;
-	}
-
-	/**
-	 * 중국어 간지를 포맷팅된 정보로 변환
-	 */
-	private ManseryeokCalculationResponse.PillarElement formatChinese(String chinese, String daySky,
-		boolean isGround) {
-		Map<String, String> koreanData = sajuDataService.convertChineseToKorean();
-		Map<String, Map<String, String>> tenStarData = sajuDataService.getTenStar();
-		Map<String, String> minusPlusData = sajuDataService.getMinusPlus();
-
-		// daySky 기준으로 십성 데이터 가져오기
-		Map<String, String> tenStar = tenStarData.get(daySky);
-		if (tenStar == null) {
-			throw new RuntimeException("일간 " + daySky + "의 십성 데이터를 찾을 수 없습니다");
-		}
-
-		String tenStarInfo = tenStar.get(chinese);
-		if (tenStarInfo == null) {
-			throw new RuntimeException("간지 " + chinese + "의 십성 정보를 찾을 수 없습니다 (일간: " + daySky + ")");
-		}
-
-		String[] tenStarParts = tenStarInfo.split(",");
-		if (tenStarParts.length != 2) {
-			throw new RuntimeException("십성 정보 형식이 올바르지 않습니다: " + tenStarInfo);
-		}
-
-		ManseryeokCalculationResponse.PillarElement.PillarElementBuilder builder =
-			ManseryeokCalculationResponse.PillarElement.builder()
-				.chinese(chinese)
-				.korean(koreanData.get(chinese))
-				.fiveCircle(tenStarParts[1])  // 오행
-				.fiveCircleColor(getColor(tenStarParts[1]))
-				.tenStar(tenStarParts[0])     // 십성
-				.minusPlus(minusPlusData.get(chinese));
-
-		if (isGround) {
-			builder.jijanggan(getJijangganInfo(chinese));
-		}
-
-		return builder.build();
-	}
-
-	private String getColor(String value) {
-		return switch (value) {
-			case "목" -> "#4CAF50";
-			case "화" -> "#F44336";
-			case "토" -> "#FFD600";
-			case "금" -> "#E0E0E0";
-			case "수" -> "#039BE5";
-			default -> "";
-		};
-	}
-
-	private ManseryeokCalculationResponse.JijangganInfo getJijangganInfo(String jiji) {
-		Map<String, Map<String, Object>> jijangganData = sajuDataService.getJijangan();
-		Map<String, Object> jijiData = jijangganData.get(jiji);
-
-		if (jijiData == null) {
+			log.debug("출생시간이 없어 시주 계산 생략");
 			return null;
 		}
 
-		return ManseryeokCalculationResponse.JijangganInfo.builder()
-			.first(createJijangganElement((Map<String, Object>) jijiData.get("first")))
-			.second(createJijangganElement((Map<String, Object>) jijiData.get("second")))
-			.third(createJijangganElement((Map<String, Object>) jijiData.get("third")))
-			.build();
-	}
+		int timeBranch = SajuTables.timeBranch(time);
+		Stem baseStem = ziHourPolicy == ZiHourPolicy.SPLIT && SajuTables.isLateZi(time)
+			? Stem.of((dayStem.code() + 1) % SajuTables.STEM_COUNT) : dayStem;
+		Ganji timePillar = Ganji.of(Stem.of(SajuTables.timeStem(baseStem.code(), timeBranch)),
+			Branch.of(timeBranch));
+		log.debug("시주 계산 완료: daySky={}, time={}, timeBranch={}, timePillar={}",
+			dayStem.getChinese(), time, timeBranch, timePillar.chinese());
 
-	@SuppressWarnings("unchecked")
-	private ManseryeokCalculationResponse.JijangganElement createJijangganElement(
-		Map<String, Object> elementData) {
-		if (elementData == null) {
-			return null;
-		}
-
-		return ManseryeokCalculationResponse.JijangganElement.builder()
-			.chinese((String) elementData.get("chinese"))
-			.korean((String) elementData.get("korean"))
-			.fiveCircle((String) elementData.get("fiveCircle"))
-			.fiveCircleColor((String) elementData.get("fiveCircleColor"))
-			.minusPlus((String) elementData.get("minusPlus"))
-			.rate((Integer) elementData.get("rate"))
-			.build();
+		return timePillar;
 	}
 
 	// Inner classes for return types
 	@lombok.Data
 	@lombok.Builder
-	private static class SamjuResult {
+	static class SamjuResult {
 
 		private LocalDate solarDate;
-		private String yearSky;
-		private String yearGround;
-		private String monthSky;
-		private String monthGround;
-		private String daySky;
-		private String dayGround;
+		private LocalDate birthDate;  // 자시 처리 전 양력 출생일
+		private Ganji year;
+		private Ganji month;
+		private Ganji day;
 		private String seasonStartTime;
 	}
 
@@ -399,11 +523,10 @@ public class ManseCalculationService {
 		private Integer bigFortuneStart;
 	}
 
-	@lombok.Data
-	@lombok.Builder
-	private static class TimePillarResult {
+	/**
+	 * 캐시되는 계산 결과 (성별과 무관한 삼주 + 시주)
+	 */
+	record ChartCore(SamjuResult samju, Ganji timePillar) {
 
-		private String timeSky;
-		private String timeGround;
 	}
 }
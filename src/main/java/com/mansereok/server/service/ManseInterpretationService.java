@@ -14,17 +14,25 @@ import com.mansereok.server.service.response.ManseryeokCalculationResponse;
 import com.mansereok.server.service.response.ManseryeokCalculationResponse.JijangganElement;
 import com.mansereok.server.service.response.ManseryeokCalculationResponse.PillarElement;
 import com.mansereok.server.service.response.model.GptCompatibilityResponse;
+import com.mansereok.server.service.saju.Branch;
+import com.mansereok.server.service.saju.FiveElement;
+import com.mansereok.server.service.saju.Ganji;
+import com.mansereok.server.service.saju.Stem;
+import com.mansereok.server.service.saju.TenStar;
+import com.mansereok.server.service.saju.YinYang;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @Slf4j
@@ -35,19 +43,8 @@ public class ManseInterpretationService {
 
 	private final ResultRepository resultRepository;
 	private final CompatibilityResultRepository compatibilityResultRepository;
-
-	// 60갑자 순서 정의 (대운 계산용)
-	private static final List<String> HEAVENLY_STEMS = Arrays.asList("甲", "乙", "丙", "丁", "戊",
-		"己", "庚", "辛", "壬", "癸");
-	private static final List<String> EARTHLY_BRANCHES = Arrays.asList("子", "丑", "寅", "卯", "辰",
-		"巳", "午", "未", "申", "酉", "戌", "亥");
-	private static final List<String> GAPJA_CYCLE = new ArrayList<>();
-
-	static {
-		for (int i = 0; i < 60; i++) {
-			GAPJA_CYCLE.add(HEAVENLY_STEMS.get(i % 10) + EARTHLY_BRANCHES.get(i % 12));
-		}
-	}
+	private final InterpretationReuseCache interpretationReuseCache;
+	private final Gpt5StreamClient gpt5StreamClient;
 
 	private static final String GPT5_SYSTEM_INSTRUCTION =
 		"--- SYSTEM INSTRUCTION ---\n" +
@@ -60,7 +57,9 @@ public class ManseInterpretationService {
 	public ManseInterpretationService(@Value("${openai.api.key}") String apiKey,
 		@Value("${openai.api.base-url:https://api.openai.com}") String baseUrl,
 		ResultRepository resultRepository,
-		CompatibilityResultRepository compatibilityResultRepository
+		CompatibilityResultRepository compatibilityResultRepository,
+		InterpretationReuseCache interpretationReuseCache,
+		Gpt5StreamClient gpt5StreamClient
 	) {
 		this.restClient = RestClient.builder()
 			.baseUrl(baseUrl + "/v1")
@@ -69,10 +68,13 @@ public class ManseInterpretationService {
 			.build();
 		this.resultRepository = resultRepository;
 		this.compatibilityResultRepository = compatibilityResultRepository;
+		this.interpretationReuseCache = interpretationReuseCache;
+		this.gpt5StreamClient = gpt5StreamClient;
 	}
 
 	/**
 	 * 만세력 계산 결과를 바탕으로 GPT-5에게 사주 해석을 요청하고, 구조화된 응답 객체(ManseInterpretationResponse)를 반환합니다.
+	 * 같은 사주로 만든 해석이 있으면 GPT-5를 호출하지 않고 이름만 바꿔 재사용합니다 ({@link InterpretationReuseCache}).
 	 *
 	 * @param name     분석 대상자의 이름
 	 * @param response 만세력 계산 결과
@@ -91,18 +93,16 @@ public class ManseInterpretationService {
 		}
 
 		try {
-			String userPrompt = createAnalysisPrompt(name, response);
-			String input = GPT5_SYSTEM_INSTRUCTION + userPrompt;
-
-			Gpt5Request gpt5Request = new Gpt5Request(
-				"gpt-5",
-				input,
-				8000,
-				"medium",
-				"medium"
-			);
+			Optional<InterpretationReuseCache.Reusable> reusable = interpretationReuseCache.find(response);
+			if (reusable.isPresent()) {
+				log.info("같은 사주의 해석 재사용, 요청자: {}", name);
+				return save(name, response, reusable.get().ilgan(), reusable.get().renderFor(name),
+					reusable.get().template());
+			}
 
-			String requestBody = objectMapper.writeValueAsString(gpt5Request);
+			// 다른 사람에게 재사용할 수 있도록 실제 이름 대신 자리표시로 해석을 만든다
+			String requestBody = objectMapper.writeValueAsString(
+				createInterpretationRequest(InterpretationReuseCache.NAME_PLACEHOLDER, response, false));
 
 			log.info("GPT-5 요청 데이터 생성 완료. API 호출 시작...");
 			String gptResponse = restClient.post()
@@ -112,28 +112,12 @@ public class ManseInterpretationService {
 				.body(String.class);
 
 			log.info("GPT-5 응답 수신 완료.");
-			String interpretationText = extractContentFromResponseGpt5(gptResponse);
-
-			Result savedResult = resultRepository.save(
-				Result.create(
-					null,  // userId - 로그인 기능 없으므로 null
-					name,
-					response.getInput().getSolarDate(),
-					response.getInput().getSolarTime(),
-					response.getInput().getGender(),
-					response.getInput().getIsLunar(),
-					ilgan,
-					interpretationText
-				)
-			);
+			String template = extractContentFromResponseGpt5(gptResponse);
 
-			// 성공 시, 모든 정보를 담아 DTO를 빌드하여 반환합니다.
-			return new ManseInterpretationResponse(
-				savedResult.getId(),
-				name,
-				ilgan,
-				interpretationText
-			);
+			ManseInterpretationResponse interpretation = save(name, response, ilgan,
+				InterpretationReuseCache.render(template, name), template);
+			interpretationReuseCache.put(response, ilgan, template);
+			return interpretation;
 
 		} catch (Exception e) {
 			log.error("GPT API 요청 중 오류 발생: {}", e.getMessage(), e);
@@ -147,6 +131,71 @@ public class ManseInterpretationService {
 		}
 	}
 
+	/**
+	 * {@link #interpret} 의 스트리밍 버전. GPT-5 출력 조각을 SSE(delta)로 바로 보내고, 스트림이 끝나면 해석을
+	 * results 에 저장해 응답 DTO(done)를 보낸다. 재사용할 해석이 있으면 GPT-5를 호출하지 않고 한 번에 보낸다.
+	 *
+	 * @param name     분석 대상자의 이름
+	 * @param response 만세력 계산 결과
+	 * @return delta / done / error 이벤트를 보내는 SSE 연결
+	 */
+	public SseEmitter interpretStream(String name, ManseryeokCalculationResponse response) {
+		log.info("✅ 사주 해석 스트리밍 요청 시작, 요청자: {}", name);
+		String ilgan = extractIlgan(response);
+
+		Optional<InterpretationReuseCache.Reusable> reusable = interpretationReuseCache.find(response);
+		if (reusable.isPresent()) {
+			log.info("같은 사주의 해석 재사용, 요청자: {}", name);
+			return gpt5StreamClient.replay(reusable.get().renderFor(name),
+				text -> save(name, response, reusable.get().ilgan(), text, reusable.get().template()));
+		}
+
+		// 조각을 바로 보내야 하므로 실제 이름으로 만들고, 이 해석은 다른 사람에게 재사용하지 않는다
+		return gpt5StreamClient.stream(createInterpretationRequest(name, response, true),
+			text -> save(name, response, ilgan, text, null));
+	}
+
+	private Gpt5Request createInterpretationRequest(String name, ManseryeokCalculationResponse response,
+		boolean stream) {
+		String input = GPT5_SYSTEM_INSTRUCTION + createAnalysisPrompt(name, response);
+		return new Gpt5Request(
+			"gpt-5",
+			input,
+			8000,
+			"medium",
+			"medium",
+			stream
+		);
+	}
+
+	/**
+	 * 해석 결과를 저장하고 응답 DTO를 만든다. template 은 자리표시로 만든 해석이 있을 때만 넘긴다.
+	 */
+	private ManseInterpretationResponse save(String name, ManseryeokCalculationResponse response,
+		String ilgan, String interpretationText, String template) {
+		Result savedResult = resultRepository.save(
+			Result.create(
+				null,  // userId - 로그인 기능 없으므로 null
+				name,
+				response.getInput().getSolarDate(),
+				response.getInput().getSolarTime(),
+				response.getInput().getGender(),
+				response.getInput().getIsLunar(),
+				response.getChartKey(),
+				ilgan,
+				interpretationText,
+				template
+			)
+		);
+
+		return new ManseInterpretationResponse(
+			savedResult.getId(),
+			name,
+			ilgan,
+			interpretationText
+		);
+	}
+
 	/**
 	 * ManseryeokCalculationResponse 객체를 바탕으로 GPT에게 전달할 프롬프트를 생성
 	 */
@@ -168,6 +217,10 @@ public class ManseInterpretationService {
 		// ===== 분석 대상 정보 =====
 		prompt.append("### 분석 대상 기본 정보 ###\n");
 		prompt.append(String.format("이름: %s\n", name));
+		if (InterpretationReuseCache.NAME_PLACEHOLDER.equals(name)) {
+			prompt.append(String.format("(이름은 자리표시입니다. 대상자를 부를 때는 항상 \"%s님\"처럼 \"%s\"를 그대로 쓰고, "
+				+ "다른 이름이나 호칭을 지어내지 마세요.)\n", name, name));
+		}
 		prompt.append(
 			String.format("성별: %s\n", "MALE".equalsIgnoreCase(input.getGender()) ? "남자" : "여자"));
 		prompt.append(
@@ -195,18 +248,19 @@ public class ManseInterpretationService {
 		prompt.append("\n");
 
 		// ===== 오행 및 십성 분포 분석 =====
-		Map<String, Integer> ohaengCounts = new HashMap<>();
-		Map<String, Integer> sipseongCounts = new HashMap<>();
+		Map<FiveElement, Integer> ohaengCounts = new EnumMap<>(FiveElement.class);
+		Map<TenStar, Integer> sipseongCounts = new EnumMap<>(TenStar.class);
 		calculateDistribution(saju, ohaengCounts, sipseongCounts);
 
+		FiveElement dayElement = Stem.fromChinese(saju.getDaySky().getChinese()).getElement();
 		prompt.append("【오행(五行) 세력 분석】\n");
-		ohaengCounts.forEach((key, value) -> prompt.append(String.format("%s: %d개%s\n", key, value,
-			saju.getDaySky().getFiveCircle().equals(key) ? " (일간)" : "")));
+		ohaengCounts.forEach((key, value) -> prompt.append(String.format("%s: %d개%s\n",
+			key.getKorean(), value, key == dayElement ? " (일간)" : "")));
 		prompt.append("\n");
 
 		prompt.append("【십성(十星) 분포 분석】\n");
 		sipseongCounts.forEach(
-			(key, value) -> prompt.append(String.format("%s: %d개\n", key, value)));
+			(key, value) -> prompt.append(String.format("%s: %d개\n", key.getKorean(), value)));
 		prompt.append("\n");
 
 		// ===== 대운 흐름 데이터 =====
@@ -279,30 +333,36 @@ public class ManseInterpretationService {
 		}
 	}
 
+	/**
+	 * 응답의 한자 간지를 천간/지지로 읽어 오행(지장간 포함)과 십성 개수를 센다.
+	 */
 	private void calculateDistribution(ManseryeokCalculationResponse.SajuInfo saju,
-		Map<String, Integer> ohaengCounts, Map<String, Integer> sipseongCounts) {
-		List<PillarElement> pillars = Arrays.asList(
-			saju.getYearSky(), saju.getYearGround(), saju.getMonthSky(), saju.getMonthGround(),
-			saju.getDaySky(), saju.getDayGround(), saju.getTimeSky(), saju.getTimeGround()
-		);
+		Map<FiveElement, Integer> ohaengCounts, Map<TenStar, Integer> sipseongCounts) {
+		Stem dayStem = Stem.fromChinese(saju.getDaySky().getChinese());
 
-		for (PillarElement p : pillars) {
+		for (PillarElement p : Arrays.asList(saju.getYearSky(), saju.getMonthSky(),
+			saju.getDaySky(), saju.getTimeSky())) {
 			if (p != null) {
-				ohaengCounts.merge(p.getFiveCircle(), 1, Integer::sum);
-				sipseongCounts.merge(p.getTenStar(), 1, Integer::sum);
+				Stem stem = Stem.fromChinese(p.getChinese());
+				ohaengCounts.merge(stem.getElement(), 1, Integer::sum);
+				sipseongCounts.merge(TenStar.of(dayStem, stem), 1, Integer::sum);
+			}
+		}
+
+		for (PillarElement p : Arrays.asList(saju.getYearGround(), saju.getMonthGround(),
+			saju.getDayGround(), saju.getTimeGround())) {
+			if (p != null) {
+				Branch branch = Branch.fromChinese(p.getChinese());
+				ohaengCounts.merge(branch.getElement(), 1, Integer::sum);
+				sipseongCounts.merge(TenStar.of(dayStem, branch), 1, Integer::sum);
 				// 지장간의 오행도 카운트
 				if (p.getJijanggan() != null) {
-					if (p.getJijanggan().getFirst() != null) {
-						ohaengCounts.merge(p.getJijanggan().getFirst().getFiveCircle(), 1,
-							Integer::sum);
-					}
-					if (p.getJijanggan().getSecond() != null) {
-						ohaengCounts.merge(p.getJijanggan().getSecond().getFiveCircle(), 1,
-							Integer::sum);
-					}
-					if (p.getJijanggan().getThird() != null) {
-						ohaengCounts.merge(p.getJijanggan().getThird().getFiveCircle(), 1,
-							Integer::sum);
+					for (JijangganElement j : Arrays.asList(p.getJijanggan().getFirst(),
+						p.getJijanggan().getSecond(), p.getJijanggan().getThird())) {
+						if (j != null) {
+							ohaengCounts.merge(Stem.fromChinese(j.getChinese()).getElement(), 1,
+								Integer::sum);
+						}
 					}
 				}
 			}
@@ -314,31 +374,27 @@ public class ManseInterpretationService {
 		ManseryeokCalculationResponse.SajuInfo saju, String gender) {
 		prompt.append("【인생 대운 로드맵】\n");
 
-		// 순행/역행 판단 (isRightDirection 로직)
-		boolean isForward =
-			("MALE".equalsIgnoreCase(gender) && "양".equals(saju.getYearSky().getMinusPlus())) ||
-				("FEMALE".equalsIgnoreCase(gender) && "음".equals(saju.getYearSky().getMinusPlus()));
-
-		String monthPillar = saju.getMonthSky().getChinese() + saju.getMonthGround().getChinese();
-		int startIndex = GAPJA_CYCLE.indexOf(monthPillar);
-
-		if (startIndex == -1) {
+		Stem yearStem;
+		Ganji monthPillar;
+		try {
+			yearStem = Stem.fromChinese(saju.getYearSky().getChinese());
+			monthPillar = Ganji.of(Stem.fromChinese(saju.getMonthSky().getChinese()),
+				Branch.fromChinese(saju.getMonthGround().getChinese()));
+		} catch (IllegalArgumentException e) {
 			prompt.append("대운 정보를 생성할 수 없습니다.\n");
 			return;
 		}
 
+		// 순행/역행 판단 (isRightDirection 로직)
+		boolean isForward =
+			("MALE".equalsIgnoreCase(gender) && yearStem.getYinYang() == YinYang.YANG) ||
+				("FEMALE".equalsIgnoreCase(gender) && yearStem.getYinYang() == YinYang.YIN);
+		int step = isForward ? 1 : -1;
+
 		for (int i = 0; i < 10; i++) { // 100년간의 대운 (10개)
 			int age = saju.getBigFortuneNumber() + (i * 10);
-
-			int daewoonIndex;
-			if (isForward) {
-				daewoonIndex = (startIndex + i + 1) % 60;
-			} else {
-				daewoonIndex = (startIndex - i - 1 + 60) % 60;
-			}
-
-			String daewoonGanji = GAPJA_CYCLE.get(daewoonIndex);
-			prompt.append(String.format("%d세 ~ %d세: %s 대운\n", age, age + 9, daewoonGanji));
+			Ganji daewoon = monthPillar.plus(step * (i + 1));
+			prompt.append(String.format("%d세 ~ %d세: %s 대운\n", age, age + 9, daewoon.chinese()));
 		}
 	}
 
@@ -355,6 +411,12 @@ public class ManseInterpretationService {
 				log.error("GPT API 에러: {}", errorMessage);
 				throw new IllegalArgumentException("GPT API 에러: " + errorMessage);
 			}
+			if ("incomplete".equals(root.path("status").asText())) {
+				// 토큰 한도 등으로 잘린 해석은 저장하거나 재사용하지 않는다
+				String reason = root.path("incomplete_details").path("reason").asText("알 수 없는 이유");
+				log.error("GPT 응답이 완료되지 않음: {}", reason);
+				throw new IllegalArgumentException("GPT 응답이 완료되지 않았습니다: " + reason);
+			}
 			JsonNode outputNode = root.path("output");
 			if (!outputNode.isArray()) {
 				log.error("응답에 'output' 배열이 없습니다.");
@@ -363,7 +425,8 @@ public class ManseInterpretationService {
 			for (JsonNode outputItem : outputNode) {
 				if ("message".equals(outputItem.path("type").asText())) {
 					JsonNode contentArray = outputItem.path("content");
-					if (contentArray.isArray() && contentArray.size() > 0) {
+					if (contentArray.isArray() && contentArray.size() > 0
+						&& !contentArray.get(0).path("text").asText().isBlank()) {
 						String content = contentArray.get(0).path("text").asText();
 						log.info("✅ GPT 응답 성공 - 길이: {} 문자", content.length());
 						return content;
@@ -435,8 +498,10 @@ public class ManseInterpretationService {
 					null, // userId 일단 null로 ..
 					person1Name,
 					person1Ilgan,
+					person1Response.getChartKey(),
 					person2Name,
 					person2Ilgan,
+					person2Response.getChartKey(),
 					score,
 					analysisText
 				)
@@ -568,11 +633,12 @@ public class ManseInterpretationService {
 			saju.getDaySky().getFiveCircle()));
 
 		// 오행 분포
-		Map<String, Integer> ohaengCounts = new HashMap<>();
-		Map<String, Integer> sipseongCounts = new HashMap<>(); // sipseong is not used here but calculated for consistency
+		Map<FiveElement, Integer> ohaengCounts = new EnumMap<>(FiveElement.class);
+		Map<TenStar, Integer> sipseongCounts = new EnumMap<>(TenStar.class); // sipseong is not used here but calculated for consistency
 		calculateDistribution(saju, ohaengCounts, sipseongCounts);
 		prompt.append("오행 분포: ");
-		ohaengCounts.forEach((key, value) -> prompt.append(String.format("%s %d개, ", key, value)));
+		ohaengCounts.forEach((key, value) -> prompt.append(String.format("%s %d개, ",
+			key.getKorean(), value)));
 		prompt.delete(prompt.length() - 2, prompt.length()); // 마지막 ", " 제거
 		prompt.append("\n\n");
 	}
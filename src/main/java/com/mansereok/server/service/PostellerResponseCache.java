@@ -0,0 +1,130 @@
+package com.mansereok.server.service;
+
+import com.mansereok.server.service.cache.CacheKeys;
+import com.mansereok.server.service.cache.StripedLruCache;
+import com.mansereok.server.service.request.ManseryeokCreateRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포스텔러 API 응답 캐시. 대운/차트/오행 엔드포인트마다 따로 보관한다.
+ * <p>
+ * 요청 값 중 이름(name)을 뺀 값을 정규화한 문자열이 키이다. 출생지 이름(locationName)은 차트 프로필(location)에
+ * 그대로 실려 GPT 프롬프트의 출생지역이 되므로 키에 넣는다.
+ * 캐시에는 그 문자열의 해시({@link CacheKeys})를 키로 쓰고, 항목에 원래 문자열을 함께 두어 해시 충돌은 미스로 처리한다.
+ * 항목은 posteller.cache.ttl 이 지나면 만료되고, 엔드포인트마다 max-size 건까지만 보관한다.
+ * <p>
+ * 캐시된 응답 객체는 같은 출생 정보로 요청한 모든 호출자가 공유하므로 읽기 전용으로 다뤄야 한다. 값을 바꿔야 하면 복사해서 쓴다.
+ * 메트릭: posteller.cache.{daeun|chart|ohaeng}.gets{result=hit|miss}, .evictions, .size, .hit.ratio
+ */
+@Component
+@Slf4j
+class PostellerResponseCache {
+
+	enum Endpoint {
+		DAEUN, CHART, OHAENG
+	}
+
+	private final Map<Endpoint, StripedLruCache<Entry>> caches = new EnumMap<>(Endpoint.class);
+	private final long ttlNanos;
+	private final LongSupplier clock;
+
+	@Autowired
+	PostellerResponseCache(
+		@Value("${posteller.cache.enabled:true}") boolean enabled,
+		@Value("${posteller.cache.max-size:10000}") int maxSize,
+		@Value("${posteller.cache.ttl:PT1H}") Duration ttl,
+		MeterRegistry meterRegistry) {
+		this(enabled, maxSize, ttl, meterRegistry, System::nanoTime);
+	}
+
+	PostellerResponseCache(boolean enabled, int maxSize, Duration ttl, MeterRegistry meterRegistry,
+		LongSupplier clock) {
+		this.ttlNanos = ttl.toNanos();
+		this.clock = clock;
+		if (enabled) {
+			for (Endpoint endpoint : Endpoint.values()) {
+				StripedLruCache<Entry> cache = new StripedLruCache<>(
+					"posteller.cache." + endpoint.name().toLowerCase(Locale.ROOT), maxSize, 16);
+				cache.bindTo(meterRegistry);
+				caches.put(endpoint, cache);
+			}
+			log.info("포스텔러 응답 캐시 사용: maxSize={} (엔드포인트별), ttl={}", maxSize, ttl);
+		} else {
+			log.info("포스텔러 응답 캐시 사용 안 함");
+		}
+	}
+
+	/**
+	 * 캐시된 응답을 돌려주고, 없으면 loader 로 호출해 넣는다. loader 가 실패하면 캐시하지 않는다.
+	 * 돌려준 객체는 다른 호출자와 공유하므로 수정하지 않는다.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T get(Endpoint endpoint, ManseryeokCreateRequest request, Supplier<T> loader) {
+		StripedLruCache<Entry> cache = caches.get(endpoint);
+		if (cache == null) {
+			return loader.get();
+		}
+
+		String canonical = canonicalKey(request);
+		long key = CacheKeys.hash(canonical);
+		long now = clock.getAsLong();
+		Entry entry = cache.get(key,
+			cached -> cached.canonical().equals(canonical) && now - cached.expiresAt() < 0);
+		if (entry != null) {
+			return (T) entry.value();
+		}
+
+		T value = loader.get();
+		if (value != null) {
+			cache.put(key, new Entry(canonical, value, clock.getAsLong() + ttlNanos));
+		}
+		return value;
+	}
+
+	/**
+	 * 이름을 뺀 요청 값을 고정된 순서로 이어 붙인다. 코드 값은 대문자로, 날짜/시간은 숫자만 남기고,
+	 * 출생지 이름은 앞뒤 공백만 뺀다.
+	 */
+	static String canonicalKey(ManseryeokCreateRequest request) {
+		return String.join("|",
+			upper(request.getGender()),
+			upper(request.getCalendar()),
+			digits(request.getBirthday()),
+			digits(request.getBirthtime()),
+			Integer.toString(request.getYear()),
+			Integer.toString(request.getMonth()),
+			Integer.toString(request.getDay()),
+			Integer.toString(request.getHour()),
+			Integer.toString(request.getMin()),
+			Boolean.toString(request.isHmUnsure()),
+			Integer.toString(request.getLocationId()),
+			trim(request.getLocationName()),
+			Boolean.toString(request.isMidnightAdjust()));
+	}
+
+	private static String upper(String value) {
+		return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+	}
+
+	private static String trim(String value) {
+		return value == null ? "" : value.trim();
+	}
+
+	private static String digits(String value) {
+		return value == null ? "" : value.replaceAll("[^0-9]", "");
+	}
+
+	private record Entry(String canonical, Object value, long expiresAt) {
+
+	}
+}
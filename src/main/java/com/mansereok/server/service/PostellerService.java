@@ -1,32 +1,60 @@
 package com.mansereok.server.service;
 
+import com.mansereok.server.service.PostellerResponseCache.Endpoint;
+import com.mansereok.server.service.concurrent.FanOutExecutor;
+import com.mansereok.server.service.concurrent.FanOutScope;
 import com.mansereok.server.service.request.ManseryeokCreateRequest;
 import com.mansereok.server.service.response.ChartCreateResponse;
 import com.mansereok.server.service.response.DaeunCreateResponse;
 import com.mansereok.server.service.response.OhaengCreateResponse;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+/**
+ * 포스텔러 API 호출. 응답은 {@link PostellerResponseCache} 에 캐시되어 호출자끼리 공유하므로 돌려받은 객체는 수정하지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PostellerService {
 
 	private final PostellerApiClient postellerApiClient;
+	private final FanOutExecutor fanOutExecutor;
+	private final PostellerResponseCache responseCache;
 
 	public DaeunCreateResponse getDaeun(ManseryeokCreateRequest request) {
-		log.info("🚀 포스텔러 대운 API 호출, name={}", request.getName());
-		return postellerApiClient.getDaeun(request);
+		return responseCache.get(Endpoint.DAEUN, request, () -> {
+			log.info("🚀 포스텔러 대운 API 호출, name={}", request.getName());
+			return postellerApiClient.getDaeun(request);
+		});
 	}
 
 	public ChartCreateResponse getChart(ManseryeokCreateRequest request) {
-		log.info("🚀 포스텔러 사주 기본 차트(일간/사주팔자) API 호출, name={}", request.getName());
-		return postellerApiClient.getChart(request);
+		return responseCache.get(Endpoint.CHART, request, () -> {
+			log.info("🚀 포스텔러 사주 기본 차트(일간/사주팔자) API 호출, name={}", request.getName());
+			return postellerApiClient.getChart(request);
+		});
 	}
 
 	public OhaengCreateResponse getOhaeng(ManseryeokCreateRequest request) {
-		log.info("🚀 포스텔러 (오행/십성) API 호출, name={}", request.getName());
-		return postellerApiClient.getOhaeng(request);
+		return responseCache.get(Endpoint.OHAENG, request, () -> {
+			log.info("🚀 포스텔러 (오행/십성) API 호출, name={}", request.getName());
+			return postellerApiClient.getOhaeng(request);
+		});
+	}
+
+	/**
+	 * 대운, 기본 차트, 오행/십성 API 를 동시에 호출한다.
+	 */
+	public SajuResponses getAll(ManseryeokCreateRequest request) {
+		try (FanOutScope scope = fanOutExecutor.open()) {
+			Supplier<DaeunCreateResponse> daeun = scope.fork(() -> getDaeun(request));
+			Supplier<ChartCreateResponse> chart = scope.fork(() -> getChart(request));
+			Supplier<OhaengCreateResponse> ohaeng = scope.fork(() -> getOhaeng(request));
+			scope.join();
+			return new SajuResponses(daeun.get(), chart.get(), ohaeng.get());
+		}
 	}
 }
@@ -1,17 +1,40 @@
 package com.mansereok.server.service;
 
 import java.time.LocalTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.stereotype.Service;
 
+/**
+ * 만세력 계산용 기준 데이터. 모든 데이터는 클래스 로딩 시 한 번만 생성되는 불변 Map 이며, 조회 시 새로 만들지 않는다.
+ * 요청 처리 경로에서는 배열 인덱스 기반의 {@link com.mansereok.server.service.saju.SajuTables} 를 사용한다.
+ */
 @Service
 public class SajuDataService {
 
+	private static final Map<String, String> MINUS_PLUS = immutable(createMinusPlus());
+	private static final Map<String, LocalTime[]> TIME_JU_DATA = immutable(createTimeJuData());
+	private static final Map<String, Map<String, String[]>> TIME_JU_DATA2 =
+		immutableNested(createTimeJuData2());
+	private static final Map<String, Map<String, String>> TEN_STAR =
+		immutableNested(createTenStar());
+	private static final Map<String, String> CHINESE_TO_KOREAN =
+		immutable(createChineseToKorean());
+	private static final Map<String, Map<String, Object>> JIJANGAN =
+		immutableNested(createJijangan());
+	private static final Map<Integer, String[]> SIXTY_GAPJA_FOR_BIG_FORTUNE_LIST =
+		immutable(createSixtyGapjaForBigFortuneList());
+	private static final Map<Integer, String[]> SIXTY_GAPJA = immutable(createSixtyGapja());
+
 	/**
 	 * 천간, 지지의 음양 데이터
 	 */
 	public Map<String, String> getMinusPlus() {
+		return MINUS_PLUS;
+	}
+
+	private static Map<String, String> createMinusPlus() {
 		Map<String, String> data = new HashMap<>();
 		// 천간 음양
 		data.put("甲", "양");
@@ -46,6 +69,10 @@ public class SajuDataService {
 	 * 시간대별 시주 범위 데이터
 	 */
 	public Map<String, LocalTime[]> getTimeJuData() {
+		return TIME_JU_DATA;
+	}
+
+	private static Map<String, LocalTime[]> createTimeJuData() {
 		Map<String, LocalTime[]> data = new HashMap<>();
 		data.put("0", new LocalTime[]{LocalTime.of(23, 30), LocalTime.of(1, 29)});  // 자시
 		data.put("1", new LocalTime[]{LocalTime.of(1, 30), LocalTime.of(3, 29)});   // 축시
@@ -66,6 +93,10 @@ public class SajuDataService {
 	 * 일간별 시주 계산 데이터 (완전판)
 	 */
 	public Map<String, Map<String, String[]>> getTimeJuData2() {
+		return TIME_JU_DATA2;
+	}
+
+	private static Map<String, Map<String, String[]>> createTimeJuData2() {
 		Map<String, Map<String, String[]>> data = new HashMap<>();
 
 		// 甲일, 己일
@@ -160,6 +191,10 @@ public class SajuDataService {
 	 * 일간에 따른 십성 데이터 (완전판 - 10개 일간 모두)
 	 */
 	public Map<String, Map<String, String>> getTenStar() {
+		return TEN_STAR;
+	}
+
+	private static Map<String, Map<String, String>> createTenStar() {
 		Map<String, Map<String, String>> data = new HashMap<>();
 
 		// 甲일간 십성
@@ -429,6 +464,10 @@ public class SajuDataService {
 	 * 한글 한자 변환
 	 */
 	public Map<String, String> convertChineseToKorean() {
+		return CHINESE_TO_KOREAN;
+	}
+
+	private static Map<String, String> createChineseToKorean() {
 		Map<String, String> data = new HashMap<>();
 		// 천간
 		data.put("甲", "갑");
@@ -461,6 +500,10 @@ public class SajuDataService {
 	 * 지장간 데이터 (12지지 완전판)
 	 */
 	public Map<String, Map<String, Object>> getJijangan() {
+		return JIJANGAN;
+	}
+
+	private static Map<String, Map<String, Object>> createJijangan() {
 		Map<String, Map<String, Object>> data = new HashMap<>();
 
 		// 子 (자)
@@ -587,6 +630,10 @@ public class SajuDataService {
 	 * 60갑자 데이터 (대운 계산용)
 	 */
 	public Map<Integer, String[]> getSixtyGapjaForBigFortuneList() {
+		return SIXTY_GAPJA_FOR_BIG_FORTUNE_LIST;
+	}
+
+	private static Map<Integer, String[]> createSixtyGapjaForBigFortuneList() {
 		Map<Integer, String[]> data = new HashMap<>();
 		String[] cheongan = {"甲", "乙", "丙", "丁", "戊", "己", "庚", "辛", "壬", "癸"};
 		String[] jiji = {"子", "丑", "寅", "卯", "辰", "巳", "午", "未", "申", "酉", "戌", "亥"};
@@ -604,6 +651,10 @@ public class SajuDataService {
 	 * 60갑자 데이터 (일반용)
 	 */
 	public Map<Integer, String[]> getSixtyGapja() {
+		return SIXTY_GAPJA;
+	}
+
+	private static Map<Integer, String[]> createSixtyGapja() {
 		Map<Integer, String[]> data = new HashMap<>();
 		String[] cheongan = {"庚", "辛", "壬", "癸", "甲", "乙", "丙", "丁", "戊", "己"}; // 시작점 조정
 		String[] jiji = {"申", "酉", "戌", "亥", "子", "丑", "寅", "卯", "辰", "巳", "午",
@@ -617,4 +668,14 @@ public class SajuDataService {
 
 		return data;
 	}
+
+	private static <K, V> Map<K, V> immutable(Map<K, V> data) {
+		return Collections.unmodifiableMap(data);
+	}
+
+	private static <K, K2, V> Map<K, Map<K2, V>> immutableNested(Map<K, Map<K2, V>> data) {
+		Map<K, Map<K2, V>> copy = new HashMap<>();
+		data.forEach((key, value) -> copy.put(key, Collections.unmodifiableMap(value)));
+		return Collections.unmodifiableMap(copy);
+	}
 }
@@ -0,0 +1,202 @@
+package com.mansereok.server.service;
+
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData;
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData.Pillar;
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData.SinsalElement;
+import com.mansereok.server.service.response.DaeunCreateResponse;
+import com.mansereok.server.service.response.DaeunCreateResponse.GanjiInfo;
+import com.mansereok.server.service.response.OhaengCreateResponse;
+import com.mansereok.server.service.response.OhaengCreateResponse.AnalysisData.ElementInfo;
+import com.mansereok.server.service.response.model.Element;
+import com.mansereok.server.service.response.model.JijangganInfo;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 로컬 엔진과 포스텔러의 {@link SajuResponses} 를 항목별로 비교한다.
+ * <p>
+ * 결과는 어긋난 항목 이름(예: chart.day.unseong, daeun.list.ganji) 집합이다.
+ * 목록은 인덱스가 아니라 항목 단위로 한 번만 기록하므로 메트릭 태그 수가 고정된다.
+ * 오행/십성 비율은 {@value #PERCENT_TOLERANCE}%p 까지 같은 값으로 본다.
+ */
+final class SajuResponseComparator {
+
+	static final double PERCENT_TOLERANCE = 1.0;
+
+	private SajuResponseComparator() {
+	}
+
+	static Set<String> diff(SajuResponses local, SajuResponses remote) {
+		Set<String> fields = new LinkedHashSet<>();
+		diffDaeun(data(local.daeun()), data(remote.daeun()), fields);
+		diffChart(local.chart() != null ? local.chart().getData() : null,
+			remote.chart() != null ? remote.chart().getData() : null, fields);
+		diffOhaeng(local.ohaeng() != null ? local.ohaeng().getData() : null,
+			remote.ohaeng() != null ? remote.ohaeng().getData() : null, fields);
+		return fields;
+	}
+
+	private static DaeunCreateResponse.SajuData data(DaeunCreateResponse response) {
+		return response != null ? response.getData() : null;
+	}
+
+	private static void diffDaeun(DaeunCreateResponse.SajuData local,
+		DaeunCreateResponse.SajuData remote, Set<String> fields) {
+		if (local == null || remote == null) {
+			check(fields, "daeun", local == null, remote == null);
+			return;
+		}
+		check(fields, "daeun.number", local.getDaeunNumber(), remote.getDaeunNumber());
+		check(fields, "daeun.ganji", local.getDaeunGanji(), remote.getDaeunGanji());
+		checkList(fields, "daeun.list.ganji", local.getDaeunList(), remote.getDaeunList(),
+			daeun -> ganji(daeun.getGanji()));
+		checkList(fields, "daeun.list.age", local.getDaeunList(), remote.getDaeunList(),
+			DaeunCreateResponse.DaeunInfo::getAge);
+		checkList(fields, "daeun.yeonun.ganji", local.getYeonunList(), remote.getYeonunList(),
+			yeonun -> ganji(yeonun.getGanji()));
+		checkList(fields, "daeun.wolun.ganji", local.getWolunList(), remote.getWolunList(),
+			wolun -> ganji(wolun.getGanji()));
+	}
+
+	private static void diffChart(BasicChartData local, BasicChartData remote, Set<String> fields) {
+		if (local == null || remote == null) {
+			check(fields, "chart", local == null, remote == null);
+			return;
+		}
+		BasicChartData.SajuChart localChart = local.getSajuChart();
+		BasicChartData.SajuChart remoteChart = remote.getSajuChart();
+		if (localChart != null && remoteChart != null) {
+			diffPillar(fields, "chart.year", localChart.getYearPillar(), remoteChart.getYearPillar());
+			diffPillar(fields, "chart.month", localChart.getMonthPillar(), remoteChart.getMonthPillar());
+			diffPillar(fields, "chart.day", localChart.getDayPillar(), remoteChart.getDayPillar());
+			diffPillar(fields, "chart.time", localChart.getTimePillar(), remoteChart.getTimePillar());
+		} else {
+			check(fields, "chart.pillars", localChart == null, remoteChart == null);
+		}
+
+		BasicChartData.SinsalInfo localSinsal = local.getSinsal();
+		BasicChartData.SinsalInfo remoteSinsal = remote.getSinsal();
+		if (localSinsal != null && remoteSinsal != null) {
+			check(fields, "chart.sinsal.year", sinsal(localSinsal.getYearSinsal()),
+				sinsal(remoteSinsal.getYearSinsal()));
+			check(fields, "chart.sinsal.month", sinsal(localSinsal.getMonthSinsal()),
+				sinsal(remoteSinsal.getMonthSinsal()));
+			check(fields, "chart.sinsal.day", sinsal(localSinsal.getDaySinsal()),
+				sinsal(remoteSinsal.getDaySinsal()));
+			check(fields, "chart.sinsal.time", sinsal(localSinsal.getTimeSinsal()),
+				sinsal(remoteSinsal.getTimeSinsal()));
+		} else {
+			check(fields, "chart.sinsal", localSinsal == null, remoteSinsal == null);
+		}
+	}
+
+	private static void diffPillar(Set<String> fields, String field, Pillar local, Pillar remote) {
+		if (local == null || remote == null) {
+			check(fields, field, local == null, remote == null);
+			return;
+		}
+		check(fields, field + ".cheongan", chinese(local.getCheongan()), chinese(remote.getCheongan()));
+		check(fields, field + ".jiji", chinese(local.getJiji()), chinese(remote.getJiji()));
+		check(fields, field + ".sipseong", sipseong(local), sipseong(remote));
+		check(fields, field + ".jijanggan", jijanggan(local.getJijangganList()),
+			jijanggan(remote.getJijangganList()));
+		check(fields, field + ".unseong",
+			local.getUnseong() != null ? local.getUnseong().getName() : null,
+			remote.getUnseong() != null ? remote.getUnseong().getName() : null);
+	}
+
+	private static void diffOhaeng(OhaengCreateResponse.AnalysisData local,
+		OhaengCreateResponse.AnalysisData remote, Set<String> fields) {
+		if (local == null || remote == null) {
+			check(fields, "ohaeng", local == null, remote == null);
+			return;
+		}
+		checkPercents(fields, "ohaeng.ohaeng.percent", local.getOhaeng(), remote.getOhaeng());
+		checkPercents(fields, "ohaeng.sipseong.percent", local.getSipseong(), remote.getSipseong());
+	}
+
+	private static void checkPercents(Set<String> fields, String field, List<ElementInfo> local,
+		List<ElementInfo> remote) {
+		Map<String, Double> localPercents = percents(local);
+		Map<String, Double> remotePercents = percents(remote);
+		if (!localPercents.keySet().equals(remotePercents.keySet())) {
+			fields.add(field);
+			return;
+		}
+		for (Map.Entry<String, Double> entry : localPercents.entrySet()) {
+			if (Math.abs(entry.getValue() - remotePercents.get(entry.getKey())) > PERCENT_TOLERANCE) {
+				fields.add(field);
+				return;
+			}
+		}
+	}
+
+	private static Map<String, Double> percents(List<ElementInfo> infos) {
+		Map<String, Double> percents = new HashMap<>();
+		if (infos != null) {
+			for (ElementInfo info : infos) {
+				if (info.getElement() != null) {
+					percents.put(info.getElement().getName(), info.getPercent());
+				}
+			}
+		}
+		return percents;
+	}
+
+	private static <T> void checkList(Set<String> fields, String field, List<T> local, List<T> remote,
+		Function<T, Object> key) {
+		if (local == null || remote == null || local.size() != remote.size()) {
+			check(fields, field + ".size", local != null ? local.size() : -1,
+				remote != null ? remote.size() : -1);
+			return;
+		}
+		for (int i = 0; i < local.size(); i++) {
+			if (!Objects.equals(key.apply(local.get(i)), key.apply(remote.get(i)))) {
+				fields.add(field);
+				return;
+			}
+		}
+	}
+
+	private static void check(Set<String> fields, String field, Object local, Object remote) {
+		if (!Objects.equals(local, remote)) {
+			fields.add(field);
+		}
+	}
+
+	private static String ganji(GanjiInfo ganji) {
+		return ganji != null ? chinese(ganji.getCheongan()) + chinese(ganji.getJiji()) : null;
+	}
+
+	private static String chinese(Element element) {
+		return element != null ? element.getChinese() : null;
+	}
+
+	private static String sipseong(Pillar pillar) {
+		return sipseongName(pillar.getCheongan()) + "/" + sipseongName(pillar.getJiji());
+	}
+
+	private static String sipseongName(Element element) {
+		return element != null && element.getSipseong() != null ? element.getSipseong().getName() : null;
+	}
+
+	private static String jijanggan(List<JijangganInfo> list) {
+		if (list == null) {
+			return null;
+		}
+		StringBuilder chinese = new StringBuilder();
+		for (JijangganInfo jijanggan : list) {
+			chinese.append(jijanggan.getChinese());
+		}
+		return chinese.toString();
+	}
+
+	private static String sinsal(SinsalElement sinsal) {
+		return sinsal != null ? sinsal.getName() : null;
+	}
+}
@@ -0,0 +1,132 @@
+package com.mansereok.server.service;
+
+import com.mansereok.server.service.request.ManseryeokCreateRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 해석에 쓸 사주 데이터를 로컬 엔진 또는 포스텔러 API 에서 가져온다.
+ * <p>
+ * 요청마다 manse.local-engine.percent 비율로 로컬 엔진을 쓰고, 나머지는 포스텔러를 호출한다.
+ * 로컬로 처리한 요청 중 manse.local-engine.shadow.percent 비율은 응답을 먼저 돌려준 뒤
+ * 별도 스레드에서 포스텔러를 호출해 항목별로 비교한다 ({@link SajuResponseComparator}).
+ * 동시에 진행 중인 비교가 max-in-flight 를 넘으면 그 요청의 비교는 건너뛴다.
+ * <p>
+ * 메트릭: manse.saju.source{source=local|posteller},
+ * manse.shadow.compares{result=match|mismatch|error|skipped}, manse.shadow.mismatches{field=...}
+ */
+@Service
+@Slf4j
+public class SajuResponseService {
+
+	private static final int PERCENT = 100;
+
+	private final LocalSajuService localSajuService;
+	private final PostellerService postellerService;
+	private final MeterRegistry meterRegistry;
+	private final int localPercent;
+	private final int shadowPercent;
+	private final Semaphore shadowPermits;
+	private final ExecutorService shadowExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final Counter localCount;
+	private final Counter postellerCount;
+	private final Counter matchCount;
+	private final Counter mismatchCount;
+	private final Counter errorCount;
+	private final Counter skippedCount;
+
+	public SajuResponseService(LocalSajuService localSajuService, PostellerService postellerService,
+		MeterRegistry meterRegistry,
+		@Value("${manse.local-engine.percent:100}") int localPercent,
+		@Value("${manse.local-engine.shadow.percent:0}") int shadowPercent,
+		@Value("${manse.local-engine.shadow.max-in-flight:16}") int maxInFlight) {
+		this.localSajuService = localSajuService;
+		this.postellerService = postellerService;
+		this.meterRegistry = meterRegistry;
+		this.localPercent = localPercent;
+		this.shadowPercent = shadowPercent;
+		this.shadowPermits = new Semaphore(maxInFlight);
+
+		this.localCount = meterRegistry.counter("manse.saju.source", "source", "local");
+		this.postellerCount = meterRegistry.counter("manse.saju.source", "source", "posteller");
+		this.matchCount = meterRegistry.counter("manse.shadow.compares", "result", "match");
+		this.mismatchCount = meterRegistry.counter("manse.shadow.compares", "result", "mismatch");
+		this.errorCount = meterRegistry.counter("manse.shadow.compares", "result", "error");
+		this.skippedCount = meterRegistry.counter("manse.shadow.compares", "result", "skipped");
+
+		log.info("사주 데이터 소스: local={}%, shadow={}%, maxInFlight={}",
+			localPercent, shadowPercent, maxInFlight);
+	}
+
+	public SajuResponses get(ManseryeokCreateRequest request) {
+		if (!sampled(localPercent)) {
+			postellerCount.increment();
+			return postellerService.getAll(request);
+		}
+
+		localCount.increment();
+		SajuResponses local = localSajuService.getAll(request);
+		if (sampled(shadowPercent)) {
+			shadow(request, local);
+		}
+		return local;
+	}
+
+	private void shadow(ManseryeokCreateRequest request, SajuResponses local) {
+		if (!shadowPermits.tryAcquire()) {
+			skippedCount.increment();
+			return;
+		}
+		try {
+			shadowExecutor.execute(() -> {
+				try {
+					compare(request, local);
+				} finally {
+					shadowPermits.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			shadowPermits.release();
+			skippedCount.increment();
+		}
+	}
+
+	private void compare(ManseryeokCreateRequest request, SajuResponses local) {
+		try {
+			Set<String> fields = SajuResponseComparator.diff(local, postellerService.getAll(request));
+			if (fields.isEmpty()) {
+				matchCount.increment();
+				return;
+			}
+			mismatchCount.increment();
+			for (String field : fields) {
+				meterRegistry.counter("manse.shadow.mismatches", "field", field).increment();
+			}
+			log.warn("섀도 비교 불일치: birthday={}, birthtime={}, fields={}",
+				request.getBirthday(), request.getBirthtime(), fields);
+		} catch (RuntimeException e) {
+			errorCount.increment();
+			log.warn("섀도 비교 중 포스텔러 호출 실패: {}", e.getMessage());
+		}
+	}
+
+	private static boolean sampled(int percent) {
+		return percent >= PERCENT
+			|| (percent > 0 && ThreadLocalRandom.current().nextInt(PERCENT) < percent);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		shadowExecutor.shutdown();
+	}
+}
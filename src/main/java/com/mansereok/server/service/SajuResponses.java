@@ -0,0 +1,16 @@
+package com.mansereok.server.service;
+
+import com.mansereok.server.service.response.ChartCreateResponse;
+import com.mansereok.server.service.response.DaeunCreateResponse;
+import com.mansereok.server.service.response.OhaengCreateResponse;
+
+/**
+ * 해석에 필요한 사주 데이터 묶음 (대운, 기본 차트, 오행/십성). 포스텔러 API 세 개의 응답과 같은 형태이다.
+ */
+public record SajuResponses(
+	DaeunCreateResponse daeun,
+	ChartCreateResponse chart,
+	OhaengCreateResponse ohaeng
+) {
+
+}
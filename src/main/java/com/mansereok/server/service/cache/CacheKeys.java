@@ -0,0 +1,26 @@
+package com.mansereok.server.service.cache;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 문자열 키를 {@link StripedLruCache} 의 long 키로 바꾼다.
+ * <p>
+ * 64비트 FNV-1a 해시이므로 충돌 가능성이 있다. 호출하는 쪽은 원래 문자열을 값과 함께 보관해 적중 시 비교해야 한다.
+ */
+public final class CacheKeys {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private CacheKeys() {
+	}
+
+	public static long hash(String key) {
+		long hash = FNV_OFFSET;
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+}
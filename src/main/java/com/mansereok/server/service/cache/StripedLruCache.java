@@ -0,0 +1,182 @@
+package com.mansereok.server.service.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * long 키를 쓰는 크기 제한 LRU 캐시.
+ * <p>
+ * 키를 해시해 여러 stripe 로 나누고, stripe 마다 접근 순서 {@link LinkedHashMap} 과 락을 하나씩 둔다.
+ * 서로 다른 stripe 의 키는 경합하지 않으며, 각 stripe 는 전체 크기를 stripe 수로 나눈 만큼만 보관한다.
+ * 적중/미스/축출 수와 적중률은 {@link LongAdder} 로 세고 {@link #bindTo(MeterRegistry)} 로 Micrometer 에 노출한다.
+ */
+public final class StripedLruCache<V> implements MeterBinder {
+
+	private final String name;
+	private final List<Stripe<V>> stripes;
+	private final int mask;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param name       메트릭 이름
+	 * @param maxSize    최대 보관 건수 (전체)
+	 * @param stripeHint stripe 수. 2의 거듭제곱으로 내림한다.
+	 */
+	public StripedLruCache(String name, int maxSize, int stripeHint) {
+		if (maxSize <= 0 || stripeHint <= 0) {
+			throw new IllegalArgumentException("캐시 크기와 stripe 수는 0보다 커야 합니다.");
+		}
+		int count = Integer.highestOneBit(Math.min(stripeHint, maxSize));
+
+		this.name = name;
+		this.mask = count - 1;
+		int perStripe = Math.max(1, maxSize / count);
+		List<Stripe<V>> stripes = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			stripes.add(new Stripe<>(perStripe, evictions));
+		}
+		this.stripes = List.copyOf(stripes);
+	}
+
+	public V get(long key) {
+		return get(key, value -> true);
+	}
+
+	/**
+	 * 값이 valid 를 만족할 때만 돌려준다. 만족하지 않으면(만료 등) 항목을 지우고 미스로 센다.
+	 */
+	public V get(long key, Predicate<? super V> valid) {
+		Stripe<V> stripe = stripeOf(key);
+		V value;
+		stripe.lock.lock();
+		try {
+			value = stripe.entries.get(key);
+			if (value != null && !valid.test(value)) {
+				stripe.entries.remove(key);
+				value = null;
+			}
+		} finally {
+			stripe.lock.unlock();
+		}
+
+		if (value == null) {
+			misses.increment();
+		} else {
+			hits.increment();
+		}
+		return value;
+	}
+
+	public void put(long key, V value) {
+		Stripe<V> stripe = stripeOf(key);
+		stripe.lock.lock();
+		try {
+			stripe.entries.put(key, value);
+		} finally {
+			stripe.lock.unlock();
+		}
+	}
+
+	public void clear() {
+		for (Stripe<V> stripe : stripes) {
+			stripe.lock.lock();
+			try {
+				stripe.entries.clear();
+			} finally {
+				stripe.lock.unlock();
+			}
+		}
+	}
+
+	public long size() {
+		long size = 0;
+		for (Stripe<V> stripe : stripes) {
+			stripe.lock.lock();
+			try {
+				size += stripe.entries.size();
+			} finally {
+				stripe.lock.unlock();
+			}
+		}
+		return size;
+	}
+
+	public long hits() {
+		return hits.sum();
+	}
+
+	public long misses() {
+		return misses.sum();
+	}
+
+	public long evictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * 적중률 (조회가 없으면 0)
+	 */
+	public double hitRatio() {
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(name + ".gets", hits, LongAdder::sum)
+			.tag("result", "hit")
+			.description("캐시 적중 수")
+			.register(registry);
+		FunctionCounter.builder(name + ".gets", misses, LongAdder::sum)
+			.tag("result", "miss")
+			.description("캐시 미스 수")
+			.register(registry);
+		FunctionCounter.builder(name + ".evictions", evictions, LongAdder::sum)
+			.description("크기 제한으로 축출된 항목 수")
+			.register(registry);
+		Gauge.builder(name + ".size", this, StripedLruCache::size)
+			.description("현재 보관 중인 항목 수")
+			.register(registry);
+		Gauge.builder(name + ".hit.ratio", this, StripedLruCache::hitRatio)
+			.description("캐시 적중률")
+			.register(registry);
+	}
+
+	private Stripe<V> stripeOf(long key) {
+		// 날짜처럼 연속된 키가 한 stripe 에 몰리지 않도록 섞는다
+		long h = key * 0x9E3779B97F4A7C15L;
+		return stripes.get((int) (h ^ (h >>> 32)) & mask);
+	}
+
+	private static final class Stripe<V> {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final LinkedHashMap<Long, V> entries;
+
+		private Stripe(int capacity, LongAdder evictions) {
+			this.entries = new LinkedHashMap<>(Math.min(capacity, 1 << 16) * 4 / 3 + 1, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+					if (size() > capacity) {
+						evictions.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+	}
+}
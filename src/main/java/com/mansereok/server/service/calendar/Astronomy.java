@@ -0,0 +1,296 @@
+package com.mansereok.server.service.calendar;
+
+import java.time.Instant;
+
+/**
+ * 절기/합삭 계산에 필요한 천문 계산 모음.
+ * <p>
+ * Jean Meeus, "Astronomical Algorithms" (2nd ed.) 의 알고리즘을 따른다.
+ * 태양 황경은 VSOP87 축약 계열(25장, 부록 III)로 계산하며 1~2초각 수준의 정확도를 가진다.
+ * 합삭(신월) 시각은 49장의 주기항 보정식으로 계산하며 오차는 수십 초 이내다.
+ * 시각은 모두 율리우스일(JD)로 다루며, 역학시(TT)와 세계시(UT)의 차이는 {@link #deltaT(double)} 로 보정한다.
+ */
+public final class Astronomy {
+
+	public static final double J2000 = 2451545.0;
+	private static final double UNIX_EPOCH_JD = 2440587.5;
+	private static final double SECONDS_PER_DAY = 86400.0;
+	private static final double SYNODIC_MONTH = 29.530588861;
+
+	// VSOP87 지구 황경 계열 {A, B, C} : A * cos(B + C * tau)
+	private static final double[][] L0 = {
+		{175347046, 0, 0}, {3341656, 4.6692568, 6283.0758500}, {34894, 4.62610, 12566.15170},
+		{3497, 2.7441, 5753.3849}, {3418, 2.8289, 3.5231}, {3136, 3.6277, 77713.7715},
+		{2676, 4.4181, 7860.4194}, {2343, 6.1352, 3930.2097}, {1324, 0.7425, 11506.7698},
+		{1273, 2.0371, 529.6910}, {1199, 1.1096, 1577.3435}, {990, 5.233, 5884.927},
+		{902, 2.045, 26.298}, {857, 3.508, 398.149}, {780, 1.179, 5223.694},
+		{753, 2.533, 5507.553}, {505, 4.583, 18849.228}, {492, 4.205, 775.523},
+		{357, 2.920, 0.067}, {317, 5.849, 11790.629}, {284, 1.899, 796.298},
+		{271, 0.315, 10977.079}, {243, 0.345, 5486.778}, {206, 4.806, 2544.314},
+		{205, 1.869, 5573.143}, {202, 2.458, 6069.777}, {156, 0.833, 213.299},
+		{132, 3.411, 2942.463}, {126, 1.083, 20.775}, {115, 0.645, 0.980},
+		{103, 0.636, 4694.003}, {102, 0.976, 15720.839}, {102, 4.267, 7.114},
+		{99, 6.21, 2146.17}, {98, 0.68, 155.42}, {86, 5.98, 161000.69},
+		{85, 1.30, 6275.96}, {85, 3.67, 71430.70}, {80, 1.81, 17260.15},
+		{79, 3.04, 12036.46}, {75, 1.76, 5088.63}, {74, 3.50, 3154.69},
+		{74, 4.68, 801.82}, {70, 0.83, 9437.76}, {62, 3.98, 8827.39},
+		{61, 1.82, 7084.90}, {57, 2.78, 6286.60}, {56, 4.39, 14143.50},
+		{56, 3.47, 6279.55}, {52, 0.19, 12139.55}, {52, 1.33, 1748.02},
+		{51, 0.28, 5856.48}, {49, 0.49, 1194.45}, {41, 5.37, 8429.24},
+		{41, 2.40, 19651.05}, {39, 6.17, 10447.39}, {37, 6.04, 10213.29},
+		{37, 2.57, 1059.38}, {36, 1.71, 2352.87}, {36, 1.78, 6812.77},
+		{33, 0.59, 17789.85}, {30, 0.44, 83996.85}, {30, 2.74, 1349.87},
+		{25, 3.16, 4690.48}
+	};
+
+	private static final double[][] L1 = {
+		{628331966747.0, 0, 0}, {206059, 2.678235, 6283.075850}, {4303, 2.6351, 12566.1517},
+		{425, 1.590, 3.523}, {119, 5.796, 26.298}, {109, 2.966, 1577.344},
+		{93, 2.59, 18849.23}, {72, 1.14, 529.69}, {68, 1.87, 398.15},
+		{67, 4.41, 5507.55}, {59, 2.89, 5223.69}, {56, 2.17, 155.42},
+		{45, 0.40, 796.30}, {36, 0.47, 775.52}, {29, 2.65, 7.11},
+		{21, 5.34, 0.98}, {19, 1.85, 5486.78}, {19, 4.97, 213.30},
+		{17, 2.99, 6275.96}, {16, 0.03, 2544.31}, {16, 1.43, 2146.17},
+		{15, 1.21, 10977.08}, {12, 2.83, 1748.02}, {12, 3.26, 5088.63},
+		{12, 5.27, 1194.45}, {12, 2.08, 4694.00}, {11, 0.77, 553.57},
+		{10, 1.30, 6286.60}, {10, 4.24, 1349.87}, {9, 2.70, 242.73},
+		{9, 5.64, 951.72}, {8, 5.30, 2352.87}, {6, 2.65, 9437.76},
+		{6, 4.67, 4690.48}
+	};
+
+	private static final double[][] L2 = {
+		{52919, 0, 0}, {8720, 1.0721, 6283.0758}, {309, 0.867, 12566.152},
+		{27, 0.05, 3.52}, {16, 5.19, 26.30}, {16, 3.68, 155.42},
+		{10, 0.76, 18849.23}, {9, 2.06, 77713.77}, {7, 0.83, 775.52},
+		{5, 4.66, 1577.34}, {4, 1.03, 7.11}, {4, 3.44, 5573.14},
+		{3, 5.14, 796.30}, {3, 6.05, 5507.55}, {3, 1.19, 242.73},
+		{3, 6.12, 529.69}, {3, 0.31, 398.15}, {3, 2.28, 553.57},
+		{2, 4.38, 5223.69}, {2, 3.75, 0.98}
+	};
+
+	private static final double[][] L3 = {
+		{289, 5.844, 6283.076}, {35, 0, 0}, {17, 5.49, 12566.15},
+		{3, 5.20, 155.42}, {1, 4.72, 3.52}, {1, 5.30, 18849.23},
+		{1, 5.97, 242.73}
+	};
+
+	private static final double[][] L4 = {
+		{114, 3.142, 0}, {8, 4.13, 6283.08}, {1, 3.84, 12566.15}
+	};
+
+	private static final double[][] L5 = {
+		{1, 3.14, 0}
+	};
+
+	private Astronomy() {
+	}
+
+	public static double toJulianDay(Instant instant) {
+		return UNIX_EPOCH_JD + (instant.getEpochSecond() + instant.getNano() / 1e9) / SECONDS_PER_DAY;
+	}
+
+	public static Instant toInstant(double julianDay) {
+		double seconds = (julianDay - UNIX_EPOCH_JD) * SECONDS_PER_DAY;
+		return Instant.ofEpochSecond(Math.round(seconds));
+	}
+
+	/**
+	 * 역학시(TT) 율리우스일을 세계시(UT) 율리우스일로 변환
+	 */
+	public static double toUniversalTime(double jde) {
+		double year = 2000.0 + (jde - J2000) / 365.25;
+		return jde - deltaT(year) / SECONDS_PER_DAY;
+	}
+
+	/**
+	 * 세계시(UT) 율리우스일을 역학시(TT) 율리우스일로 변환
+	 */
+	public static double toDynamicalTime(double jd) {
+		double year = 2000.0 + (jd - J2000) / 365.25;
+		return jd + deltaT(year) / SECONDS_PER_DAY;
+	}
+
+	/**
+	 * ΔT = TT - UT (초). Espenak &amp; Meeus 다항식 근사.
+	 */
+	public static double deltaT(double year) {
+		double t;
+		if (year < 1700) {
+			double u = (year - 1820) / 100;
+			return -20 + 32 * u * u;
+		}
+		if (year < 1800) {
+			t = year - 1700;
+			return 8.83 + 0.1603 * t - 0.0059285 * t * t + 0.00013336 * t * t * t
+				- t * t * t * t / 1174000;
+		}
+		if (year < 1860) {
+			t = year - 1800;
+			return 13.72 - 0.332447 * t + 0.0068612 * Math.pow(t, 2) + 0.0041116 * Math.pow(t, 3)
+				- 0.00037436 * Math.pow(t, 4) + 0.0000121272 * Math.pow(t, 5)
+				- 0.0000001699 * Math.pow(t, 6) + 0.000000000875 * Math.pow(t, 7);
+		}
+		if (year < 1900) {
+			t = year - 1860;
+			return 7.62 + 0.5737 * t - 0.251754 * Math.pow(t, 2) + 0.01680668 * Math.pow(t, 3)
+				- 0.0004473624 * Math.pow(t, 4) + Math.pow(t, 5) / 233174;
+		}
+		if (year < 1920) {
+			t = year - 1900;
+			return -2.79 + 1.494119 * t - 0.0598939 * Math.pow(t, 2) + 0.0061966 * Math.pow(t, 3)
+				- 0.000197 * Math.pow(t, 4);
+		}
+		if (year < 1941) {
+			t = year - 1920;
+			return 21.20 + 0.84493 * t - 0.076100 * Math.pow(t, 2) + 0.0020936 * Math.pow(t, 3);
+		}
+		if (year < 1961) {
+			t = year - 1950;
+			return 29.07 + 0.407 * t - Math.pow(t, 2) / 233 + Math.pow(t, 3) / 2547;
+		}
+		if (year < 1986) {
+			t = year - 1975;
+			return 45.45 + 1.067 * t - Math.pow(t, 2) / 260 - Math.pow(t, 3) / 718;
+		}
+		if (year < 2005) {
+			t = year - 2000;
+			return 63.86 + 0.3345 * t - 0.060374 * Math.pow(t, 2) + 0.0017275 * Math.pow(t, 3)
+				+ 0.000651814 * Math.pow(t, 4) + 0.00002373599 * Math.pow(t, 5);
+		}
+		if (year < 2050) {
+			t = year - 2000;
+			return 62.92 + 0.32217 * t + 0.005589 * t * t;
+		}
+		double u = (year - 1820) / 100;
+		if (year < 2150) {
+			return -20 + 32 * u * u - 0.5628 * (2150 - year);
+		}
+		return -20 + 32 * u * u;
+	}
+
+	/**
+	 * 태양의 겉보기 황경 (도, 0 이상 360 미만)
+	 *
+	 * @param jde 역학시 율리우스일
+	 */
+	public static double apparentSolarLongitude(double jde) {
+		double tau = (jde - J2000) / 365250.0;
+		double t = tau * 10;
+
+		double l = (series(L0, tau) + series(L1, tau) * tau + series(L2, tau) * tau * tau
+			+ series(L3, tau) * Math.pow(tau, 3) + series(L4, tau) * Math.pow(tau, 4)
+			+ series(L5, tau) * Math.pow(tau, 5)) / 1e8;
+
+		// 지심 황경 = 태양중심 지구 황경 + 180도, FK5 보정
+		double longitude = Math.toDegrees(l) + 180.0 - 0.09033 / 3600.0;
+
+		// 장동
+		double omega = Math.toRadians(125.04452 - 1934.136261 * t);
+		double sunMean = Math.toRadians(280.4665 + 36000.7698 * t);
+		double moonMean = Math.toRadians(218.3165 + 481267.8813 * t);
+		double nutation = -17.20 * Math.sin(omega) - 1.32 * Math.sin(2 * sunMean)
+			- 0.23 * Math.sin(2 * moonMean) + 0.21 * Math.sin(2 * omega);
+
+		// 광행차 (태양-지구 거리 보정 포함)
+		double anomaly = Math.toRadians(357.52911 + 35999.05029 * t);
+		double distance = 1.000140 - 0.016708 * Math.cos(anomaly) - 0.000141 * Math.cos(2 * anomaly);
+		double aberration = -20.4898 / distance;
+
+		return normalize(longitude + (nutation + aberration) / 3600.0);
+	}
+
+	/**
+	 * 주어진 역학시 율리우스일 무렵의 합삭 번호 k (2000년 1월 6일 합삭이 0)
+	 */
+	public static long newMoonNumber(double jde) {
+		return Math.round((jde - 2451550.09766) / SYNODIC_MONTH);
+	}
+
+	/**
+	 * k 번째 합삭의 역학시 율리우스일
+	 */
+	public static double newMoon(long k) {
+		double t = k / 1236.85;
+		double t2 = t * t;
+		double t3 = t2 * t;
+		double t4 = t3 * t;
+
+		double jde = 2451550.09766 + SYNODIC_MONTH * k + 0.00015437 * t2 - 0.000000150 * t3
+			+ 0.00000000073 * t4;
+		double e = 1 - 0.002516 * t - 0.0000074 * t2;
+		double m = Math.toRadians(2.5534 + 29.10535670 * k - 0.0000014 * t2 - 0.00000011 * t3);
+		double mp = Math.toRadians(201.5643 + 385.81693528 * k + 0.0107582 * t2 + 0.00001238 * t3
+			- 0.000000058 * t4);
+		double f = Math.toRadians(160.7108 + 390.67050284 * k - 0.0016118 * t2 - 0.00000227 * t3
+			+ 0.000000011 * t4);
+		double omega = Math.toRadians(124.7746 - 1.56375588 * k + 0.0020672 * t2 + 0.00000215 * t3);
+
+		double correction = -0.40720 * Math.sin(mp)
+			+ 0.17241 * e * Math.sin(m)
+			+ 0.01608 * Math.sin(2 * mp)
+			+ 0.01039 * Math.sin(2 * f)
+			+ 0.00739 * e * Math.sin(mp - m)
+			- 0.00514 * e * Math.sin(mp + m)
+			+ 0.00208 * e * e * Math.sin(2 * m)
+			- 0.00111 * Math.sin(mp - 2 * f)
+			- 0.00057 * Math.sin(mp + 2 * f)
+			+ 0.00056 * e * Math.sin(2 * mp + m)
+			- 0.00042 * Math.sin(3 * mp)
+			+ 0.00042 * e * Math.sin(m + 2 * f)
+			+ 0.00038 * e * Math.sin(m - 2 * f)
+			- 0.00024 * e * Math.sin(2 * mp - m)
+			- 0.00017 * Math.sin(omega)
+			- 0.00007 * Math.sin(mp + 2 * m)
+			+ 0.00004 * Math.sin(2 * mp - 2 * f)
+			+ 0.00004 * Math.sin(3 * m)
+			+ 0.00003 * Math.sin(mp + m - 2 * f)
+			+ 0.00003 * Math.sin(2 * mp + 2 * f)
+			- 0.00003 * Math.sin(mp + m + 2 * f)
+			+ 0.00003 * Math.sin(mp - m + 2 * f)
+			- 0.00002 * Math.sin(mp - m - 2 * f)
+			- 0.00002 * Math.sin(3 * mp + m)
+			+ 0.00002 * Math.sin(4 * mp);
+
+		// 행성 섭동
+		double[] arguments = {
+			299.77 + 0.107408 * k - 0.009173 * t2, 251.88 + 0.016321 * k, 251.83 + 26.651886 * k,
+			349.42 + 36.412478 * k, 84.66 + 18.206239 * k, 141.74 + 53.303771 * k,
+			207.14 + 2.453732 * k, 154.84 + 7.306860 * k, 34.52 + 27.261239 * k,
+			207.19 + 0.121824 * k, 291.34 + 1.844379 * k, 161.72 + 24.198154 * k,
+			239.56 + 25.513099 * k, 331.55 + 3.592518 * k
+		};
+		double[] amplitudes = {
+			0.000325, 0.000165, 0.000164, 0.000126, 0.000110, 0.000062, 0.000060,
+			0.000056, 0.000047, 0.000042, 0.000040, 0.000037, 0.000035, 0.000023
+		};
+		for (int i = 0; i < arguments.length; i++) {
+			correction += amplitudes[i] * Math.sin(Math.toRadians(arguments[i]));
+		}
+
+		return jde + correction;
+	}
+
+	/**
+	 * 각도를 0 이상 360 미만으로 정규화
+	 */
+	public static double normalize(double degrees) {
+		double value = degrees % 360.0;
+		return value < 0 ? value + 360.0 : value;
+	}
+
+	/**
+	 * 두 각도의 차이 (target - current) 를 -180 초과 180 이하로 정규화
+	 */
+	public static double angleDifference(double target, double current) {
+		double diff = normalize(target - current);
+		return diff > 180.0 ? diff - 360.0 : diff;
+	}
+
+	private static double series(double[][] terms, double tau) {
+		double sum = 0;
+		for (double[] term : terms) {
+			sum += term[0] * Math.cos(term[1] + term[2] * tau);
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,65 @@
+package com.mansereok.server.service.calendar;
+
+import com.mansereok.server.entity.Manse;
+import com.mansereok.server.service.saju.Branch;
+import com.mansereok.server.service.saju.Ganji;
+import com.mansereok.server.service.saju.SajuTables;
+import com.mansereok.server.service.saju.Stem;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 만세력 하루치 데이터. 간지는 {@link SajuTables} 코드로 보관한다.
+ */
+public record CalendarDay(
+	LocalDate solarDate,
+	LocalDate lunarDate,
+	boolean leapMonth,
+	String season,
+	LocalDateTime seasonStartTime,
+	int yearSky,
+	int yearGround,
+	int monthSky,
+	int monthGround,
+	int daySky,
+	int dayGround
+) {
+
+	public static CalendarDay from(Manse manse) {
+		return new CalendarDay(
+			manse.getSolarDate(),
+			manse.getLunarDate(),
+			Boolean.TRUE.equals(manse.getLeapMonth()),
+			manse.getSeason(),
+			manse.getSeasonStartTime(),
+			SajuTables.code(manse.getYearSky()),
+			SajuTables.code(manse.getYearGround()),
+			SajuTables.code(manse.getMonthSky()),
+			SajuTables.code(manse.getMonthGround()),
+			SajuTables.code(manse.getDaySky()),
+			SajuTables.code(manse.getDayGround())
+		);
+	}
+
+	/**
+	 * 절입일 여부
+	 */
+	public boolean hasSeason() {
+		return season != null && !season.isEmpty() && seasonStartTime != null;
+	}
+
+	public Ganji yearPillar() {
+		return pillar(yearSky, yearGround);
+	}
+
+	public Ganji monthPillar() {
+		return pillar(monthSky, monthGround);
+	}
+
+	private Ganji pillar(int sky, int ground) {
+		if (!SajuTables.isStem(sky) || !SajuTables.isBranch(ground)) {
+			throw new RuntimeException("만세력 간지 데이터가 올바르지 않습니다: " + solarDate);
+		}
+		return Ganji.of(Stem.of(sky), Branch.fromCode(ground));
+	}
+}
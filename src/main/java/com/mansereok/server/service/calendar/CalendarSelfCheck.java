@@ -0,0 +1,195 @@
+package com.mansereok.server.service.calendar;
+
+import com.mansereok.server.service.calendar.LunarCalendarEngine.LunarDate;
+import com.mansereok.server.service.saju.SajuTables;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 계산 엔진과 manses 테이블을 비교하는 자가 점검.
+ * <p>
+ * 메모리 인덱스 적재가 끝난 뒤 모든 행에 대해 산술 일주({@link SexagenaryDay}),
+ * 절기 계산({@link SolarTermEngine}) 의 절입시간과 연주/월주, 음력 계산({@link LunarCalendarEngine}) 의
+ * 음력 날짜를 대조하고, 불일치를 로그로 남긴다. 전체 행을 훑으므로 기동을 늦추지 않도록 별도 스레드에서 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarSelfCheck {
+
+	private static final int MAX_SAMPLES = 10;
+
+	private final ManseCalendarIndex manseCalendarIndex;
+	private final SolarTermEngine solarTermEngine;
+	private final LunarCalendarEngine lunarCalendarEngine;
+
+	@Value("${manse.calendar.self-check.enabled:true}")
+	private boolean enabled;
+
+	@Value("${manse.calendar.self-check.solar-term-tolerance:PT2M}")
+	private Duration solarTermTolerance;
+
+	private volatile List<Report> lastReports = List.of();
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	public void run() {
+		if (!enabled || !manseCalendarIndex.isLoaded()) {
+			return;
+		}
+		// CPU 만 쓰는 긴 작업이라 가상 스레드 대신 데몬 플랫폼 스레드에서 돌린다
+		Thread.ofPlatform()
+			.name("calendar-self-check")
+			.daemon()
+			.start(this::check);
+	}
+
+	/**
+	 * 모든 점검을 지금 스레드에서 실행하고 결과를 로그로 남긴다.
+	 */
+	public void check() {
+		List<Report> reports = List.of(checkDayPillars(), checkSolarTerms(), checkMonthPillars(),
+			checkLunarDates());
+		lastReports = reports;
+		for (Report report : reports) {
+			if (report.mismatches() == 0) {
+				log.info("{} 자가 점검 통과: checked={}", report.name(), report.checked());
+			} else {
+				log.warn("{} 자가 점검 불일치: checked={}, mismatches={}, samples={}",
+					report.name(), report.checked(), report.mismatches(), report.samples());
+			}
+		}
+	}
+
+	/**
+	 * 모든 행의 일주를 산술 계산 결과와 대조한다.
+	 */
+	public Report checkDayPillars() {
+		int[] counts = new int[2];
+		List<String> samples = new ArrayList<>();
+
+		manseCalendarIndex.forEachDay(day -> {
+			counts[0]++;
+			int expectedSky = SexagenaryDay.stem(day.solarDate());
+			int expectedGround = SajuTables.branchCode(SexagenaryDay.branch(day.solarDate()));
+			if (day.daySky() != expectedSky || day.dayGround() != expectedGround) {
+				counts[1]++;
+				if (samples.size() < MAX_SAMPLES) {
+					samples.add(String.format("%s: table=%s%s, computed=%s%s", day.solarDate(),
+						name(day.daySky()), name(day.dayGround()),
+						SajuTables.chinese(expectedSky), SajuTables.chinese(expectedGround)));
+				}
+			}
+		});
+
+		return new Report("day-pillar", counts[0], counts[1], samples);
+	}
+
+	/**
+	 * 절입일 행의 절입시간을 계산된 절기 시각과 대조한다. 허용 오차를 넘는 행만 불일치로 센다.
+	 */
+	public Report checkSolarTerms() {
+		int[] counts = new int[2];
+		long[] maxDeviation = new long[1];
+		List<String> samples = new ArrayList<>();
+
+		manseCalendarIndex.forEachDay(day -> {
+			if (!day.hasSeason()) {
+				return;
+			}
+			counts[0]++;
+			LocalDateTime tableTime = day.seasonStartTime();
+			int term = solarTermEngine.nearestTerm(tableTime);
+			LocalDateTime computed = solarTermEngine.termTime(tableTime.getYear(), term);
+			long deviation = Math.abs(ChronoUnit.SECONDS.between(tableTime, computed));
+			maxDeviation[0] = Math.max(maxDeviation[0], deviation);
+			if (deviation > solarTermTolerance.toSeconds()) {
+				counts[1]++;
+				if (samples.size() < MAX_SAMPLES) {
+					samples.add(String.format("%s(%s): table=%s, computed=%s", day.solarDate(),
+						SolarTermEngine.TERM_NAMES.get(term), tableTime, computed));
+				}
+			}
+		});
+
+		log.info("절입시간 최대 오차: {}초", maxDeviation[0]);
+		return new Report("solar-term", counts[0], counts[1], samples);
+	}
+
+	/**
+	 * 모든 행의 연주/월주를 절기 계산 결과와 대조한다.
+	 */
+	public Report checkMonthPillars() {
+		int[] counts = new int[2];
+		List<String> samples = new ArrayList<>();
+
+		manseCalendarIndex.forEachDay(day -> {
+			counts[0]++;
+			CalendarDay computed = solarTermEngine.calendarDay(day.solarDate());
+			if (day.yearSky() != computed.yearSky() || day.yearGround() != computed.yearGround()
+				|| day.monthSky() != computed.monthSky() || day.monthGround() != computed.monthGround()) {
+				counts[1]++;
+				if (samples.size() < MAX_SAMPLES) {
+					samples.add(String.format("%s: table=%s%s/%s%s, computed=%s%s/%s%s", day.solarDate(),
+						name(day.yearSky()), name(day.yearGround()),
+						name(day.monthSky()), name(day.monthGround()),
+						name(computed.yearSky()), name(computed.yearGround()),
+						name(computed.monthSky()), name(computed.monthGround())));
+				}
+			}
+		});
+
+		return new Report("month-pillar", counts[0], counts[1], samples);
+	}
+
+	/**
+	 * 모든 행의 음력 날짜와 윤달 여부를 음력 계산 결과와 대조한다.
+	 */
+	public Report checkLunarDates() {
+		int[] counts = new int[2];
+		List<String> samples = new ArrayList<>();
+
+		manseCalendarIndex.forEachDay(day -> {
+			LocalDate table = day.lunarDate();
+			if (table == null) {
+				return;
+			}
+			counts[0]++;
+			LunarDate computed = lunarCalendarEngine.toLunar(day.solarDate());
+			if (table.getYear() != computed.year() || table.getMonthValue() != computed.month()
+				|| table.getDayOfMonth() != computed.day() || day.leapMonth() != computed.leapMonth()) {
+				counts[1]++;
+				if (samples.size() < MAX_SAMPLES) {
+					samples.add(String.format("%s: table=%s%s, computed=%s", day.solarDate(), table,
+						day.leapMonth() ? "(윤)" : "", computed));
+				}
+			}
+		});
+
+		return new Report("lunar-date", counts[0], counts[1], samples);
+	}
+
+	public List<Report> getLastReports() {
+		return lastReports;
+	}
+
+	private static String name(int code) {
+		return code == SajuTables.NONE ? "?" : SajuTables.chinese(code);
+	}
+
+	public record Report(String name, int checked, int mismatches, List<String> samples) {
+
+	}
+}
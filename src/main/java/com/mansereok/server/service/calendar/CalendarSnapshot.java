@@ -0,0 +1,213 @@
+package com.mansereok.server.service.calendar;
+
+import com.mansereok.server.entity.Manse;
+import com.mansereok.server.service.saju.SajuTables;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 만세력 불변 스냅샷. 재적재 시에는 통째로 교체한다.
+ * <p>
+ * 하루치 데이터를 고정 길이 레코드({@link #RECORD_SIZE} 바이트)로 보관한다.
+ * DB 에서 적재하면 힙 버퍼에, {@link CalendarSnapshotFile} 에서 적재하면 메모리 맵 버퍼에 같은 형식으로 담긴다.
+ * <pre>
+ * offset  size  field
+ *      0     1  flags (PRESENT=1, LEAP_MONTH=2)
+ *      1     6  연간, 연지, 월간, 월지, 일간, 일지 ({@link SajuTables} 코드)
+ *      7     1  절기 이름 인덱스 (seasonNames, 없으면 -1)
+ *      8     4  음력 날짜 yyyyMMdd (없으면 0)
+ *     12     8  절입시간 현지시각 epoch second (없으면 Long.MIN_VALUE)
+ * </pre>
+ */
+final class CalendarSnapshot {
+
+	static final int RECORD_SIZE = 20;
+
+	static final CalendarSnapshot EMPTY = new CalendarSnapshot(0, ByteBuffer.allocate(0), List.of());
+
+	private static final byte PRESENT = 1;
+	private static final byte LEAP_MONTH = 1 << 1;
+	private static final byte NO_SEASON_NAME = -1;
+	private static final long NO_SEASON = Long.MIN_VALUE;
+
+	private static final int FLAGS = 0;
+	private static final int PILLARS = 1;
+	private static final int SEASON_NAME = 7;
+	private static final int LUNAR_DATE = 8;
+	private static final int SEASON_START_TIME = 12;
+
+	private final long firstEpochDay;
+	private final ByteBuffer records;
+	private final List<String> seasonNames;
+
+	// 음력 (연, 월, 일, 윤달) -> 양력 인덱스 + 1 (0 은 없음)
+	private int firstLunarYear;
+	private int[] lunarIndex = new int[0];
+
+	CalendarSnapshot(long firstEpochDay, ByteBuffer records, List<String> seasonNames) {
+		this.firstEpochDay = firstEpochDay;
+		this.records = records.order(ByteOrder.BIG_ENDIAN);
+		this.seasonNames = List.copyOf(seasonNames);
+		buildLunarIndex();
+	}
+
+	static CalendarSnapshot of(List<Manse> manses) {
+		if (manses.isEmpty()) {
+			return EMPTY;
+		}
+
+		long first = manses.get(0).getSolarDate().toEpochDay();
+		long last = manses.get(manses.size() - 1).getSolarDate().toEpochDay();
+		int size = Math.toIntExact(last - first + 1);
+
+		ByteBuffer records = ByteBuffer.allocate(size * RECORD_SIZE);
+		List<String> seasonNames = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			records.put(i * RECORD_SIZE + SEASON_NAME, NO_SEASON_NAME);
+			records.putLong(i * RECORD_SIZE + SEASON_START_TIME, NO_SEASON);
+		}
+		for (Manse manse : manses) {
+			put(records, (int) (manse.getSolarDate().toEpochDay() - first), manse, seasonNames);
+		}
+		return new CalendarSnapshot(first, records, seasonNames);
+	}
+
+	private static void put(ByteBuffer records, int i, Manse manse, List<String> seasonNames) {
+		int offset = i * RECORD_SIZE;
+		records.put(offset + FLAGS,
+			(byte) (PRESENT | (Boolean.TRUE.equals(manse.getLeapMonth()) ? LEAP_MONTH : 0)));
+		records.put(offset + PILLARS, (byte) SajuTables.code(manse.getYearSky()));
+		records.put(offset + PILLARS + 1, (byte) SajuTables.code(manse.getYearGround()));
+		records.put(offset + PILLARS + 2, (byte) SajuTables.code(manse.getMonthSky()));
+		records.put(offset + PILLARS + 3, (byte) SajuTables.code(manse.getMonthGround()));
+		records.put(offset + PILLARS + 4, (byte) SajuTables.code(manse.getDaySky()));
+		records.put(offset + PILLARS + 5, (byte) SajuTables.code(manse.getDayGround()));
+		records.putInt(offset + LUNAR_DATE, pack(manse.getLunarDate()));
+
+		String season = manse.getSeason();
+		if (season != null && !season.isEmpty() && manse.getSeasonStartTime() != null) {
+			int nameIndex = seasonNames.indexOf(season);
+			if (nameIndex < 0) {
+				nameIndex = seasonNames.size();
+				seasonNames.add(season);
+			}
+			records.put(offset + SEASON_NAME, (byte) nameIndex);
+			records.putLong(offset + SEASON_START_TIME,
+				manse.getSeasonStartTime().toEpochSecond(ZoneOffset.UTC));
+		}
+	}
+
+	private void buildLunarIndex() {
+		int minYear = Integer.MAX_VALUE;
+		int maxYear = Integer.MIN_VALUE;
+		for (int i = 0; i < size(); i++) {
+			int packed = lunarDate(i);
+			if (packed != 0) {
+				minYear = Math.min(minYear, packed / 10000);
+				maxYear = Math.max(maxYear, packed / 10000);
+			}
+		}
+		if (minYear > maxYear) {
+			return;
+		}
+
+		firstLunarYear = minYear;
+		lunarIndex = new int[lunarKey(maxYear, 12, 31, true) + 1];
+		for (int i = 0; i < size(); i++) {
+			int packed = lunarDate(i);
+			if (packed != 0) {
+				int key = lunarKey(packed / 10000, packed / 100 % 100, packed % 100, isLeapMonth(i));
+				lunarIndex[key] = i + 1;
+			}
+		}
+	}
+
+	private int lunarKey(int year, int month, int day, boolean leap) {
+		int dayKey = ((year - firstLunarYear) * 12 + month - 1) * 31 + day - 1;
+		return (dayKey << 1) | (leap ? 1 : 0);
+	}
+
+	int size() {
+		return records.capacity() / RECORD_SIZE;
+	}
+
+	long firstEpochDay() {
+		return firstEpochDay;
+	}
+
+	List<String> seasonNames() {
+		return seasonNames;
+	}
+
+	/**
+	 * 레코드 영역 전체 (읽기 전용 복제본)
+	 */
+	ByteBuffer records() {
+		return records.asReadOnlyBuffer().clear();
+	}
+
+	int indexOf(long epochDay) {
+		long i = epochDay - firstEpochDay;
+		if (i < 0 || i >= size() || (records.get((int) i * RECORD_SIZE + FLAGS) & PRESENT) == 0) {
+			return -1;
+		}
+		return (int) i;
+	}
+
+	int indexOfLunar(LocalDate date, boolean leap) {
+		if (lunarIndex.length == 0 || date.getYear() < firstLunarYear) {
+			return -1;
+		}
+		int key = lunarKey(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), leap);
+		return key < lunarIndex.length ? lunarIndex[key] - 1 : -1;
+	}
+
+	CalendarDay day(int i) {
+		int offset = i * RECORD_SIZE;
+		byte nameIndex = records.get(offset + SEASON_NAME);
+		long seasonStartTime = records.getLong(offset + SEASON_START_TIME);
+		boolean hasSeason = nameIndex != NO_SEASON_NAME && seasonStartTime != NO_SEASON;
+
+		return new CalendarDay(
+			LocalDate.ofEpochDay(firstEpochDay + i),
+			unpack(lunarDate(i)),
+			isLeapMonth(i),
+			hasSeason ? seasonNames.get(nameIndex) : null,
+			hasSeason ? LocalDateTime.ofEpochSecond(seasonStartTime, 0, ZoneOffset.UTC) : null,
+			records.get(offset + PILLARS), records.get(offset + PILLARS + 1),
+			records.get(offset + PILLARS + 2), records.get(offset + PILLARS + 3),
+			records.get(offset + PILLARS + 4), records.get(offset + PILLARS + 5)
+		);
+	}
+
+	LocalDate firstDate() {
+		return LocalDate.ofEpochDay(firstEpochDay);
+	}
+
+	LocalDate lastDate() {
+		return LocalDate.ofEpochDay(firstEpochDay + size() - 1);
+	}
+
+	private int lunarDate(int i) {
+		return records.getInt(i * RECORD_SIZE + LUNAR_DATE);
+	}
+
+	private boolean isLeapMonth(int i) {
+		return (records.get(i * RECORD_SIZE + FLAGS) & LEAP_MONTH) != 0;
+	}
+
+	private static int pack(LocalDate date) {
+		return date == null ? 0
+			: date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+	}
+
+	private static LocalDate unpack(int packed) {
+		return packed == 0 ? null
+			: LocalDate.of(packed / 10000, packed / 100 % 100, packed % 100);
+	}
+}
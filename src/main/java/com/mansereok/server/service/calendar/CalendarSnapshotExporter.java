@@ -0,0 +1,45 @@
+package com.mansereok.server.service.calendar;
+
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만세력 스냅샷 파일 내보내기 실행기.
+ * <p>
+ * manse.calendar.snapshot.export-path 가 지정되면 manses 테이블을 스냅샷 파일로 쓰고 애플리케이션을 종료한다.
+ * 빌드 단계에서는 {@code gradle exportCalendarSnapshot} 으로 실행한다.
+ */
+@Component
+@ConditionalOnProperty(name = "manse.calendar.snapshot.export-path")
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarSnapshotExporter implements ApplicationRunner {
+
+	private final ManseCalendarIndex manseCalendarIndex;
+	private final ConfigurableApplicationContext context;
+
+	@Value("${manse.calendar.snapshot.export-path}")
+	private String exportPath;
+
+	@Override
+	public void run(ApplicationArguments args) throws Exception {
+		int exitCode = 0;
+		try {
+			manseCalendarIndex.export(Path.of(exportPath));
+		} catch (Exception e) {
+			log.error("만세력 스냅샷 파일 내보내기 실패: path={}", exportPath, e);
+			exitCode = 1;
+		}
+
+		int code = exitCode;
+		System.exit(SpringApplication.exit(context, () -> code));
+	}
+}
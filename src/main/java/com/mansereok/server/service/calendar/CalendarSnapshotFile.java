@@ -0,0 +1,150 @@
+package com.mansereok.server.service.calendar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 만세력 스냅샷 바이너리 파일 읽기/쓰기.
+ * <pre>
+ * header (32 bytes, big-endian)
+ *      0  int    magic "MNSE"
+ *      4  short  version
+ *      6  short  record size
+ *      8  long   첫 날짜 epoch day
+ *     16  int    날짜 수
+ *     20  int    절기 이름 블록 길이 (bytes)
+ *     24  int    CRC32 (절기 이름 블록 + 레코드)
+ *     28  int    reserved
+ * 절기 이름 블록: short 개수, (byte 길이, UTF-8) 반복
+ * 레코드: {@link CalendarSnapshot} 형식의 고정 길이 레코드가 날짜 순으로 이어진다
+ * </pre>
+ * 읽을 때는 {@link FileChannel#map} 으로 파일을 그대로 매핑하므로 힙으로 복사하지 않는다.
+ */
+final class CalendarSnapshotFile {
+
+	static final int MAGIC = 0x4D4E5345; // "MNSE"
+	static final short VERSION = 1;
+
+	private static final int HEADER_SIZE = 32;
+	private static final int CRC_OFFSET = 24;
+
+	private CalendarSnapshotFile() {
+	}
+
+	/**
+	 * 스냅샷을 파일로 쓴다. 임시 파일에 쓴 뒤 교체하므로 읽는 쪽이 반쯤 쓰인 파일을 보지 않는다.
+	 */
+	static void write(CalendarSnapshot snapshot, Path path) throws IOException {
+		ByteBuffer names = encodeNames(snapshot.seasonNames());
+		ByteBuffer records = snapshot.records();
+
+		CRC32 crc = new CRC32();
+		crc.update(names.duplicate());
+		crc.update(records.duplicate());
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+		header.putInt(MAGIC)
+			.putShort(VERSION)
+			.putShort((short) CalendarSnapshot.RECORD_SIZE)
+			.putLong(snapshot.firstEpochDay())
+			.putInt(snapshot.size())
+			.putInt(names.remaining())
+			.putInt((int) crc.getValue())
+			.putInt(0)
+			.flip();
+
+		Path parent = path.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+			ByteBuffer[] buffers = {header, names, records};
+			while (header.hasRemaining() || names.hasRemaining() || records.hasRemaining()) {
+				channel.write(buffers);
+			}
+			channel.force(true);
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * 파일을 메모리 맵으로 열어 스냅샷을 만든다. 형식이나 체크섬이 맞지 않으면 예외를 던진다.
+	 */
+	static CalendarSnapshot map(Path path) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		buffer.order(ByteOrder.BIG_ENDIAN);
+
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new RuntimeException("만세력 스냅샷 파일 형식이 아닙니다: " + path);
+		}
+		short version = buffer.getShort(4);
+		if (version != VERSION) {
+			throw new RuntimeException("지원하지 않는 만세력 스냅샷 버전입니다: " + version);
+		}
+		short recordSize = buffer.getShort(6);
+		if (recordSize != CalendarSnapshot.RECORD_SIZE) {
+			throw new RuntimeException("만세력 스냅샷 레코드 크기가 맞지 않습니다: " + recordSize);
+		}
+
+		long firstEpochDay = buffer.getLong(8);
+		int dayCount = buffer.getInt(16);
+		int namesLength = buffer.getInt(20);
+		long recordsOffset = (long) HEADER_SIZE + namesLength;
+		if (namesLength < 0 || dayCount < 0
+			|| recordsOffset + (long) dayCount * recordSize != buffer.capacity()) {
+			throw new RuntimeException("만세력 스냅샷 파일 길이가 맞지 않습니다: " + path);
+		}
+
+		ByteBuffer body = buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+		CRC32 crc = new CRC32();
+		crc.update(body);
+		if ((int) crc.getValue() != buffer.getInt(CRC_OFFSET)) {
+			throw new RuntimeException("만세력 스냅샷 체크섬이 맞지 않습니다: " + path);
+		}
+
+		List<String> names = decodeNames(buffer.slice(HEADER_SIZE, namesLength));
+		ByteBuffer records = buffer.slice((int) recordsOffset, dayCount * recordSize);
+		return new CalendarSnapshot(firstEpochDay, records, names);
+	}
+
+	private static ByteBuffer encodeNames(List<String> names) {
+		List<byte[]> encoded = new ArrayList<>(names.size());
+		int length = Short.BYTES;
+		for (String name : names) {
+			byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+			encoded.add(bytes);
+			length += 1 + bytes.length;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		buffer.putShort((short) names.size());
+		for (byte[] bytes : encoded) {
+			buffer.put((byte) bytes.length).put(bytes);
+		}
+		return buffer.flip();
+	}
+
+	private static List<String> decodeNames(ByteBuffer buffer) {
+		int count = buffer.getShort();
+		List<String> names = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			byte[] bytes = new byte[buffer.get() & 0xFF];
+			buffer.get(bytes);
+			names.add(new String(bytes, StandardCharsets.UTF_8));
+		}
+		return names;
+	}
+}
@@ -0,0 +1,225 @@
+package com.mansereok.server.service.calendar;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 합삭과 중기로 한국 음력을 계산하는 엔진.
+ * <p>
+ * 한국 표준시 기준으로 합삭이 든 날을 초하루로 삼고, 동지가 든 달을 11월로 한다.
+ * 동지에서 다음 동지까지 13개월이면 중기가 없는 첫 달을 윤달로 둔다.
+ * 음력 한 해의 월 시작일(epoch day)은 처음 요청될 때 한 번만 계산해 배열로 보관한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LunarCalendarEngine {
+
+	public static final int MIN_YEAR = SolarTermEngine.MIN_YEAR + 1;
+	public static final int MAX_YEAR = SolarTermEngine.MAX_YEAR - 1;
+
+	private static final int DONGJI = 23;
+
+	private final SolarTermEngine solarTermEngine;
+
+	private final Map<Integer, LunarYear> years = new ConcurrentHashMap<>();
+
+	/**
+	 * 음력 날짜를 양력으로 변환한다. 없는 날짜(윤달이 없는 해의 윤달, 29일까지인 달의 30일 등)는 빈 값.
+	 */
+	public Optional<LocalDate> toSolar(int year, int month, int day, boolean leapMonth) {
+		LunarYear lunarYear = year(year);
+		int index = lunarYear.indexOf(month, leapMonth);
+		if (index < 0 || day < 1 || day > lunarYear.length(index)) {
+			return Optional.empty();
+		}
+		return Optional.of(LocalDate.ofEpochDay(lunarYear.monthStarts[index] + day - 1));
+	}
+
+	public Optional<LocalDate> toSolar(LocalDate lunarDate, boolean leapMonth) {
+		return toSolar(lunarDate.getYear(), lunarDate.getMonthValue(), lunarDate.getDayOfMonth(),
+			leapMonth);
+	}
+
+	/**
+	 * 양력 날짜를 음력으로 변환한다.
+	 */
+	public LunarDate toLunar(LocalDate solarDate) {
+		long epochDay = solarDate.toEpochDay();
+		int year = solarDate.getYear();
+		LunarYear lunarYear = year(year);
+		if (epochDay < lunarYear.monthStarts[0]) {
+			lunarYear = year(--year);
+		}
+
+		int index = lunarYear.monthCount() - 1;
+		while (lunarYear.monthStarts[index] > epochDay) {
+			index--;
+		}
+
+		int leap = lunarYear.leapMonth;
+		int day = (int) (epochDay - lunarYear.monthStarts[index]) + 1;
+		if (leap == 0 || index < leap) {
+			return new LunarDate(year, index + 1, day, false);
+		}
+		return new LunarDate(year, index == leap ? leap : index, day, index == leap);
+	}
+
+	/**
+	 * 해당 음력 연도의 윤달 (없으면 0)
+	 */
+	public int leapMonth(int year) {
+		return year(year).leapMonth;
+	}
+
+	private LunarYear year(int year) {
+		if (year < MIN_YEAR || year > MAX_YEAR) {
+			throw new RuntimeException(
+				"음력 계산은 " + MIN_YEAR + "년부터 " + MAX_YEAR + "년까지만 지원합니다: " + year);
+		}
+		return years.computeIfAbsent(year, this::computeYear);
+	}
+
+	/**
+	 * 음력 year 년의 1월부터 12월(윤달 포함)까지는 year 년 동지 전후 두 세(歲)에 걸쳐 있다.
+	 */
+	private LunarYear computeYear(int year) {
+		List<Month> months = new ArrayList<>(monthsBetweenSolstices(year));
+		months.addAll(monthsBetweenSolstices(year + 1));
+
+		int[] starts = new int[14];
+		int count = 0;
+		int leapMonth = 0;
+		for (Month month : months) {
+			if (month.year() == year) {
+				if (month.leap()) {
+					leapMonth = month.number();
+				}
+				starts[count++] = month.start();
+			} else if (month.year() > year) {
+				starts[count++] = month.start();
+				break;
+			}
+		}
+		return new LunarYear(Arrays.copyOf(starts, count), leapMonth);
+	}
+
+	/**
+	 * 전년도 동지가 든 달(11월)부터 올해 동지가 든 달 직전까지의 달
+	 */
+	private List<Month> monthsBetweenSolstices(int year) {
+		long first = newMoonOnOrBefore(solarTermDay(year - 1, DONGJI));
+		long last = newMoonOnOrBefore(solarTermDay(year, DONGJI));
+		int count = (int) (last - first);
+
+		int[] starts = new int[count + 1];
+		for (int i = 0; i <= count; i++) {
+			starts[i] = newMoonDay(first + i);
+		}
+
+		// 13개월이면 중기가 없는 첫 달이 윤달
+		int leapIndex = -1;
+		if (count == 13) {
+			int[] majorTerms = majorTermDays(year);
+			for (int i = 1; i < count && leapIndex < 0; i++) {
+				if (!containsAny(majorTerms, starts[i], starts[i + 1])) {
+					leapIndex = i;
+				}
+			}
+		}
+
+		List<Month> months = new ArrayList<>(count);
+		int number = 11;
+		int lunarYear = year - 1;
+		for (int i = 0; i < count; i++) {
+			if (i > 0 && i != leapIndex && ++number > 12) {
+				number = 1;
+				lunarYear = year;
+			}
+			months.add(new Month(starts[i], lunarYear, number, i == leapIndex));
+		}
+		return months;
+	}
+
+	/**
+	 * 전년도 동지와 올해 대한 ~ 동지의 중기 날짜
+	 */
+	private int[] majorTermDays(int year) {
+		int[] days = new int[13];
+		days[0] = solarTermDay(year - 1, DONGJI);
+		for (int i = 1; i < days.length; i++) {
+			days[i] = solarTermDay(year, i * 2 - 1);
+		}
+		return days;
+	}
+
+	private static boolean containsAny(int[] days, int from, int to) {
+		for (int day : days) {
+			if (from <= day && day < to) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int solarTermDay(int year, int term) {
+		return (int) solarTermEngine.termTime(year, term).toLocalDate().toEpochDay();
+	}
+
+	private static long newMoonOnOrBefore(int epochDay) {
+		double jd = Astronomy.toJulianDay(LocalDate.ofEpochDay(epochDay).atStartOfDay()
+			.toInstant(ZoneOffset.UTC));
+		long k = Astronomy.newMoonNumber(jd) + 1;
+		while (newMoonDay(k) > epochDay) {
+			k--;
+		}
+		return k;
+	}
+
+	private static int newMoonDay(long k) {
+		return (int) SolarTermEngine.toKoreanStandardTime(Astronomy.newMoon(k)).toLocalDate()
+			.toEpochDay();
+	}
+
+	/**
+	 * 음력 날짜. 음력 2월 30일처럼 {@link LocalDate} 로 표현할 수 없는 날짜가 있어 필드로 보관한다.
+	 */
+	public record LunarDate(int year, int month, int day, boolean leapMonth) {
+
+	}
+
+	private record Month(int start, int year, int number, boolean leap) {
+
+	}
+
+	/**
+	 * 음력 한 해. monthStarts 는 각 달의 초하루 epoch day 이며, 마지막 원소는 다음 해 1월 초하루다.
+	 */
+	private record LunarYear(int[] monthStarts, int leapMonth) {
+
+		int monthCount() {
+			return monthStarts.length - 1;
+		}
+
+		int length(int index) {
+			return monthStarts[index + 1] - monthStarts[index];
+		}
+
+		int indexOf(int month, boolean leap) {
+			if (month < 1 || month > 12) {
+				return -1;
+			}
+			if (leap) {
+				return leapMonth == month ? month : -1;
+			}
+			return leapMonth != 0 && month > leapMonth ? month : month - 1;
+		}
+	}
+}
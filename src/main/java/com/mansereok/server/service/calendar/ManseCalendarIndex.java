@@ -0,0 +1,151 @@
+package com.mansereok.server.service.calendar;
+
+import com.mansereok.server.entity.Manse;
+import com.mansereok.server.repository.ManseRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * manses 테이블 전체를 epoch day 로 인덱싱한 메모리 달력.
+ * <p>
+ * 기동 시 한 번 적재하며, 이후 양력/음력 날짜 조회는 배열 인덱스 계산만으로 끝난다 (JDBC 호출 없음).
+ * manse.calendar.snapshot.path 에 스냅샷 파일({@link CalendarSnapshotFile})이 있으면 메모리 맵으로 열고,
+ * 없거나 손상되었으면 manses 테이블에서 적재한다.
+ * 음력은 윤달 여부까지 키에 포함하므로 같은 음력 날짜의 평달/윤달이 구분된다.
+ * 적재 전이거나 범위 밖의 날짜는 {@link Optional#empty()} 를 반환하므로 호출하는 쪽에서
+ * Repository 나 계산 엔진({@link SolarTermEngine}, {@link LunarCalendarEngine}) 으로 fallback 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ManseCalendarIndex {
+
+	private final ManseRepository manseRepository;
+
+	@Value("${manse.calendar.snapshot.path:}")
+	private String snapshotPath;
+
+	private volatile CalendarSnapshot snapshot = CalendarSnapshot.EMPTY;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void load() {
+		if (loadSnapshotFile()) {
+			return;
+		}
+
+		try {
+			long started = System.currentTimeMillis();
+			snapshot = CalendarSnapshot.of(findAllFromDatabase());
+			log.info("만세력 메모리 인덱스 적재 완료: days={}, range={}~{}, elapsed={}ms",
+				snapshot.size(), snapshot.firstDate(), snapshot.lastDate(),
+				System.currentTimeMillis() - started);
+		} catch (Exception e) {
+			log.warn("만세력 메모리 인덱스 적재 실패, Repository 조회로 대체합니다: {}", e.getMessage());
+		}
+	}
+
+	private boolean loadSnapshotFile() {
+		if (snapshotPath == null || snapshotPath.isBlank()) {
+			return false;
+		}
+
+		Path path = Path.of(snapshotPath);
+		if (!Files.exists(path)) {
+			log.warn("만세력 스냅샷 파일이 없어 DB 에서 적재합니다: path={}", path);
+			return false;
+		}
+
+		try {
+			long started = System.currentTimeMillis();
+			snapshot = CalendarSnapshotFile.map(path);
+			log.info("만세력 스냅샷 파일 적재 완료: days={}, range={}~{}, elapsed={}ms",
+				snapshot.size(), snapshot.firstDate(), snapshot.lastDate(),
+				System.currentTimeMillis() - started);
+			return true;
+		} catch (Exception e) {
+			log.warn("만세력 스냅샷 파일 적재 실패, DB 에서 적재합니다: path={}, error={}", path, e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * manses 테이블 전체를 스냅샷 파일로 내보낸다.
+	 *
+	 * @return 내보낸 날짜 수
+	 */
+	public int export(Path path) throws IOException {
+		CalendarSnapshot exported = CalendarSnapshot.of(findAllFromDatabase());
+		CalendarSnapshotFile.write(exported, path);
+		log.info("만세력 스냅샷 파일 내보내기 완료: path={}, days={}, range={}~{}",
+			path, exported.size(), exported.firstDate(), exported.lastDate());
+		return exported.size();
+	}
+
+	private List<Manse> findAllFromDatabase() {
+		return manseRepository.findAll(Sort.by("solarDate"));
+	}
+
+	/**
+	 * 양력 날짜로 조회
+	 */
+	public Optional<CalendarDay> findBySolarDate(LocalDate solarDate) {
+		CalendarSnapshot current = snapshot;
+		int index = current.indexOf(solarDate.toEpochDay());
+		return index < 0 ? Optional.empty() : Optional.of(current.day(index));
+	}
+
+	/**
+	 * 음력 날짜와 윤달 여부로 조회
+	 */
+	public Optional<CalendarDay> findByLunarDate(LocalDate lunarDate, boolean leapMonth) {
+		CalendarSnapshot current = snapshot;
+		int index = current.indexOfLunar(lunarDate, leapMonth);
+		return index < 0 ? Optional.empty() : Optional.of(current.day(index));
+	}
+
+	public boolean isLoaded() {
+		return snapshot.size() > 0;
+	}
+
+	/**
+	 * 적재된 절입시간 (현지시각 epoch second, 오름차순)
+	 */
+	public long[] seasonStartTimes() {
+		LongStream.Builder times = LongStream.builder();
+		forEachDay(day -> {
+			if (day.hasSeason()) {
+				times.add(day.seasonStartTime().toEpochSecond(ZoneOffset.UTC));
+			}
+		});
+		return times.build().sorted().toArray();
+	}
+
+	/**
+	 * 적재된 모든 날짜를 양력 순서대로 순회한다. (자가 점검용)
+	 */
+	public void forEachDay(Consumer<CalendarDay> action) {
+		CalendarSnapshot current = snapshot;
+		for (int i = 0; i < current.size(); i++) {
+			if (current.indexOf(current.firstEpochDay() + i) >= 0) {
+				action.accept(current.day(i));
+			}
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.mansereok.server.service.calendar;
+
+import com.mansereok.server.service.saju.Ganji;
+import java.time.LocalDate;
+
+/**
+ * 일주(日柱) 계산기.
+ * <p>
+ * 일진은 날짜가 하루 지날 때마다 60갑자를 한 칸씩 진행하므로 epoch day 의 60 나머지로 바로 구할 수 있다.
+ * manses 테이블 범위와 관계없이 모든 날짜에 대해 동작한다.
+ */
+public final class SexagenaryDay {
+
+	// 1970-01-01 은 辛巳일 (60갑자 17번째, 0=甲子)
+	private static final int EPOCH_GANJI_INDEX = 17;
+
+	private SexagenaryDay() {
+	}
+
+	/**
+	 * 60갑자 인덱스 (0=甲子 ~ 59=癸亥)
+	 */
+	public static int ganjiIndex(long epochDay) {
+		return (int) Math.floorMod(epochDay + EPOCH_GANJI_INDEX, 60L);
+	}
+
+	public static int ganjiIndex(LocalDate date) {
+		return ganjiIndex(date.toEpochDay());
+	}
+
+	public static Ganji ganji(LocalDate date) {
+		return Ganji.of(ganjiIndex(date));
+	}
+
+	/**
+	 * 일간 코드 (0=甲 ~ 9=癸)
+	 */
+	public static int stem(LocalDate date) {
+		return ganjiIndex(date) % 10;
+	}
+
+	/**
+	 * 일지 인덱스 (0=子 ~ 11=亥)
+	 */
+	public static int branch(LocalDate date) {
+		return ganjiIndex(date) % 12;
+	}
+}
@@ -0,0 +1,209 @@
+package com.mansereok.server.service.calendar;
+
+import com.mansereok.server.service.saju.SajuTables;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태양 황경으로 24절기 시각을 계산하는 엔진.
+ * <p>
+ * manses 테이블 범위 밖의 날짜에서 절입시간과 연주/월주를 구할 때 사용한다.
+ * 절기 시각은 {@link Astronomy#apparentSolarLongitude(double)} 가 목표 황경(15도 간격)에 닿는 순간을
+ * 뉴턴 반복으로 찾은 뒤, 한국 표준시(서머타임 제외)로 변환해 분 단위로 반올림한다.
+ * 한 해의 24절기는 처음 요청될 때 한 번만 계산하고 이후에는 캐시된 값을 쓴다.
+ */
+@Component
+public class SolarTermEngine {
+
+	public static final int MIN_YEAR = 1700;
+	public static final int MAX_YEAR = 2300;
+	public static final int TERM_COUNT = 24;
+
+	/**
+	 * 양력 1월의 소한부터 12월의 동지까지. 짝수 번째가 월이 바뀌는 절(節), 홀수 번째가 중기(中氣)다.
+	 */
+	public static final List<String> TERM_NAMES = List.of(
+		"소한", "대한", "입춘", "우수", "경칩", "춘분", "청명", "곡우", "입하", "소만", "망종", "하지",
+		"소서", "대서", "입추", "처서", "백로", "추분", "한로", "상강", "입동", "소설", "대설", "동지"
+	);
+
+	public static final int IPCHUN = 2;
+
+	private static final ZoneRules KOREA = ZoneId.of("Asia/Seoul").getRules();
+	private static final double TROPICAL_YEAR = 365.2422;
+	private static final double MEAN_TERM_INTERVAL = TROPICAL_YEAR / TERM_COUNT;
+	private static final double PRECISION = 1e-6; // 일 (약 0.1초)
+	private static final int MAX_ITERATIONS = 20;
+
+	// 연도 -> 24절기 시각 (한국 표준시 epoch second, 분 단위)
+	private final Map<Integer, long[]> termsByYear = new ConcurrentHashMap<>();
+
+	/**
+	 * 절기 시각 (한국 표준시)
+	 *
+	 * @param term 0(소한) ~ 23(동지)
+	 */
+	public LocalDateTime termTime(int year, int term) {
+		return toDateTime(terms(year)[term]);
+	}
+
+	/**
+	 * 주어진 시각 이후(포함) 첫 절입시간 (순행용)
+	 */
+	public LocalDateTime nextJeol(LocalDateTime datetime) {
+		long second = datetime.toEpochSecond(ZoneOffset.UTC);
+		for (int year = datetime.getYear(); ; year++) {
+			long[] terms = terms(year);
+			for (int term = 0; term < TERM_COUNT; term += 2) {
+				if (terms[term] >= second) {
+					return toDateTime(terms[term]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 주어진 시각 이전(포함) 마지막 절입시간 (역행용)
+	 */
+	public LocalDateTime previousJeol(LocalDateTime datetime) {
+		long second = datetime.toEpochSecond(ZoneOffset.UTC);
+		for (int year = datetime.getYear(); ; year--) {
+			long[] terms = terms(year);
+			for (int term = TERM_COUNT - 2; term >= 0; term -= 2) {
+				if (terms[term] <= second) {
+					return toDateTime(terms[term]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 주어진 시각과 가장 가까운 절기 (자가 점검용)
+	 *
+	 * @return 절기 번호 0 ~ 23
+	 */
+	public int nearestTerm(LocalDateTime datetime) {
+		long second = datetime.toEpochSecond(ZoneOffset.UTC);
+		long[] terms = terms(datetime.getYear());
+		int nearest = 0;
+		for (int term = 1; term < TERM_COUNT; term++) {
+			if (Math.abs(terms[term] - second) < Math.abs(terms[nearest] - second)) {
+				nearest = term;
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * manses 테이블 한 행에 해당하는 하루치 만세력을 계산한다.
+	 * <p>
+	 * 테이블과 마찬가지로 연주/월주는 그 날의 절입 이후 기준이며, 절입일이면 절기 이름과 절입시간을 채운다.
+	 * 음력 날짜는 계산하지 않는다.
+	 */
+	public CalendarDay calendarDay(LocalDate date) {
+		long endOfDay = date.plusDays(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC) - 1;
+
+		int year = date.getYear();
+		long[] terms = terms(year);
+
+		// 그 날 끝까지 지난 마지막 절 (1월 소한 이전이면 전년도 대설)
+		int jeol = TERM_COUNT - 2;
+		long jeolTime = Long.MIN_VALUE;
+		for (int term = 0; term < TERM_COUNT; term += 2) {
+			if (terms[term] <= endOfDay) {
+				jeol = term;
+				jeolTime = terms[term];
+			}
+		}
+		if (jeolTime == Long.MIN_VALUE) {
+			jeolTime = terms(year - 1)[jeol];
+		}
+
+		// 연주는 입춘 기준
+		int ganjiYear = terms[IPCHUN] <= endOfDay ? year : year - 1;
+		int yearIndex = Math.floorMod(ganjiYear - 4, 60);
+		int yearStem = yearIndex % SajuTables.STEM_COUNT;
+		int yearBranch = yearIndex % SajuTables.BRANCH_COUNT;
+
+		// 소한 -> 丑월, 입춘 -> 寅월, ..., 대설 -> 子월
+		int monthBranch = (jeol / 2 + 1) % SajuTables.BRANCH_COUNT;
+		int monthFromTiger = Math.floorMod(monthBranch - 2, SajuTables.BRANCH_COUNT);
+		int monthStem = ((yearStem % 5) * 2 + 2 + monthFromTiger) % SajuTables.STEM_COUNT;
+
+		LocalDateTime seasonStartTime = toDateTime(jeolTime);
+		boolean seasonDay = seasonStartTime.toLocalDate().equals(date);
+
+		return new CalendarDay(
+			date,
+			null,
+			false,
+			seasonDay ? TERM_NAMES.get(jeol) : null,
+			seasonDay ? seasonStartTime : null,
+			yearStem, SajuTables.branchCode(yearBranch),
+			monthStem, SajuTables.branchCode(monthBranch),
+			SexagenaryDay.stem(date), SajuTables.branchCode(SexagenaryDay.branch(date))
+		);
+	}
+
+	private long[] terms(int year) {
+		if (year < MIN_YEAR || year > MAX_YEAR) {
+			throw new RuntimeException(
+				"절기 계산은 " + MIN_YEAR + "년부터 " + MAX_YEAR + "년까지만 지원합니다: " + year);
+		}
+		return termsByYear.computeIfAbsent(year, SolarTermEngine::computeTerms);
+	}
+
+	private static long[] computeTerms(int year) {
+		long[] terms = new long[TERM_COUNT];
+		double newYear = Astronomy.toJulianDay(LocalDate.of(year, 1, 1).atStartOfDay()
+			.toInstant(ZoneOffset.UTC));
+
+		for (int term = 0; term < TERM_COUNT; term++) {
+			double longitude = Astronomy.normalize(285.0 + 15.0 * term);
+			double estimate = Astronomy.toDynamicalTime(newYear + 5.0 + MEAN_TERM_INTERVAL * term);
+			terms[term] = toKoreanStandardSecond(solve(longitude, estimate));
+		}
+		return terms;
+	}
+
+	/**
+	 * 태양 겉보기 황경이 longitude 가 되는 역학시 율리우스일
+	 */
+	static double solve(double longitude, double jde) {
+		for (int i = 0; i < MAX_ITERATIONS; i++) {
+			double step = Astronomy.angleDifference(longitude, Astronomy.apparentSolarLongitude(jde))
+				* TROPICAL_YEAR / 360.0;
+			jde += step;
+			if (Math.abs(step) < PRECISION) {
+				break;
+			}
+		}
+		return jde;
+	}
+
+	/**
+	 * 역학시 율리우스일을 한국 표준시(서머타임 제외)로 변환
+	 */
+	static LocalDateTime toKoreanStandardTime(double jde) {
+		Instant instant = Astronomy.toInstant(Astronomy.toUniversalTime(jde));
+		return LocalDateTime.ofInstant(instant, KOREA.getStandardOffset(instant));
+	}
+
+	private static long toKoreanStandardSecond(double jde) {
+		LocalDateTime rounded = toKoreanStandardTime(jde).plusSeconds(30).truncatedTo(ChronoUnit.MINUTES);
+		return rounded.toEpochSecond(ZoneOffset.UTC);
+	}
+
+	private static LocalDateTime toDateTime(long epochSecond) {
+		return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,125 @@
+package com.mansereok.server.service.calendar;
+
+import com.mansereok.server.entity.Manse;
+import com.mansereok.server.repository.ManseRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 절입시간 정렬 인덱스.
+ * <p>
+ * {@link ManseRepository#findAllBySeason()} 결과의 절입시간을 정렬된 long[] (현지시각 epoch second) 로 보관하고,
+ * 순행/역행 대운 계산에 필요한 앞뒤 절입시간을 이진 탐색으로 찾는다.
+ * 기동 시에는 이미 적재된 {@link ManseCalendarIndex} 에서 만들어 DB 를 기다리지 않는다.
+ * 주기적으로 다시 적재하며, 새 배열이 완성된 뒤에만 교체하므로 조회 중인 요청에는 영향이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SolarTermIndex {
+
+	private static final long[] EMPTY = new long[0];
+
+	private final ManseRepository manseRepository;
+	private final ManseCalendarIndex manseCalendarIndex;
+
+	private volatile long[] seasonStartTimes = EMPTY;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+	public void load() {
+		if (manseCalendarIndex.isLoaded()) {
+			long[] loaded = manseCalendarIndex.seasonStartTimes();
+			if (loaded.length > 0) {
+				seasonStartTimes = loaded;
+				log.info("절입시간 인덱스 적재 완료 (만세력 인덱스): count={}", loaded.length);
+				return;
+			}
+		}
+		reload();
+	}
+
+	@Scheduled(
+		initialDelayString = "${manse.calendar.solar-term-reload-interval:PT6H}",
+		fixedDelayString = "${manse.calendar.solar-term-reload-interval:PT6H}"
+	)
+	public void reload() {
+		try {
+			List<Manse> manses = manseRepository.findAllBySeason();
+			long[] loaded = manses.stream()
+				.map(Manse::getSeasonStartTime)
+				.mapToLong(time -> time.toEpochSecond(ZoneOffset.UTC))
+				.sorted()
+				.toArray();
+
+			if (loaded.length == 0) {
+				log.warn("절입시간 데이터가 비어 있어 기존 인덱스를 유지합니다.");
+				return;
+			}
+
+			long[] previous = seasonStartTimes;
+			seasonStartTimes = loaded;
+			if (previous.length != loaded.length) {
+				log.info("절입시간 인덱스 적재 완료: count={}", loaded.length);
+			}
+		} catch (Exception e) {
+			log.warn("절입시간 인덱스 적재 실패, 기존 인덱스를 유지합니다: {}", e.getMessage());
+		}
+	}
+
+	public boolean isLoaded() {
+		return seasonStartTimes.length > 0;
+	}
+
+	/**
+	 * 주어진 시각 이후(포함) 첫 절입시간 (순행용)
+	 */
+	public Optional<LocalDateTime> findNext(LocalDateTime datetime) {
+		long[] times = seasonStartTimes;
+		int index = search(times, datetime);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		return index < times.length ? Optional.of(toDateTime(times[index])) : Optional.empty();
+	}
+
+	/**
+	 * 주어진 시각 이전(포함) 마지막 절입시간 (역행용)
+	 */
+	public Optional<LocalDateTime> findPrevious(LocalDateTime datetime) {
+		long[] times = seasonStartTimes;
+		int index = search(times, datetime);
+		if (index < 0) {
+			index = -index - 2;
+		}
+		return index >= 0 ? Optional.of(toDateTime(times[index])) : Optional.empty();
+	}
+
+	/**
+	 * 인덱스 범위 안의 시각인지 확인한다. 범위 밖이면 앞뒤 절입시간을 확정할 수 없다.
+	 */
+	public boolean covers(LocalDateTime datetime) {
+		long[] times = seasonStartTimes;
+		long second = datetime.toEpochSecond(ZoneOffset.UTC);
+		return times.length > 0 && times[0] <= second && second <= times[times.length - 1];
+	}
+
+	private static int search(long[] times, LocalDateTime datetime) {
+		return Arrays.binarySearch(times, datetime.toEpochSecond(ZoneOffset.UTC));
+	}
+
+	private static LocalDateTime toDateTime(long epochSecond) {
+		return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,37 @@
+package com.mansereok.server.service.concurrent;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서로 독립적인 호출(외부 API, DB 저장)을 가상 스레드에서 동시에 실행한다.
+ * <p>
+ * {@link #open()} 으로 만든 {@link FanOutScope} 에 작업을 fork 하고 join 으로 모두 기다린다.
+ * 한 작업이 실패하면 나머지를 취소하고 바로 실패하며, 전체 작업은 manse.fan-out.timeout 안에 끝나야 한다.
+ */
+@Component
+@Slf4j
+public class FanOutExecutor {
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Duration timeout;
+
+	public FanOutExecutor(@Value("${manse.fan-out.timeout:PT30S}") Duration timeout) {
+		this.timeout = timeout;
+		log.info("동시 호출 제한 시간: {}", timeout);
+	}
+
+	public FanOutScope open() {
+		return new FanOutScope(executor, System.nanoTime() + timeout.toNanos());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+}
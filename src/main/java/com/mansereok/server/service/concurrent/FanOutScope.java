@@ -0,0 +1,97 @@
+package com.mansereok.server.service.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 한 번의 동시 호출 묶음. try-with-resources 로 열고 닫는다.
+ * <pre>
+ * try (FanOutScope scope = fanOutExecutor.open()) {
+ *     Supplier&lt;A&gt; a = scope.fork(() -> callA());
+ *     Supplier&lt;B&gt; b = scope.fork(() -> callB());
+ *     scope.join();
+ *     use(a.get(), b.get());
+ * }
+ * </pre>
+ * 자바 21 의 StructuredTaskScope 는 preview API 라서 같은 규칙(첫 실패 시 나머지 취소, 공통 마감 시각)을
+ * {@link CompletableFuture} 로 구현한다. 닫을 때 끝나지 않은 작업은 인터럽트로 취소한다.
+ */
+public final class FanOutScope implements AutoCloseable {
+
+	private final ExecutorService executor;
+	private final long deadline;
+	private final List<Future<?>> running = new ArrayList<>();
+	private final List<CompletableFuture<?>> results = new ArrayList<>();
+	private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+	FanOutScope(ExecutorService executor, long deadline) {
+		this.executor = executor;
+		this.deadline = deadline;
+	}
+
+	/**
+	 * 작업을 시작한다. 반환된 Supplier 는 {@link #join()} 이 성공한 뒤에만 호출한다.
+	 */
+	public <T> Supplier<T> fork(Callable<T> task) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		result.whenComplete((value, failure) -> {
+			if (failure != null) {
+				firstFailure.completeExceptionally(failure);
+			}
+		});
+		results.add(result);
+		running.add(executor.submit(() -> {
+			try {
+				result.complete(task.call());
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		}));
+		return result::join;
+	}
+
+	/**
+	 * 모든 작업이 끝나길 기다린다. 하나라도 실패하거나 마감 시각이 지나면 나머지를 취소하고 예외를 던진다.
+	 * 작업이 던진 {@link RuntimeException} 은 그대로 다시 던진다.
+	 */
+	public void join() {
+		CompletableFuture<Void> all = CompletableFuture.allOf(results.toArray(CompletableFuture[]::new));
+		try {
+			CompletableFuture.anyOf(all, firstFailure)
+				.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			cancel();
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("동시 호출 대기 중 인터럽트되었습니다.");
+		} catch (TimeoutException e) {
+			cancel();
+			throw new RuntimeException("동시 호출이 제한 시간 안에 끝나지 않았습니다.");
+		} catch (ExecutionException e) {
+			cancel();
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new RuntimeException("동시 호출 중 오류가 발생했습니다: " + e.getCause().getMessage(),
+				e.getCause());
+		}
+	}
+
+	@Override
+	public void close() {
+		cancel();
+	}
+
+	private void cancel() {
+		for (Future<?> future : running) {
+			future.cancel(true);
+		}
+	}
+}
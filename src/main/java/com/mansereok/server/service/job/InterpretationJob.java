@@ -0,0 +1,59 @@
+package com.mansereok.server.service.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * {@link InterpretationJobExecutor} 에 제출된 해석 작업 하나. 상태는 실행 스레드만 바꾸고 조회는 어느 스레드에서나 한다.
+ */
+@Getter
+public class InterpretationJob {
+
+	private final String id;
+	private final JobType type;
+	private final LocalDateTime submittedAt;
+
+	private volatile JobStatus status = JobStatus.QUEUED;
+	private volatile LocalDateTime startedAt;
+	private volatile LocalDateTime finishedAt;
+	private volatile Object result;
+	private volatile String error;
+
+	// 제출 순번. 대기 순서 계산에 쓴다
+	@Getter(AccessLevel.NONE)
+	final long sequence;
+	@Getter(AccessLevel.NONE)
+	final Supplier<?> work;
+	@Getter(AccessLevel.NONE)
+	final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+	InterpretationJob(String id, JobType type, long sequence, Supplier<?> work) {
+		this.id = id;
+		this.type = type;
+		this.sequence = sequence;
+		this.work = work;
+		this.submittedAt = LocalDateTime.now();
+	}
+
+	void started() {
+		startedAt = LocalDateTime.now();
+		status = JobStatus.RUNNING;
+	}
+
+	void succeeded(Object result) {
+		this.result = result;
+		finishedAt = LocalDateTime.now();
+		status = JobStatus.SUCCEEDED;
+	}
+
+	void failed(String error) {
+		this.error = error;
+		finishedAt = LocalDateTime.now();
+		status = JobStatus.FAILED;
+	}
+}
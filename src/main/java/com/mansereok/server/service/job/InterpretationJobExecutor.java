@@ -0,0 +1,235 @@
+package com.mansereok.server.service.job;
+
+import com.mansereok.server.exception.JobRejectedException;
+import com.mansereok.server.service.response.InterpretationJobResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 해석 작업(GPT 호출)을 요청 스레드와 분리해 가상 스레드에서 실행한다.
+ * <p>
+ * 동시에 실행하는 작업은 manse.job.max-concurrency 개까지이고, 나머지는 제출 순서대로 기다린다.
+ * 대기 중인 작업이 manse.job.max-queued 개를 넘으면 새 작업은 거절한다 ({@link JobRejectedException}).
+ * 끝난 작업은 manse.job.retention 동안 조회할 수 있다.
+ * <p>
+ * 구독({@link #subscribe})하면 상태가 바뀔 때마다(대기 순서 변경 포함) status 이벤트를 받고, 끝나면 연결이 닫힌다.
+ * 메트릭: manse.jobs.running, manse.jobs.queued, manse.jobs.finished{status=succeeded|failed}, manse.jobs.rejected
+ */
+@Component
+@Slf4j
+public class InterpretationJobExecutor {
+
+	static final String STATUS_EVENT = "status";
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Map<String, InterpretationJob> jobs = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+	private final int maxConcurrency;
+	private final int maxQueued;
+	private final Duration retention;
+	private final Duration subscribeTimeout;
+
+	// lock 으로 보호
+	private final Object lock = new Object();
+	private final Deque<InterpretationJob> queued = new ArrayDeque<>();
+	private int running;
+	private long submittedSequence;
+	private volatile long startedSequence;
+
+	public InterpretationJobExecutor(MeterRegistry meterRegistry,
+		@Value("${manse.job.max-concurrency:64}") int maxConcurrency,
+		@Value("${manse.job.max-queued:1000}") int maxQueued,
+		@Value("${manse.job.retention:PT1H}") Duration retention,
+		@Value("${manse.job.subscribe-timeout:PT5M}") Duration subscribeTimeout) {
+		this.meterRegistry = meterRegistry;
+		this.maxConcurrency = maxConcurrency;
+		this.maxQueued = maxQueued;
+		this.retention = retention;
+		this.subscribeTimeout = subscribeTimeout;
+		log.info("해석 작업 실행기: maxConcurrency={}, maxQueued={}, retention={}",
+			maxConcurrency, maxQueued, retention);
+	}
+
+	@PostConstruct
+	void registerMetrics() {
+		Gauge.builder("manse.jobs.running", this, InterpretationJobExecutor::runningCount)
+			.register(meterRegistry);
+		Gauge.builder("manse.jobs.queued", this, InterpretationJobExecutor::queuedCount)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 작업을 제출한다. 실행 슬롯이 있으면 바로 시작하고, 없으면 대기열 끝에 넣는다.
+	 *
+	 * @throws JobRejectedException 대기열이 가득 찬 경우
+	 */
+	public InterpretationJob submit(JobType type, Supplier<?> work) {
+		synchronized (lock) {
+			if (running >= maxConcurrency && queued.size() >= maxQueued) {
+				meterRegistry.counter("manse.jobs.rejected").increment();
+				throw new JobRejectedException("대기 중인 해석 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+			}
+			InterpretationJob job = new InterpretationJob(UUID.randomUUID().toString(), type,
+				++submittedSequence, work);
+			jobs.put(job.getId(), job);
+			if (running < maxConcurrency) {
+				start(job);
+			} else {
+				queued.addLast(job);
+			}
+			log.info("해석 작업 제출: id={}, type={}, status={}", job.getId(), type, job.getStatus());
+			return job;
+		}
+	}
+
+	public Optional<InterpretationJob> find(String jobId) {
+		return Optional.ofNullable(jobs.get(jobId));
+	}
+
+	/**
+	 * 대기 순서. 1 이면 다음 차례, 대기 중이 아니면 0.
+	 * <p>
+	 * 작업은 제출 순서대로 시작하므로 제출 순번과 마지막으로 시작한 작업의 순번 차이가 곧 대기 순서이다.
+	 */
+	public int queuePosition(InterpretationJob job) {
+		if (job.getStatus() != JobStatus.QUEUED) {
+			return 0;
+		}
+		return (int) Math.max(1, job.sequence - startedSequence);
+	}
+
+	public InterpretationJobResponse toResponse(InterpretationJob job) {
+		return InterpretationJobResponse.of(job, queuePosition(job));
+	}
+
+	/**
+	 * 작업 상태를 SSE 로 구독한다. 지금 상태를 바로 한 번 보내고, 이미 끝난 작업이면 연결을 닫는다.
+	 */
+	public SseEmitter subscribe(InterpretationJob job) {
+		SseEmitter emitter = new SseEmitter(subscribeTimeout.toMillis());
+		job.subscribers.add(emitter);
+		emitter.onCompletion(() -> job.subscribers.remove(emitter));
+		emitter.onTimeout(() -> job.subscribers.remove(emitter));
+		emitter.onError(e -> job.subscribers.remove(emitter));
+
+		send(job, emitter);
+		// 구독 등록 전에 끝났다면 완료 알림을 놓쳤을 수 있으므로 여기서 닫는다
+		if (job.getStatus().isFinished() && job.subscribers.remove(emitter)) {
+			emitter.complete();
+		}
+		return emitter;
+	}
+
+	// lock 안에서 호출
+	private void start(InterpretationJob job) {
+		running++;
+		startedSequence = job.sequence;
+		job.started();
+		executor.execute(() -> run(job));
+	}
+
+	private void run(InterpretationJob job) {
+		try {
+			publish(job);
+			job.succeeded(job.work.get());
+			meterRegistry.counter("manse.jobs.finished", "status", "succeeded").increment();
+		} catch (RuntimeException | Error e) {
+			log.error("해석 작업 실패: id={}, type={}, message={}", job.getId(), job.getType(), e.getMessage(),
+				e);
+			job.failed("해석 작업 중 오류가 발생했습니다: " + e.getMessage());
+			meterRegistry.counter("manse.jobs.finished", "status", "failed").increment();
+			if (e instanceof Error error) {
+				throw error;
+			}
+		} finally {
+			// Error 로 끝나도 실행 슬롯은 반드시 돌려준다
+			publish(job);
+			startNext();
+		}
+	}
+
+	private void startNext() {
+		List<InterpretationJob> waiting;
+		synchronized (lock) {
+			running--;
+			InterpretationJob next = queued.pollFirst();
+			if (next != null) {
+				start(next);
+			}
+			waiting = new ArrayList<>(queued);
+		}
+		// 대기 순서가 한 칸씩 당겨졌으므로 대기 중인 작업의 구독자에게도 알린다
+		for (InterpretationJob queuedJob : waiting) {
+			if (!queuedJob.subscribers.isEmpty()) {
+				publish(queuedJob);
+			}
+		}
+	}
+
+	private void publish(InterpretationJob job) {
+		boolean finished = job.getStatus().isFinished();
+		for (SseEmitter emitter : job.subscribers) {
+			send(job, emitter);
+			if (finished && job.subscribers.remove(emitter)) {
+				emitter.complete();
+			}
+		}
+	}
+
+	private void send(InterpretationJob job, SseEmitter emitter) {
+		try {
+			emitter.send(SseEmitter.event().name(STATUS_EVENT).data(toResponse(job)));
+		} catch (IOException | IllegalStateException e) {
+			job.subscribers.remove(emitter);
+			log.info("작업 구독 연결 끊김: id={}, message={}", job.getId(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 끝난 지 retention 이 지난 작업을 지운다.
+	 */
+	@Scheduled(fixedDelayString = "${manse.job.purge-interval:PT1M}")
+	public void purge() {
+		LocalDateTime expiredBefore = LocalDateTime.now().minus(retention);
+		jobs.values().removeIf(job -> job.getStatus().isFinished()
+			&& job.getFinishedAt().isBefore(expiredBefore));
+	}
+
+	private int runningCount() {
+		synchronized (lock) {
+			return running;
+		}
+	}
+
+	private int queuedCount() {
+		synchronized (lock) {
+			return queued.size();
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+}
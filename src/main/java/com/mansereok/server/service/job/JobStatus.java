@@ -0,0 +1,19 @@
+package com.mansereok.server.service.job;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JobStatus {
+	QUEUED("대기 중"),
+	RUNNING("실행 중"),
+	SUCCEEDED("완료"),
+	FAILED("실패");
+
+	private final String description;
+
+	public boolean isFinished() {
+		return this == SUCCEEDED || this == FAILED;
+	}
+}
@@ -0,0 +1,15 @@
+package com.mansereok.server.service.job;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JobType {
+	INTERPRET("만세력 종합 해석"),
+	INTERPRET_COMPATIBILITY("궁합 분석"),
+	INTERPRETATION("사주 해석 (Posteller 만세력)"),
+	COMPATIBILITY("궁합 분석 (Posteller 만세력)");
+
+	private final String description;
+}
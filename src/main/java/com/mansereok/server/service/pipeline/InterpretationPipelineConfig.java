@@ -0,0 +1,27 @@
+package com.mansereok.server.service.pipeline;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * 해석 파이프라인 토픽. 파티션 수가 곧 전체 워커(파드 수 x manse.pipeline.concurrency)의 최대 병렬도이다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "manse.pipeline.enabled", havingValue = "true")
+public class InterpretationPipelineConfig {
+
+	@Bean
+	public NewTopic interpretationRequestTopic(
+		@Value("${manse.pipeline.topic}") String topic,
+		@Value("${manse.pipeline.partitions:12}") int partitions,
+		@Value("${manse.pipeline.replicas:1}") int replicas) {
+		return TopicBuilder.name(topic)
+			.partitions(partitions)
+			.replicas(replicas)
+			.build();
+	}
+}
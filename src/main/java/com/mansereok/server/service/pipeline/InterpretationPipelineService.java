@@ -0,0 +1,155 @@
+package com.mansereok.server.service.pipeline;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mansereok.server.entity.CompatibilityResult;
+import com.mansereok.server.entity.InterpretationRequest;
+import com.mansereok.server.entity.Result;
+import com.mansereok.server.exception.JobRejectedException;
+import com.mansereok.server.repository.CompatibilityResultRepository;
+import com.mansereok.server.repository.InterpretationRequestRepository;
+import com.mansereok.server.repository.ResultRepository;
+import com.mansereok.server.service.ManseCalculationService;
+import com.mansereok.server.service.job.JobStatus;
+import com.mansereok.server.service.request.ManseCompatibilityAnalysisRequest;
+import com.mansereok.server.service.request.ManseInterpretationRequest;
+import com.mansereok.server.service.request.ManseryeokCalculationRequest;
+import com.mansereok.server.service.response.InterpretationRequestResponse;
+import com.mansereok.server.service.response.ManseCompatibilityAnalysisResponse;
+import com.mansereok.server.service.response.ManseInterpretationResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 해석 요청을 Kafka 토픽에 발행한다. 처리는 어느 파드의 {@link InterpretationPipelineWorker} 든 맡을 수 있고,
+ * 상태는 interpretation_requests 에, 결과는 results / compatibility_results 에 남는다.
+ * <p>
+ * 메시지 키는 명식 키(궁합은 첫 번째 사람)이다. 같은 사주 요청은 같은 파티션에서 차례로 처리되므로
+ * 두 번째 요청부터는 첫 요청이 저장한 해석을 재사용한다.
+ * 발행은 브로커가 받았다고 답할 때까지(manse.pipeline.send-timeout) 기다리고, 실패하면 요청을 FAILED 로 남기고 거절한다.
+ */
+@Service
+@ConditionalOnProperty(name = "manse.pipeline.enabled", havingValue = "true")
+@Slf4j
+public class InterpretationPipelineService {
+
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final ObjectMapper objectMapper;
+	private final ManseCalculationService manseCalculationService;
+	private final InterpretationRequestRepository interpretationRequestRepository;
+	private final ResultRepository resultRepository;
+	private final CompatibilityResultRepository compatibilityResultRepository;
+	private final String topic;
+	private final Duration sendTimeout;
+
+	public InterpretationPipelineService(KafkaTemplate<String, String> kafkaTemplate,
+		ObjectMapper objectMapper,
+		ManseCalculationService manseCalculationService,
+		InterpretationRequestRepository interpretationRequestRepository,
+		ResultRepository resultRepository,
+		CompatibilityResultRepository compatibilityResultRepository,
+		@Value("${manse.pipeline.topic}") String topic,
+		@Value("${manse.pipeline.send-timeout:PT10S}") Duration sendTimeout) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.objectMapper = objectMapper;
+		this.manseCalculationService = manseCalculationService;
+		this.interpretationRequestRepository = interpretationRequestRepository;
+		this.resultRepository = resultRepository;
+		this.compatibilityResultRepository = compatibilityResultRepository;
+		this.topic = topic;
+		this.sendTimeout = sendTimeout;
+	}
+
+	public InterpretationRequestResponse submitInterpret(ManseInterpretationRequest request) {
+		Long chartKey = chartKey(request.getName(), request.getSolarDate(), request.getSolarTime(),
+			request.getGender(), request.getIsLunar(), request.getIsLeapMonth());
+		String requestId = UUID.randomUUID().toString();
+		return publish(chartKey, InterpretationRequestedEvent.interpret(requestId, request));
+	}
+
+	public InterpretationRequestResponse submitInterpretCompatibility(
+		ManseCompatibilityAnalysisRequest request) {
+		ManseCompatibilityAnalysisRequest.PersonInfo person1 = request.getPerson1();
+		Long chartKey = chartKey(person1.getName(), person1.getSolarDate(), person1.getSolarTime(),
+			person1.getGender(), person1.getIsLunar(), person1.getIsLeapMonth());
+		String requestId = UUID.randomUUID().toString();
+		return publish(chartKey, InterpretationRequestedEvent.compatibility(requestId, request));
+	}
+
+	/**
+	 * 요청 상태를 조회한다. 완료된 요청이면 저장된 해석을 해석 API 응답과 같은 형태로 함께 돌려준다.
+	 */
+	public Optional<InterpretationRequestResponse> find(String requestId) {
+		return interpretationRequestRepository.findById(requestId)
+			.map(request -> InterpretationRequestResponse.of(request, loadResult(request)));
+	}
+
+	private InterpretationRequestResponse publish(Long chartKey, InterpretationRequestedEvent event) {
+		InterpretationRequest request = interpretationRequestRepository.save(
+			InterpretationRequest.create(event.requestId(), event.type()));
+		String key = chartKey != null ? Long.toHexString(chartKey) : event.requestId();
+		try {
+			kafkaTemplate.send(topic, key, objectMapper.writeValueAsString(event))
+				.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+			log.info("해석 요청 발행: requestId={}, type={}, key={}", event.requestId(), event.type(), key);
+			return InterpretationRequestResponse.of(request, null);
+		} catch (JsonProcessingException | ExecutionException | TimeoutException e) {
+			throw rejected(request, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw rejected(request, e);
+		}
+	}
+
+	private JobRejectedException rejected(InterpretationRequest request, Exception e) {
+		log.error("해석 요청 발행 실패: requestId={}, message={}", request.getRequestId(), e.getMessage(), e);
+		request.failed("해석 요청을 보내지 못했습니다: " + e.getMessage());
+		interpretationRequestRepository.save(request);
+		return new JobRejectedException("해석 요청을 접수하지 못했습니다. 잠시 후 다시 시도해주세요.");
+	}
+
+	private Object loadResult(InterpretationRequest request) {
+		if (request.getStatus() != JobStatus.SUCCEEDED || request.getResultId() == null) {
+			return null;
+		}
+		return switch (request.getType()) {
+			case INTERPRET -> resultRepository.findById(request.getResultId())
+				.map(InterpretationPipelineService::toResponse)
+				.orElse(null);
+			case INTERPRET_COMPATIBILITY -> compatibilityResultRepository.findById(request.getResultId())
+				.map(InterpretationPipelineService::toResponse)
+				.orElse(null);
+			default -> null;
+		};
+	}
+
+	private static ManseInterpretationResponse toResponse(Result result) {
+		return new ManseInterpretationResponse(result.getId(), result.getName(), result.getIlgan(),
+			result.getInterpretation());
+	}
+
+	private static ManseCompatibilityAnalysisResponse toResponse(CompatibilityResult result) {
+		return new ManseCompatibilityAnalysisResponse(result.getId(), result.getPerson1Name(),
+			result.getPerson1Ilgan(), result.getPerson2Name(), result.getPerson2Ilgan(),
+			result.getInterpretation(), result.getCompatibilityScore());
+	}
+
+	// 발행 전에 계산해 두면 잘못된 입력은 여기서 바로 실패한다
+	private Long chartKey(String name, LocalDate solarDate, LocalTime solarTime, String gender,
+		Boolean isLunar, Boolean isLeapMonth) {
+		return manseCalculationService.calculate(
+			new ManseryeokCalculationRequest(name, solarDate, solarTime, gender, isLunar, isLeapMonth))
+			.getChartKey();
+	}
+}
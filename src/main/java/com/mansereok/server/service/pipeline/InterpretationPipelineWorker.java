@@ -0,0 +1,127 @@
+package com.mansereok.server.service.pipeline;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mansereok.server.entity.InterpretationRequest;
+import com.mansereok.server.repository.InterpretationRequestRepository;
+import com.mansereok.server.service.ManseCalculationService;
+import com.mansereok.server.service.ManseInterpretationService;
+import com.mansereok.server.service.request.ManseCompatibilityAnalysisRequest;
+import com.mansereok.server.service.request.ManseInterpretationRequest;
+import com.mansereok.server.service.request.ManseryeokCalculationRequest;
+import com.mansereok.server.service.response.ManseCompatibilityAnalysisResponse;
+import com.mansereok.server.service.response.ManseInterpretationResponse;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 해석 파이프라인 토픽을 소비해 GPT 해석을 만들고 results / compatibility_results 에 저장한다.
+ * <p>
+ * 같은 consumer group(manse.pipeline.group-id)의 워커가 파티션을 나눠 가지므로 파드를 늘리면 처리량이 늘고,
+ * 한 파티션 안에서는 발행 순서대로 처리한다. 오프셋은 처리가 끝난 뒤 커밋하므로 처리 중 파드가 내려가면
+ * 다른 워커가 다시 받는다. 이미 끝난 요청을 다시 받으면 건너뛴다.
+ * <p>
+ * 메트릭: manse.pipeline.processed{status=succeeded|failed|skipped}
+ */
+@Component
+@ConditionalOnProperty(name = "manse.pipeline.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class InterpretationPipelineWorker {
+
+	private final ObjectMapper objectMapper;
+	private final ManseCalculationService manseCalculationService;
+	private final ManseInterpretationService manseInterpretationService;
+	private final InterpretationRequestRepository interpretationRequestRepository;
+	private final MeterRegistry meterRegistry;
+
+	@KafkaListener(
+		topics = "${manse.pipeline.topic}",
+		groupId = "${manse.pipeline.group-id}",
+		concurrency = "${manse.pipeline.concurrency:4}")
+	public void consume(String payload) {
+		InterpretationRequestedEvent event;
+		try {
+			event = objectMapper.readValue(payload, InterpretationRequestedEvent.class);
+		} catch (JsonProcessingException e) {
+			// 다시 받아도 읽을 수 없으므로 버린다
+			log.error("해석 요청 메시지를 읽을 수 없습니다: message={}", e.getMessage());
+			count("skipped");
+			return;
+		}
+
+		InterpretationRequest request = interpretationRequestRepository.findById(event.requestId())
+			.orElse(null);
+		if (request == null || request.getStatus().isFinished()) {
+			log.info("해석 요청 건너뜀: requestId={}, status={}", event.requestId(),
+				request == null ? null : request.getStatus());
+			count("skipped");
+			return;
+		}
+
+		request.running();
+		interpretationRequestRepository.save(request);
+		log.info("해석 요청 처리 시작: requestId={}, type={}", event.requestId(), event.type());
+		try {
+			process(request, event);
+		} catch (RuntimeException e) {
+			log.error("해석 요청 처리 실패: requestId={}, message={}", event.requestId(), e.getMessage(), e);
+			request.failed("해석 작업 중 오류가 발생했습니다: " + e.getMessage());
+		}
+		interpretationRequestRepository.save(request);
+		count(request.getStatus().name().toLowerCase());
+		log.info("해석 요청 처리 완료: requestId={}, status={}, resultId={}", event.requestId(),
+			request.getStatus(), request.getResultId());
+	}
+
+	private void process(InterpretationRequest request, InterpretationRequestedEvent event) {
+		switch (event.type()) {
+			case INTERPRET -> {
+				ManseInterpretationRequest body = event.interpret();
+				ManseInterpretationResponse response = manseInterpretationService.interpret(body.getName(),
+					calculate(body.getName(), body.getSolarDate(), body.getSolarTime(), body.getGender(),
+						body.getIsLunar(), body.getIsLeapMonth()));
+				finish(request, response.getResultId(), response.getInterpretation());
+			}
+			case INTERPRET_COMPATIBILITY -> {
+				ManseCompatibilityAnalysisRequest.PersonInfo person1 = event.compatibility().getPerson1();
+				ManseCompatibilityAnalysisRequest.PersonInfo person2 = event.compatibility().getPerson2();
+				ManseCompatibilityAnalysisResponse response = manseInterpretationService.analyzeCompatibility(
+					person1.getName(), calculate(person1), person2.getName(), calculate(person2));
+				finish(request, response.getResultId(), response.getInterpretation());
+			}
+			default -> request.failed("지원하지 않는 요청 종류입니다: " + event.type());
+		}
+	}
+
+	// 해석 서비스는 GPT 오류를 예외 대신 저장하지 않은 응답(resultId 없음)으로 돌려준다
+	private static void finish(InterpretationRequest request, Long resultId, String interpretation) {
+		if (resultId != null) {
+			request.succeeded(resultId);
+		} else {
+			request.failed(interpretation);
+		}
+	}
+
+	private void count(String status) {
+		meterRegistry.counter("manse.pipeline.processed", "status", status).increment();
+	}
+
+	private ManseryeokCalculationResponse calculate(ManseCompatibilityAnalysisRequest.PersonInfo person) {
+		return calculate(person.getName(), person.getSolarDate(), person.getSolarTime(),
+			person.getGender(), person.getIsLunar(), person.getIsLeapMonth());
+	}
+
+	private ManseryeokCalculationResponse calculate(String name, LocalDate solarDate,
+		LocalTime solarTime, String gender, Boolean isLunar, Boolean isLeapMonth) {
+		return manseCalculationService.calculate(
+			new ManseryeokCalculationRequest(name, solarDate, solarTime, gender, isLunar, isLeapMonth));
+	}
+}
@@ -0,0 +1,24 @@
+package com.mansereok.server.service.pipeline;
+
+import com.mansereok.server.service.job.JobType;
+import com.mansereok.server.service.request.ManseCompatibilityAnalysisRequest;
+import com.mansereok.server.service.request.ManseInterpretationRequest;
+
+/**
+ * 해석 파이프라인 토픽에 싣는 메시지. 요청 종류에 맞는 요청 본문 하나만 채운다.
+ */
+record InterpretationRequestedEvent(
+	String requestId,
+	JobType type,
+	ManseInterpretationRequest interpret,
+	ManseCompatibilityAnalysisRequest compatibility) {
+
+	static InterpretationRequestedEvent interpret(String requestId, ManseInterpretationRequest request) {
+		return new InterpretationRequestedEvent(requestId, JobType.INTERPRET, request, null);
+	}
+
+	static InterpretationRequestedEvent compatibility(String requestId,
+		ManseCompatibilityAnalysisRequest request) {
+		return new InterpretationRequestedEvent(requestId, JobType.INTERPRET_COMPATIBILITY, null, request);
+	}
+}
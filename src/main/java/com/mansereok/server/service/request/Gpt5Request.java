@@ -1,5 +1,6 @@
 package com.mansereok.server.service.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
@@ -12,14 +13,22 @@ public class Gpt5Request {
 	private int maxOutputTokens;
 	private Reasoning reasoning;
 	private Text text;
-	
+	@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+	private boolean stream; // true 면 출력 조각을 SSE 로 받음
+
 	public Gpt5Request(String model, String input, int maxOutputTokens, String effort,
 		String verbosity) {
+		this(model, input, maxOutputTokens, effort, verbosity, false);
+	}
+
+	public Gpt5Request(String model, String input, int maxOutputTokens, String effort,
+		String verbosity, boolean stream) {
 		this.model = model;
 		this.input = input;
 		this.maxOutputTokens = maxOutputTokens;
 		this.reasoning = new Reasoning(effort);
 		this.text = new Text(verbosity);
+		this.stream = stream;
 	}
 
 	@Getter
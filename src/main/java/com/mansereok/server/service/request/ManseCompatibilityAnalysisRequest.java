@@ -19,5 +19,6 @@ public class ManseCompatibilityAnalysisRequest {
 		private LocalTime solarTime;
 		private String gender;
 		private Boolean isLunar;
+		private Boolean isLeapMonth;
 	}
 }
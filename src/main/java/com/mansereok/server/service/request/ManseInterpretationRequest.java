@@ -16,4 +16,5 @@ public class ManseInterpretationRequest {
 	private LocalTime solarTime;
 	private String gender;
 	private Boolean isLunar;
+	private Boolean isLeapMonth;
 }
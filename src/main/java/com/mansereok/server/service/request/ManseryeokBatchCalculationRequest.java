@@ -0,0 +1,16 @@
+package com.mansereok.server.service.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManseryeokBatchCalculationRequest {
+
+	@Schema(description = "계산할 생년월일시 목록 (응답의 index 는 이 목록의 순서)")
+	private List<ManseryeokCalculationRequest> requests;
+}
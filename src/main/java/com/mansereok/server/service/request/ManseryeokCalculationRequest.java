@@ -1,7 +1,11 @@
 package com.mansereok.server.service.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.mansereok.server.entity.CalendarType;
+import com.mansereok.server.entity.Gender;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,14 +14,59 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ManseryeokCalculationRequest {
+
+	private static final DateTimeFormatter BIRTHDAY_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
 	
 	private String name;
 	private LocalDate solarDate;
 	private LocalTime solarTime;
 	private String gender;
 	private Boolean isLunar;
+	private Boolean isLeapMonth; // 음력 입력일 때 윤달 여부
+	private Boolean timeUnknown; // 출생시간 모름: 시주 대신 가능한 시주 12개를 모두 반환
+
+	public ManseryeokCalculationRequest(String name, LocalDate solarDate, LocalTime solarTime,
+		String gender, Boolean isLunar, Boolean isLeapMonth) {
+		this(name, solarDate, solarTime, gender, isLunar, isLeapMonth, null);
+	}
+
+	/**
+	 * 포스텔러 형식 요청(성별 M/F, 달력 S/L, "yyyy/MM/dd", "HH:mm")을 만세력 계산 요청으로 변환한다.
+	 * 포스텔러 요청에는 윤달 구분이 없으므로 음력은 평달로 본다.
+	 * <p>
+	 * midnightAdjust(자정 보정)와 locationId(출생지)는 옮기지 않는다. 로컬 계산은 출생지에 따른 시각 보정을 하지 않고
+	 * 자시 처리는 서버 설정(manse.calculation.zi-hour-policy)을 따르므로, 두 값을 바꾼 요청은 포스텔러 API 와 결과가
+	 * 다를 수 있다.
+	 */
+	public static ManseryeokCalculationRequest from(ManseryeokCreateRequest request) {
+		LocalDate birthday = request.getBirthday() != null && !request.getBirthday().isBlank()
+			? LocalDate.parse(request.getBirthday().trim(), BIRTHDAY_FORMAT)
+			: LocalDate.of(request.getYear(), request.getMonth(), request.getDay());
+
+		LocalTime birthtime = null;
+		if (!request.isHmUnsure()) {
+			birthtime = request.getBirthtime() != null && !request.getBirthtime().isBlank()
+				? LocalTime.parse(request.getBirthtime().trim())
+				: LocalTime.of(request.getHour(), request.getMin());
+		}
+
+		return new ManseryeokCalculationRequest(
+			request.getName(),
+			birthday,
+			birthtime,
+			Gender.fromCode(request.getGender()).name(),
+			CalendarType.fromCode(request.getCalendar()) == CalendarType.LUNAR,
+			false,
+			request.isHmUnsure()
+		);
+	}
 
 	public LocalTime getSolarTime() {
-		return solarTime != null ? solarTime : LocalTime.of(12, 0);
+		return solarTime != null && !isTimeUnknown() ? solarTime : LocalTime.of(12, 0);
+	}
+
+	@JsonIgnore
+	public boolean isTimeUnknown() {
+		return Boolean.TRUE.equals(timeUnknown);
 	}
 }
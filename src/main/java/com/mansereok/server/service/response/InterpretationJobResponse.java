@@ -0,0 +1,56 @@
+package com.mansereok.server.service.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mansereok.server.service.job.InterpretationJob;
+import com.mansereok.server.service.job.JobStatus;
+import com.mansereok.server.service.job.JobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InterpretationJobResponse {
+
+	@Schema(description = "작업 ID")
+	private String jobId;
+
+	@Schema(description = "작업 종류")
+	private JobType type;
+
+	@Schema(description = "작업 상태")
+	private JobStatus status;
+
+	@Schema(description = "대기 순서 (1 이면 다음 차례). 대기 중일 때만 있음")
+	private Integer queuePosition;
+
+	@Schema(description = "해석 결과. 완료되었을 때만 있음 (작업 종류별 해석 응답과 같은 형태)")
+	private Object result;
+
+	@Schema(description = "오류 메시지. 실패했을 때만 있음")
+	private String error;
+
+	private LocalDateTime submittedAt;
+
+	private LocalDateTime startedAt;
+
+	private LocalDateTime finishedAt;
+
+	public static InterpretationJobResponse of(InterpretationJob job, int queuePosition) {
+		// 상태를 먼저 읽는다. 결과와 종료 시각은 상태보다 먼저 기록된다
+		JobStatus status = job.getStatus();
+		return InterpretationJobResponse.builder()
+			.jobId(job.getId())
+			.type(job.getType())
+			.status(status)
+			.queuePosition(status == JobStatus.QUEUED ? queuePosition : null)
+			.result(job.getResult())
+			.error(job.getError())
+			.submittedAt(job.getSubmittedAt())
+			.startedAt(job.getStartedAt())
+			.finishedAt(job.getFinishedAt())
+			.build();
+	}
+}
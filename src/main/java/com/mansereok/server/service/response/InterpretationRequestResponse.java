@@ -0,0 +1,47 @@
+package com.mansereok.server.service.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mansereok.server.entity.InterpretationRequest;
+import com.mansereok.server.service.job.JobStatus;
+import com.mansereok.server.service.job.JobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InterpretationRequestResponse {
+
+	@Schema(description = "요청 ID")
+	private String requestId;
+
+	@Schema(description = "요청 종류")
+	private JobType type;
+
+	@Schema(description = "처리 상태")
+	private JobStatus status;
+
+	@Schema(description = "해석 결과. 완료되었을 때만 있음 (요청 종류별 해석 응답과 같은 형태)")
+	private Object result;
+
+	@Schema(description = "오류 메시지. 실패했을 때만 있음")
+	private String error;
+
+	private LocalDateTime createdAt;
+
+	private LocalDateTime updatedAt;
+
+	public static InterpretationRequestResponse of(InterpretationRequest request, Object result) {
+		return InterpretationRequestResponse.builder()
+			.requestId(request.getRequestId())
+			.type(request.getType())
+			.status(request.getStatus())
+			.result(result)
+			.error(request.getError())
+			.createdAt(request.getCreatedAt())
+			.updatedAt(request.getUpdatedAt())
+			.build();
+	}
+}
@@ -0,0 +1,46 @@
+package com.mansereok.server.service.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ManseryeokBatchCalculationResponse {
+
+	@Schema(description = "요청 건수", example = "3")
+	private int total;
+
+	@Schema(description = "성공 건수", example = "2")
+	private int succeeded;
+
+	@Schema(description = "실패 건수", example = "1")
+	private int failed;
+
+	@Schema(description = "요청 순서대로의 건별 결과")
+	private List<Item> results;
+
+	@Data
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Item {
+
+		@Schema(description = "요청 목록에서의 위치", example = "0")
+		private int index;
+
+		@Schema(description = "계산 성공 여부", example = "true")
+		private boolean success;
+
+		@Schema(description = "계산 결과 (실패 시 null)")
+		private ManseryeokCalculationResponse result;
+
+		@Schema(description = "실패 사유 (성공 시 null)")
+		private String error;
+	}
+}
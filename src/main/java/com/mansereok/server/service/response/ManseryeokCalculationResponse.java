@@ -1,13 +1,17 @@
 package com.mansereok.server.service.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 @Data
 @NoArgsConstructor
@@ -21,6 +25,10 @@ public class ManseryeokCalculationResponse {
 	@Schema(description = "계산된 사주팔자 정보")
 	private SajuInfo saju;
 
+	@JsonProperty("chart_key")
+	@Schema(description = "사주 명식 키 (여덟 글자, 성별, 대운 방향, 대운수를 묶은 값)")
+	private Long chartKey;
+
 	@Data
 	@Builder
 	@NoArgsConstructor
@@ -37,6 +45,9 @@ public class ManseryeokCalculationResponse {
 
 		@JsonProperty("is_lunar")
 		private Boolean isLunar;
+
+		@JsonProperty("is_leap_month")
+		private Boolean isLeapMonth;
 	}
 
 	@Data
@@ -84,12 +95,41 @@ public class ManseryeokCalculationResponse {
 		@JsonProperty("time_ground")
 		@Schema(description = "시지 정보")
 		private PillarElement timeGround;
+
+		@JsonProperty("time_candidates")
+		@JsonInclude(JsonInclude.Include.NON_NULL)
+		@Schema(description = "출생시간을 모를 때 가능한 시주 12개 (자시~해시)")
+		private List<TimeCandidate> timeCandidates;
 	}
 
-	@Data
+	@Value
 	@Builder
-	@NoArgsConstructor
-	@AllArgsConstructor
+	@Jacksonized
+	public static class TimeCandidate {
+
+		@JsonProperty("time_name")
+		@Schema(description = "시진", example = "자시")
+		private String timeName;
+
+		@JsonProperty("time_range")
+		@Schema(description = "시간 범위", example = "23:30~01:29")
+		private String timeRange;
+
+		@JsonProperty("time_sky")
+		@Schema(description = "시간 정보")
+		private PillarElement timeSky;
+
+		@JsonProperty("time_ground")
+		@Schema(description = "시지 정보")
+		private PillarElement timeGround;
+	}
+
+	/**
+	 * 불변 객체. 가능한 모든 조합을 미리 만들어 두고 여러 응답이 같은 인스턴스를 공유한다.
+	 */
+	@Value
+	@Builder
+	@Jacksonized
 	public static class PillarElement {
 
 		@Schema(description = "한자", example = "甲")
@@ -119,10 +159,9 @@ public class ManseryeokCalculationResponse {
 		private JijangganInfo jijanggan;
 	}
 
-	@Data
+	@Value
 	@Builder
-	@NoArgsConstructor
-	@AllArgsConstructor
+	@Jacksonized
 	public static class JijangganInfo {
 
 		@Schema(description = "첫 번째 지장간")
@@ -135,10 +174,9 @@ public class ManseryeokCalculationResponse {
 		private JijangganElement third;
 	}
 
-	@Data
+	@Value
 	@Builder
-	@NoArgsConstructor
-	@AllArgsConstructor
+	@Jacksonized
 	public static class JijangganElement {
 
 		@Schema(description = "한자", example = "壬")
@@ -0,0 +1,56 @@
+package com.mansereok.server.service.saju;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지지. ordinal 은 지지 순서(0=子 ~ 11=亥)이며, {@link SajuTables} 코드는 {@link #code()}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Branch {
+	JA("子", "자", FiveElement.WATER, YinYang.YANG),
+	CHUK("丑", "축", FiveElement.EARTH, YinYang.YIN),
+	IN("寅", "인", FiveElement.WOOD, YinYang.YANG),
+	MYO("卯", "묘", FiveElement.WOOD, YinYang.YIN),
+	JIN("辰", "진", FiveElement.EARTH, YinYang.YANG),
+	SA("巳", "사", FiveElement.FIRE, YinYang.YIN),
+	O("午", "오", FiveElement.FIRE, YinYang.YANG),
+	MI("未", "미", FiveElement.EARTH, YinYang.YIN),
+	SIN("申", "신", FiveElement.METAL, YinYang.YANG),
+	YU("酉", "유", FiveElement.METAL, YinYang.YIN),
+	SUL("戌", "술", FiveElement.EARTH, YinYang.YANG),
+	HAE("亥", "해", FiveElement.WATER, YinYang.YIN);
+
+	private static final Branch[] VALUES = values();
+
+	private final String chinese;
+	private final String korean;
+	private final FiveElement element;
+	private final YinYang yinYang;
+
+	public static Branch of(int index) {
+		return VALUES[index];
+	}
+
+	/**
+	 * {@link SajuTables} 간지 코드(10~21)로 조회
+	 */
+	public static Branch fromCode(int code) {
+		if (!SajuTables.isBranch(code)) {
+			throw new IllegalArgumentException("Unknown branch code: " + code);
+		}
+		return VALUES[code - SajuTables.STEM_COUNT];
+	}
+
+	public static Branch fromChinese(String chinese) {
+		return fromCode(SajuTables.code(chinese));
+	}
+
+	/**
+	 * {@link SajuTables} 간지 코드
+	 */
+	public int code() {
+		return SajuTables.branchCode(ordinal());
+	}
+}
@@ -0,0 +1,121 @@
+package com.mansereok.server.service.saju;
+
+import com.mansereok.server.service.calendar.CalendarDay;
+import com.mansereok.server.service.calendar.LunarCalendarEngine;
+import com.mansereok.server.service.calendar.LunarCalendarEngine.LunarDate;
+import com.mansereok.server.service.calendar.ManseCalendarIndex;
+import com.mansereok.server.service.response.ChartCreateResponse;
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData;
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData.Pillar;
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData.ProfileInfo;
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData.SinsalInfo;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사주 기본 명식 계산. 포스텔러 /saju/chart 응답({@link ChartCreateResponse.BasicChartData})과 같은 형태로 만든다.
+ * <ul>
+ *   <li>기둥: 천간/지지(십성은 일간 기준), 지장간, 십이운성(일간 기준)</li>
+ *   <li>신살: 연지 기준 십이신살</li>
+ * </ul>
+ * 출생시간을 모르면 시주와 시주 신살은 비워 둔다. 출생지는 요청에서 채운다.
+ * 음력 생일은 만세력 테이블({@link ManseCalendarIndex})의 음력을 쓰고, 없으면 {@link LunarCalendarEngine} 으로 계산한다.
+ * 둘 다 안 되면 음력 생일만 비워 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChartEngine {
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+	private final ManseCalendarIndex manseCalendarIndex;
+	private final LunarCalendarEngine lunarCalendarEngine;
+
+	public BasicChartData create(SajuChart chart) {
+		Stem dayStem = chart.dayStem();
+		Branch yearBranch = chart.year().branch();
+
+		BasicChartData.SajuChart sajuChart = new BasicChartData.SajuChart(
+			pillar(chart.year(), dayStem),
+			pillar(chart.month(), dayStem),
+			pillar(chart.day(), dayStem),
+			chart.hasTime() ? pillar(chart.time(), dayStem) : null
+		);
+
+		SinsalInfo sinsal = new SinsalInfo(
+			PostellerModels.sinsal(yearBranch, chart.year().branch()),
+			PostellerModels.sinsal(yearBranch, chart.month().branch()),
+			PostellerModels.sinsal(yearBranch, chart.day().branch()),
+			chart.hasTime() ? PostellerModels.sinsal(yearBranch, chart.time().branch()) : null
+		);
+
+		return new BasicChartData(sajuChart, sinsal, profile(chart));
+	}
+
+	private static Pillar pillar(Ganji ganji, Stem dayStem) {
+		return new Pillar(
+			PostellerModels.element(ganji.stem(), dayStem),
+			PostellerModels.element(ganji.branch(), dayStem),
+			PostellerModels.jijanggan(ganji.branch()),
+			PostellerModels.unseong(dayStem, ganji.branch())
+		);
+	}
+
+	private ProfileInfo profile(SajuChart chart) {
+		String time = chart.hasTime() ? " " + chart.solarTime().format(TIME_FORMAT) : "";
+		// 자시로 다음날이 된 삼주 날짜가 아니라 실제 출생일을 보여준다
+		ProfileInfo profile = new ProfileInfo();
+		profile.setIndex(chart.day().index());
+		profile.setSexagenaryCycle(sexagenaryCycle(chart));
+		profile.setSunBirth(chart.birthDate().format(DATE_FORMAT) + time);
+		profile.setLunBirth(toLunar(chart.birthDate())
+			.map(lunar -> String.format("%d/%02d/%02d%s%s", lunar.year(), lunar.month(), lunar.day(),
+				lunar.leapMonth() ? " (윤)" : "", time))
+			.orElse(null));
+		profile.setAdjustedBirth(profile.getSunBirth());
+		return profile;
+	}
+
+	/**
+	 * 만세력 테이블의 음력 날짜. 테이블에 없으면 음력 계산으로 대체하고, 계산 범위 밖이면 비운다.
+	 */
+	private Optional<LunarDate> toLunar(LocalDate solarDate) {
+		Optional<LunarDate> stored = manseCalendarIndex.findBySolarDate(solarDate)
+			.filter(day -> day.lunarDate() != null)
+			.map(ChartEngine::lunarDate);
+		if (stored.isPresent()) {
+			return stored;
+		}
+		try {
+			return Optional.of(lunarCalendarEngine.toLunar(solarDate));
+		} catch (RuntimeException e) {
+			log.info("음력 생일 계산 불가, 비워 둠: solarDate={}, message={}", solarDate, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private static LunarDate lunarDate(CalendarDay day) {
+		LocalDate lunar = day.lunarDate();
+		return new LunarDate(lunar.getYear(), lunar.getMonthValue(), lunar.getDayOfMonth(), day.leapMonth());
+	}
+
+	/**
+	 * 예: 갑진년 병인월 갑자일 경오시 (시주를 모르면 시는 생략)
+	 */
+	private static String sexagenaryCycle(SajuChart chart) {
+		StringBuilder cycle = new StringBuilder()
+			.append(chart.year().korean()).append("년 ")
+			.append(chart.month().korean()).append("월 ")
+			.append(chart.day().korean()).append("일");
+		if (chart.hasTime()) {
+			cycle.append(' ').append(chart.time().korean()).append("시");
+		}
+		return cycle.toString();
+	}
+}
@@ -0,0 +1,109 @@
+package com.mansereok.server.service.saju;
+
+/**
+ * 사주 명식을 long 하나로 묶은 키. 같은 명식이면 같은 값이므로 캐시 키({@code StripedLruCache})와
+ * results / compatibility_results 의 chart_key 컬럼에 그대로 쓴다.
+ * <p>
+ * 비트 배치 (하위 비트부터):
+ * <pre>
+ *  0-31  여덟 글자, 4비트씩 연간 연지 월간 월지 일간 일지 시간 시지 순 (천간 0~9, 지지 0~11)
+ *        시주를 모르면 시간/시지는 {@value #UNKNOWN}
+ *  32    성별 (1 = 남)
+ *  33    대운 방향 (1 = 순행)
+ *  34-37 대운수 (0~15)
+ * </pre>
+ * 출생 날짜와 시각 자체는 들어가지 않는다. 같은 명식이어도 출생일이 다르면 다른 사람이다.
+ */
+public final class ChartKey {
+
+	static final int UNKNOWN = 0xF;
+
+	private static final int CODE_BITS = 4;
+	private static final int CODE_MASK = 0xF;
+	private static final int PILLAR_SLOTS = 8;
+	private static final int GENDER_SHIFT = PILLAR_SLOTS * CODE_BITS;
+	private static final int FORWARD_SHIFT = GENDER_SHIFT + 1;
+	private static final int BIG_FORTUNE_SHIFT = FORWARD_SHIFT + 1;
+	private static final int MAX_BIG_FORTUNE_NUMBER = CODE_MASK;
+
+	private static final int YEAR = 0;
+	private static final int MONTH = 1;
+	private static final int DAY = 2;
+	private static final int TIME = 3;
+
+	private ChartKey() {
+	}
+
+	/**
+	 * @param gender MALE / FEMALE
+	 */
+	public static long of(SajuChart chart, String gender) {
+		return pack(chart.year(), chart.month(), chart.day(), chart.time(), "MALE".equals(gender),
+			chart.forward(), chart.bigFortuneNumber());
+	}
+
+	static long pack(Ganji year, Ganji month, Ganji day, Ganji time, boolean male, boolean forward,
+		int bigFortuneNumber) {
+		if (bigFortuneNumber < 0 || bigFortuneNumber > MAX_BIG_FORTUNE_NUMBER) {
+			throw new IllegalArgumentException("대운수 범위를 벗어났습니다: " + bigFortuneNumber);
+		}
+		long key = pillar(year, YEAR) | pillar(month, MONTH) | pillar(day, DAY) | pillar(time, TIME);
+		if (male) {
+			key |= 1L << GENDER_SHIFT;
+		}
+		if (forward) {
+			key |= 1L << FORWARD_SHIFT;
+		}
+		return key | (long) bigFortuneNumber << BIG_FORTUNE_SHIFT;
+	}
+
+	private static long pillar(Ganji ganji, int pillar) {
+		int stem = ganji != null ? ganji.stem().ordinal() : UNKNOWN;
+		int branch = ganji != null ? ganji.branch().ordinal() : UNKNOWN;
+		return ((long) stem << shift(pillar, 0)) | ((long) branch << shift(pillar, 1));
+	}
+
+	private static int shift(int pillar, int slot) {
+		return (pillar * 2 + slot) * CODE_BITS;
+	}
+
+	public static Ganji year(long key) {
+		return ganji(key, YEAR);
+	}
+
+	public static Ganji month(long key) {
+		return ganji(key, MONTH);
+	}
+
+	public static Ganji day(long key) {
+		return ganji(key, DAY);
+	}
+
+	/**
+	 * 시주. 출생시간을 모르면 null.
+	 */
+	public static Ganji time(long key) {
+		return ganji(key, TIME);
+	}
+
+	public static boolean isMale(long key) {
+		return (key >>> GENDER_SHIFT & 1) == 1;
+	}
+
+	public static boolean isForward(long key) {
+		return (key >>> FORWARD_SHIFT & 1) == 1;
+	}
+
+	public static int bigFortuneNumber(long key) {
+		return (int) (key >>> BIG_FORTUNE_SHIFT & CODE_MASK);
+	}
+
+	private static Ganji ganji(long key, int pillar) {
+		int stem = (int) (key >>> shift(pillar, 0) & CODE_MASK);
+		int branch = (int) (key >>> shift(pillar, 1) & CODE_MASK);
+		if (stem == UNKNOWN || branch == UNKNOWN) {
+			return null;
+		}
+		return Ganji.of(Stem.of(stem), Branch.of(branch));
+	}
+}
@@ -0,0 +1,90 @@
+package com.mansereok.server.service.saju;
+
+import com.mansereok.server.service.response.DaeunCreateResponse;
+import com.mansereok.server.service.response.DaeunCreateResponse.DaeunInfo;
+import com.mansereok.server.service.response.DaeunCreateResponse.GanjiInfo;
+import com.mansereok.server.service.response.DaeunCreateResponse.WolunInfo;
+import com.mansereok.server.service.response.DaeunCreateResponse.YeonunInfo;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대운/연운/월운 계산. 포스텔러 /saju/daeun 응답({@link DaeunCreateResponse.SajuData})과 같은 형태로 만든다.
+ * <ul>
+ *   <li>대운: 월주에서 순행이면 다음 간지, 역행이면 이전 간지부터 10년씩 {@value #DAEUN_COUNT}개</li>
+ *   <li>연운: 출생년부터 {@value #YEARS}년간 해의 간지</li>
+ *   <li>월운: 같은 기간의 달별 간지. 달력상 월은 그 달에 시작하는 절기의 월로 본다 (2월 = 寅월)</li>
+ * </ul>
+ * age 는 출생년과의 차이(년)로, 대운의 year = 출생년 + age 이다. 출생년월은 자시 처리 전 실제 출생일({@link SajuChart#birthDate()}) 기준이다.
+ */
+@Component
+public class DaeunEngine {
+
+	static final int DAEUN_COUNT = 10;
+	static final int YEARS = 100;
+
+	private static final int MONTHS_PER_YEAR = 12;
+
+	public DaeunCreateResponse.SajuData create(SajuChart chart) {
+		Stem dayStem = chart.dayStem();
+		int birthYear = chart.birthDate().getYear();
+		int birthMonth = chart.birthDate().getMonthValue();
+		int step = chart.forward() ? 1 : -1;
+
+		List<DaeunInfo> daeunList = new ArrayList<>(DAEUN_COUNT);
+		for (int i = 0; i < DAEUN_COUNT; i++) {
+			DaeunInfo daeun = new DaeunInfo();
+			daeun.setGanji(ganjiInfo(chart.month().plus(step * (i + 1)), dayStem));
+			daeun.setAge(chart.bigFortuneNumber() + i * 10);
+			daeun.setYear(birthYear + daeun.getAge());
+			daeun.setMonth(birthMonth);
+			daeunList.add(daeun);
+		}
+
+		List<YeonunInfo> yeonunList = new ArrayList<>(YEARS);
+		List<WolunInfo> wolunList = new ArrayList<>(YEARS * MONTHS_PER_YEAR);
+		for (int year = birthYear; year < birthYear + YEARS; year++) {
+			YeonunInfo yeonun = new YeonunInfo();
+			yeonun.setGanji(ganjiInfo(Ganji.ofYear(year), dayStem));
+			yeonun.setAge(year - birthYear);
+			yeonun.setYear(year);
+			yeonunList.add(yeonun);
+
+			for (int month = 1; month <= MONTHS_PER_YEAR; month++) {
+				WolunInfo wolun = new WolunInfo();
+				wolun.setGanji(ganjiInfo(monthGanji(year, month), dayStem));
+				wolun.setAge(year - birthYear);
+				wolun.setYear(year);
+				wolun.setMonth(month);
+				wolunList.add(wolun);
+			}
+		}
+
+		DaeunCreateResponse.SajuData data = new DaeunCreateResponse.SajuData();
+		data.setDaeunNumber(chart.bigFortuneNumber());
+		data.setDaeunGanji(chart.month().plus(step).chinese());
+		data.setDaeunList(daeunList);
+		data.setYeonunList(yeonunList);
+		data.setWolunList(wolunList);
+		return data;
+	}
+
+	/**
+	 * 달력상 year 년 month 월에 시작하는 절기 월의 간지. 1월(소한~입춘)은 전년도 간지의 丑월이다.
+	 */
+	static Ganji monthGanji(int year, int month) {
+		Branch branch = Branch.of(month % MONTHS_PER_YEAR);
+		Stem yearStem = Ganji.ofYear(month == 1 ? year - 1 : year).stem();
+		return Ganji.ofMonth(yearStem, branch);
+	}
+
+	private static GanjiInfo ganjiInfo(Ganji ganji, Stem dayStem) {
+		GanjiInfo info = new GanjiInfo();
+		info.setCheongan(PostellerModels.element(ganji.stem(), dayStem));
+		info.setJiji(PostellerModels.element(ganji.branch(), dayStem));
+		info.setJijangganList(PostellerModels.jijanggan(ganji.branch()));
+		info.setUnseong(PostellerModels.unseong(dayStem, ganji.branch()));
+		return info;
+	}
+}
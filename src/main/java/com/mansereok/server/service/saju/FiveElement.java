@@ -0,0 +1,30 @@
+package com.mansereok.server.service.saju;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오행
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FiveElement {
+	WOOD("목", "木", "#4CAF50"),
+	FIRE("화", "火", "#F44336"),
+	EARTH("토", "土", "#FFD600"),
+	METAL("금", "金", "#E0E0E0"),
+	WATER("수", "水", "#039BE5");
+
+	private final String korean;
+	private final String chinese;
+	private final String color;
+
+	public static FiveElement fromKorean(String korean) {
+		for (FiveElement element : values()) {
+			if (element.getKorean().equals(korean)) {
+				return element;
+			}
+		}
+		throw new IllegalArgumentException("Unknown five element: " + korean);
+	}
+}
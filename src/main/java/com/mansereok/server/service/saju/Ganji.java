@@ -0,0 +1,94 @@
+package com.mansereok.server.service.saju;
+
+/**
+ * 60갑자 간지. index 0 = 甲子 ~ 59 = 癸亥.
+ * <p>
+ * 60개 인스턴스를 미리 만들어 두므로 {@link #of(int)} 는 할당 없이 조회만 한다.
+ */
+public record Ganji(int index) {
+
+	public static final int CYCLE = 60;
+
+	private static final Ganji[] VALUES = new Ganji[CYCLE];
+	private static final String[] CHINESE = new String[CYCLE];
+	private static final String[] KOREAN = new String[CYCLE];
+
+	static {
+		for (int i = 0; i < CYCLE; i++) {
+			Ganji ganji = new Ganji(i);
+			VALUES[i] = ganji;
+			CHINESE[i] = ganji.stem().getChinese() + ganji.branch().getChinese();
+			KOREAN[i] = ganji.stem().getKorean() + ganji.branch().getKorean();
+		}
+	}
+
+	public Ganji {
+		if (index < 0 || index >= CYCLE) {
+			throw new IllegalArgumentException("Invalid ganji index: " + index);
+		}
+	}
+
+	public static Ganji of(int index) {
+		return VALUES[Math.floorMod(index, CYCLE)];
+	}
+
+	/**
+	 * 천간과 지지로 조회. 음양이 다른 조합(예: 甲丑)은 60갑자에 없으므로 예외.
+	 */
+	public static Ganji of(Stem stem, Branch branch) {
+		if (stem.getYinYang() != branch.getYinYang()) {
+			throw new IllegalArgumentException("Invalid ganji: " + stem.getChinese() + branch.getChinese());
+		}
+		// index ≡ stem (mod 10), index ≡ branch (mod 12)
+		return VALUES[Math.floorMod(6 * stem.ordinal() - 5 * branch.ordinal(), CYCLE)];
+	}
+
+	/**
+	 * 해의 간지 (입춘 기준 연도). 1984 = 甲子
+	 */
+	public static Ganji ofYear(int ganjiYear) {
+		return of(ganjiYear - 4);
+	}
+
+	/**
+	 * 월의 간지. 월간은 연간에서 정해진다 (甲己년 丙寅월, 乙庚년 戊寅월, ...).
+	 */
+	public static Ganji ofMonth(Stem yearStem, Branch monthBranch) {
+		int monthFromTiger = Math.floorMod(monthBranch.ordinal() - 2, SajuTables.BRANCH_COUNT);
+		Stem monthStem = Stem.of((yearStem.ordinal() % 5 * 2 + 2 + monthFromTiger) % SajuTables.STEM_COUNT);
+		return of(monthStem, monthBranch);
+	}
+
+	/**
+	 * 두 글자 한자 간지(예: "甲子")로 조회
+	 */
+	public static Ganji fromChinese(String chinese) {
+		if (chinese == null || chinese.length() != 2) {
+			throw new IllegalArgumentException("Invalid ganji: " + chinese);
+		}
+		return of(Stem.fromChinese(chinese.substring(0, 1)), Branch.fromChinese(chinese.substring(1)));
+	}
+
+	public Stem stem() {
+		return Stem.of(index % SajuTables.STEM_COUNT);
+	}
+
+	public Branch branch() {
+		return Branch.of(index % SajuTables.BRANCH_COUNT);
+	}
+
+	/**
+	 * steps 만큼 순행(음수면 역행)한 간지
+	 */
+	public Ganji plus(int steps) {
+		return of(index + steps);
+	}
+
+	public String chinese() {
+		return CHINESE[index];
+	}
+
+	public String korean() {
+		return KOREAN[index];
+	}
+}
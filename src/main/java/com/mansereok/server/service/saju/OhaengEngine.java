@@ -0,0 +1,112 @@
+package com.mansereok.server.service.saju;
+
+import com.mansereok.server.service.response.OhaengCreateResponse;
+import com.mansereok.server.service.response.OhaengCreateResponse.AnalysisData.ElementInfo;
+import com.mansereok.server.service.response.model.Element;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오행/십성 세력 점수 계산. 포스텔러 /saju/points 응답({@link OhaengCreateResponse.AnalysisData})과 같은 형태로 만든다.
+ * <p>
+ * 점수는 정수 단위로 누적한다. 한 글자의 무게는 {@value #UNIT} 이다.
+ * <ul>
+ *   <li>천간: 그 천간의 오행/십성에 {@value #UNIT}</li>
+ *   <li>지지: 지장간 비율(한 지지의 합이 {@value #UNIT})대로 각 지장간 천간의 오행/십성에 나눠 준다</li>
+ *   <li>월지: 계절을 주관하므로(득령) {@value #MONTH_BRANCH_WEIGHT}배로 센다</li>
+ * </ul>
+ * 일간은 오행에는 포함하고, 자기 자신이므로 십성에서는 뺀다. point 는 글자 수 단위(누적값 / {@value #UNIT})이다.
+ */
+@Component
+public class OhaengEngine {
+
+	static final int UNIT = 30;
+	static final int MONTH_BRANCH_WEIGHT = 2;
+
+	// 과다/부족 기준 (%). 오행은 균형점 20%, 십성은 10% 기준
+	private static final int OHAENG_EXCESS = 35;
+	private static final int OHAENG_LACK = 10;
+	private static final int SIPSEONG_EXCESS = 25;
+	private static final int SIPSEONG_LACK = 5;
+
+	private static final FiveElement[] ELEMENTS = FiveElement.values();
+	private static final TenStar[] TEN_STARS = TenStar.values();
+
+	public OhaengCreateResponse.AnalysisData create(SajuChart chart) {
+		Stem dayStem = chart.dayStem();
+		int[] ohaeng = new int[ELEMENTS.length];
+		int[] sipseong = new int[TEN_STARS.length];
+
+		addStem(ohaeng, sipseong, dayStem, chart.year().stem());
+		addStem(ohaeng, sipseong, dayStem, chart.month().stem());
+		ohaeng[dayStem.getElement().ordinal()] += UNIT;
+		addBranch(ohaeng, sipseong, dayStem, chart.year().branch(), 1);
+		addBranch(ohaeng, sipseong, dayStem, chart.month().branch(), MONTH_BRANCH_WEIGHT);
+		addBranch(ohaeng, sipseong, dayStem, chart.day().branch(), 1);
+		if (chart.hasTime()) {
+			addStem(ohaeng, sipseong, dayStem, chart.time().stem());
+			addBranch(ohaeng, sipseong, dayStem, chart.time().branch(), 1);
+		}
+
+		List<ElementInfo> ohaengList = new ArrayList<>(ELEMENTS.length);
+		int ohaengTotal = sum(ohaeng);
+		for (FiveElement element : ELEMENTS) {
+			ohaengList.add(elementInfo(PostellerModels.element(element), ohaeng[element.ordinal()],
+				ohaengTotal, OHAENG_EXCESS, OHAENG_LACK));
+		}
+
+		List<ElementInfo> sipseongList = new ArrayList<>(TEN_STARS.length);
+		int sipseongTotal = sum(sipseong);
+		for (TenStar tenStar : TEN_STARS) {
+			sipseongList.add(elementInfo(PostellerModels.element(tenStar), sipseong[tenStar.ordinal()],
+				sipseongTotal, SIPSEONG_EXCESS, SIPSEONG_LACK));
+		}
+
+		return new OhaengCreateResponse.AnalysisData(ohaengList, sipseongList);
+	}
+
+	private static void addStem(int[] ohaeng, int[] sipseong, Stem dayStem, Stem stem) {
+		ohaeng[stem.getElement().ordinal()] += UNIT;
+		sipseong[TenStar.of(dayStem, stem).ordinal()] += UNIT;
+	}
+
+	private static void addBranch(int[] ohaeng, int[] sipseong, Stem dayStem, Branch branch,
+		int weight) {
+		for (int slot = 0; slot < SajuTables.JIJANGGAN_SLOTS; slot++) {
+			int code = SajuTables.jijangganStem(branch.ordinal(), slot);
+			if (code == SajuTables.NONE) {
+				continue;
+			}
+			Stem stem = Stem.of(code);
+			int point = SajuTables.jijangganRate(branch.ordinal(), slot) * weight;
+			ohaeng[stem.getElement().ordinal()] += point;
+			sipseong[TenStar.of(dayStem, stem).ordinal()] += point;
+		}
+	}
+
+	private static int sum(int[] points) {
+		int total = 0;
+		for (int point : points) {
+			total += point;
+		}
+		return total;
+	}
+
+	private static ElementInfo elementInfo(Element element, int point, int total,
+		int excess, int lack) {
+		double percent = total == 0 ? 0 : Math.round(point * 1000.0 / total) / 10.0;
+		return new ElementInfo(element, Math.round(point * 10.0 / UNIT) / 10.0, percent,
+			describe(percent, excess, lack));
+	}
+
+	private static String describe(double percent, int excess, int lack) {
+		if (percent == 0) {
+			return "없음";
+		}
+		if (percent >= excess) {
+			return "과다";
+		}
+		return percent <= lack ? "부족" : "적정";
+	}
+}
@@ -0,0 +1,128 @@
+package com.mansereok.server.service.saju;
+
+import com.mansereok.server.service.response.ManseryeokCalculationResponse.JijangganElement;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse.JijangganInfo;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse.PillarElement;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse.TimeCandidate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답용 간지 정보 flyweight.
+ * <p>
+ * (천간 10 + 지지 12) x 일간 10 = 220 개의 {@link PillarElement} 와 지지별 {@link JijangganInfo} 12 개,
+ * 일간별 시주 후보 12 개를 클래스 로딩 시 한 번만 만들어 두고, 응답을 만들 때는 참조만 고른다.
+ * 모든 인스턴스는 불변이다.
+ */
+public final class PillarElements {
+
+	// [일간 * STEM_COUNT + 천간]
+	private static final PillarElement[] STEMS =
+		new PillarElement[SajuTables.STEM_COUNT * SajuTables.STEM_COUNT];
+
+	// [일간 * BRANCH_COUNT + 지지]
+	private static final PillarElement[] BRANCHES =
+		new PillarElement[SajuTables.STEM_COUNT * SajuTables.BRANCH_COUNT];
+
+	private static final JijangganInfo[] JIJANGGAN = new JijangganInfo[SajuTables.BRANCH_COUNT];
+
+	// [일간] -> 자시~해시 시주 12개
+	private static final List<List<TimeCandidate>> TIME_CANDIDATES;
+
+	static {
+		for (Branch branch : Branch.values()) {
+			JIJANGGAN[branch.ordinal()] = JijangganInfo.builder()
+				.first(createJijangganElement(branch, 0))
+				.second(createJijangganElement(branch, 1))
+				.third(createJijangganElement(branch, 2))
+				.build();
+		}
+
+		for (Stem dayStem : Stem.values()) {
+			for (Stem stem : Stem.values()) {
+				STEMS[dayStem.ordinal() * SajuTables.STEM_COUNT + stem.ordinal()] =
+					PillarElement.builder()
+						.chinese(stem.getChinese())
+						.korean(stem.getKorean())
+						.fiveCircle(stem.getElement().getKorean())  // 오행
+						.fiveCircleColor(stem.getElement().getColor())
+						.tenStar(TenStar.of(dayStem, stem).getKorean())     // 십성
+						.minusPlus(stem.getYinYang().getKorean())
+						.build();
+			}
+			for (Branch branch : Branch.values()) {
+				BRANCHES[dayStem.ordinal() * SajuTables.BRANCH_COUNT + branch.ordinal()] =
+					PillarElement.builder()
+						.chinese(branch.getChinese())
+						.korean(branch.getKorean())
+						.fiveCircle(branch.getElement().getKorean())  // 오행
+						.fiveCircleColor(branch.getElement().getColor())
+						.tenStar(TenStar.of(dayStem, branch).getKorean())     // 십성
+						.minusPlus(branch.getYinYang().getKorean())
+						.jijanggan(JIJANGGAN[branch.ordinal()])
+						.build();
+			}
+		}
+
+		List<List<TimeCandidate>> timeCandidates = new ArrayList<>(SajuTables.STEM_COUNT);
+		for (Stem dayStem : Stem.values()) {
+			TimeCandidate[] candidates = new TimeCandidate[SajuTables.BRANCH_COUNT];
+			for (Branch branch : Branch.values()) {
+				Stem timeStem = Stem.of(SajuTables.timeStem(dayStem.code(), branch.ordinal()));
+				candidates[branch.ordinal()] = TimeCandidate.builder()
+					.timeName(branch.getKorean() + "시")
+					.timeRange(SajuTables.timeRange(branch.ordinal()))
+					.timeSky(of(timeStem, dayStem))
+					.timeGround(of(branch, dayStem))
+					.build();
+			}
+			timeCandidates.add(List.of(candidates));
+		}
+		TIME_CANDIDATES = List.copyOf(timeCandidates);
+	}
+
+	private PillarElements() {
+	}
+
+	/**
+	 * 천간 정보 (십성은 일간 기준)
+	 */
+	public static PillarElement of(Stem stem, Stem dayStem) {
+		return STEMS[dayStem.ordinal() * SajuTables.STEM_COUNT + stem.ordinal()];
+	}
+
+	/**
+	 * 지지 정보 (십성은 일간 기준, 지장간 포함)
+	 */
+	public static PillarElement of(Branch branch, Stem dayStem) {
+		return BRANCHES[dayStem.ordinal() * SajuTables.BRANCH_COUNT + branch.ordinal()];
+	}
+
+	/**
+	 * 출생시간을 모를 때 보여줄 자시~해시 시주 12개 (십성은 일간 기준). 자시는 당일 일간 기준이다.
+	 */
+	public static List<TimeCandidate> timeCandidates(Stem dayStem) {
+		return TIME_CANDIDATES.get(dayStem.ordinal());
+	}
+
+	public static JijangganInfo jijanggan(Branch branch) {
+		return JIJANGGAN[branch.ordinal()];
+	}
+
+	private static JijangganElement createJijangganElement(Branch branch, int slot) {
+		int code = SajuTables.jijangganStem(branch.ordinal(), slot);
+		if (code == SajuTables.NONE) {
+			return null;
+		}
+
+		Stem stem = Stem.of(code);
+		return JijangganElement.builder()
+			.chinese(stem.getChinese())
+			.korean(stem.getKorean())
+			.fiveCircle(stem.getElement().getKorean())
+			.fiveCircleColor(stem.getElement().getColor())
+			.minusPlus(stem.getYinYang().getKorean())
+			.rate(SajuTables.jijangganRate(branch.ordinal(), slot))
+			.build();
+	}
+}
@@ -0,0 +1,99 @@
+package com.mansereok.server.service.saju;
+
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData.SinsalElement;
+import com.mansereok.server.service.response.model.Element;
+import com.mansereok.server.service.response.model.EumYang;
+import com.mansereok.server.service.response.model.JijangganInfo;
+import com.mansereok.server.service.response.model.Ohaeng;
+import com.mansereok.server.service.response.model.Sipseong;
+import com.mansereok.server.service.response.model.UnseongInfo;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 엔진이 포스텔러 응답 모델({@link Element} 등)을 만들 때 쓰는 변환.
+ * <p>
+ * 포스텔러 모델은 가변 객체라 공유하지 않고 매번 새로 만든다. id 는 각 enum 의 ordinal 이다.
+ */
+public final class PostellerModels {
+
+	private PostellerModels() {
+	}
+
+	/**
+	 * 천간 (십성은 일간 기준)
+	 */
+	public static Element element(Stem stem, Stem dayStem) {
+		return new Element(stem.ordinal(), stem.getKorean(), stem.getChinese(),
+			eumYang(stem.getYinYang()), ohaeng(stem.getElement()),
+			sipseong(TenStar.of(dayStem, stem)));
+	}
+
+	/**
+	 * 지지 (십성은 일간 기준)
+	 */
+	public static Element element(Branch branch, Stem dayStem) {
+		return new Element(branch.ordinal(), branch.getKorean(), branch.getChinese(),
+			eumYang(branch.getYinYang()), ohaeng(branch.getElement()),
+			sipseong(TenStar.of(dayStem, branch)));
+	}
+
+	/**
+	 * 오행 자체 (오행 분석 항목)
+	 */
+	public static Element element(FiveElement element) {
+		return new Element(element.ordinal(), element.getKorean(), element.getChinese(),
+			null, ohaeng(element), null);
+	}
+
+	/**
+	 * 십성 자체 (십성 분석 항목)
+	 */
+	public static Element element(TenStar tenStar) {
+		return new Element(tenStar.ordinal(), tenStar.getKorean(), tenStar.getChinese(),
+			null, null, sipseong(tenStar));
+	}
+
+	public static EumYang eumYang(YinYang yinYang) {
+		return new EumYang(yinYang.ordinal(), yinYang.getKorean(), yinYang.getChinese());
+	}
+
+	public static Ohaeng ohaeng(FiveElement element) {
+		return new Ohaeng(element.ordinal(), element.getKorean(), element.getChinese());
+	}
+
+	public static Sipseong sipseong(TenStar tenStar) {
+		return new Sipseong(tenStar.ordinal(), tenStar.getKorean(), tenStar.getChinese());
+	}
+
+	/**
+	 * 지장간 (여기, 중기, 정기 순. 빈 슬롯은 제외)
+	 */
+	public static List<JijangganInfo> jijanggan(Branch branch) {
+		List<JijangganInfo> list = new ArrayList<>(SajuTables.JIJANGGAN_SLOTS);
+		for (int slot = 0; slot < SajuTables.JIJANGGAN_SLOTS; slot++) {
+			int code = SajuTables.jijangganStem(branch.ordinal(), slot);
+			if (code != SajuTables.NONE) {
+				Stem stem = Stem.of(code);
+				list.add(new JijangganInfo(stem.ordinal(), stem.getKorean(), stem.getChinese()));
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * 십이운성 (일간 기준)
+	 */
+	public static UnseongInfo unseong(Stem dayStem, Branch branch) {
+		TwelveStage stage = TwelveStage.of(dayStem, branch);
+		return new UnseongInfo(stage.ordinal(), stage.getKorean(), stage.getChinese());
+	}
+
+	/**
+	 * 십이신살 (연지 기준)
+	 */
+	public static SinsalElement sinsal(Branch yearBranch, Branch branch) {
+		TwelveSinsal sinsal = TwelveSinsal.of(yearBranch, branch);
+		return new SinsalElement(sinsal.ordinal(), sinsal.getKorean(), sinsal.getChinese());
+	}
+}
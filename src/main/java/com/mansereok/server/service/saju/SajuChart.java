@@ -0,0 +1,39 @@
+package com.mansereok.server.service.saju;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 계산된 사주 명식. 만세력 계산 응답과 로컬 대운/차트/오행 엔진이 함께 사용한다.
+ *
+ * @param solarDate           삼주 기준 양력 날짜 (자시 처리 반영)
+ * @param birthDate           실제 출생일 (양력, 자시 처리 전). 출생 정보 표시와 나이 계산에 쓴다
+ * @param solarTime           출생시각 (모르면 null)
+ * @param seasonStartTime     절입일이면 절입시간 문자열, 아니면 null
+ * @param time                시주 (출생시간을 모르면 null)
+ * @param forward             대운 순행 여부
+ * @param bigFortuneNumber    대운수
+ * @param bigFortuneStartYear 첫 대운이 시작되는 해
+ */
+public record SajuChart(
+	LocalDate solarDate,
+	LocalDate birthDate,
+	LocalTime solarTime,
+	String seasonStartTime,
+	Ganji year,
+	Ganji month,
+	Ganji day,
+	Ganji time,
+	boolean forward,
+	int bigFortuneNumber,
+	int bigFortuneStartYear
+) {
+
+	public Stem dayStem() {
+		return day.stem();
+	}
+
+	public boolean hasTime() {
+		return time != null;
+	}
+}
@@ -0,0 +1,249 @@
+package com.mansereok.server.service.saju;
+
+import com.mansereok.server.service.SajuDataService;
+import java.time.LocalTime;
+import java.util.Map;
+
+/**
+ * 천간/지지 조회 테이블.
+ * <p>
+ * {@link SajuDataService} 의 기준 데이터를 클래스 로딩 시 한 번만 배열로 펼쳐두고, 이후에는 배열 인덱스로만 조회한다.
+ * 요청 처리 중에는 어떤 객체도 새로 할당하지 않는다.
+ * <p>
+ * 간지 코드: 천간 0~9 (甲~癸), 지지 10~21 (子~亥)
+ */
+public final class SajuTables {
+
+	public static final int STEM_COUNT = 10;
+	public static final int BRANCH_COUNT = 12;
+	public static final int CODE_COUNT = STEM_COUNT + BRANCH_COUNT;
+	public static final int JIJANGGAN_SLOTS = 3;
+	public static final int NONE = -1;
+
+	private static final String[] CHINESE = {
+		"甲", "乙", "丙", "丁", "戊", "己", "庚", "辛", "壬", "癸",
+		"子", "丑", "寅", "卯", "辰", "巳", "午", "未", "申", "酉", "戌", "亥"
+	};
+
+	private static final String[] KOREAN = new String[CODE_COUNT];
+	private static final String[] MINUS_PLUS = new String[CODE_COUNT];
+	private static final String[] FIVE_CIRCLE = new String[CODE_COUNT];
+	private static final String[] FIVE_CIRCLE_COLOR = new String[CODE_COUNT];
+
+	// [일간 * CODE_COUNT + 간지 코드] -> 십성
+	private static final String[] TEN_STAR = new String[STEM_COUNT * CODE_COUNT];
+
+	// [일간 * BRANCH_COUNT + 시지] -> 시간(천간 코드)
+	private static final int[] TIME_STEM = new int[STEM_COUNT * BRANCH_COUNT];
+
+	public static final int MINUTES_PER_DAY = 24 * 60;
+
+	// 야자시 시작 (23:30). 이 시각부터 자정까지는 다음날의 자시에 해당한다.
+	public static final int LATE_ZI_START = 23 * 60 + 30;
+
+	// [하루 중 분] -> 시지 (0=子 ~ 11=亥). 23:30~01:29 는 자시로 자정을 넘어 이어진다.
+	private static final byte[] TIME_BRANCH = new byte[MINUTES_PER_DAY];
+
+	// [시지] -> "23:30~01:29"
+	private static final String[] TIME_RANGE = new String[BRANCH_COUNT];
+
+	// [지지 * JIJANGGAN_SLOTS + 슬롯] -> 지장간 천간 코드 / 비율 (없으면 NONE)
+	private static final int[] JIJANGGAN_STEM = new int[BRANCH_COUNT * JIJANGGAN_SLOTS];
+	private static final int[] JIJANGGAN_RATE = new int[BRANCH_COUNT * JIJANGGAN_SLOTS];
+
+	private static final String[] JIJANGGAN_KEYS = {"first", "second", "third"};
+
+	static {
+		SajuDataService source = new SajuDataService();
+		Map<String, String> korean = source.convertChineseToKorean();
+		Map<String, String> minusPlus = source.getMinusPlus();
+		Map<String, Map<String, String>> tenStar = source.getTenStar();
+		Map<String, Map<String, String[]>> timeJu = source.getTimeJuData2();
+		Map<String, LocalTime[]> timeRanges = source.getTimeJuData();
+		Map<String, Map<String, Object>> jijangan = source.getJijangan();
+
+		for (int code = 0; code < CODE_COUNT; code++) {
+			String chinese = CHINESE[code];
+			KOREAN[code] = korean.get(chinese);
+			MINUS_PLUS[code] = minusPlus.get(chinese);
+		}
+
+		for (int dayStem = 0; dayStem < STEM_COUNT; dayStem++) {
+			Map<String, String> row = tenStar.get(CHINESE[dayStem]);
+			for (int code = 0; code < CODE_COUNT; code++) {
+				String[] parts = row.get(CHINESE[code]).split(",");
+				TEN_STAR[dayStem * CODE_COUNT + code] = parts[0];
+				FIVE_CIRCLE[code] = parts[1];
+				FIVE_CIRCLE_COLOR[code] = colorOf(parts[1]);
+			}
+
+			Map<String, String[]> timeRow = timeJu.get(CHINESE[dayStem]);
+			for (int branch = 0; branch < BRANCH_COUNT; branch++) {
+				TIME_STEM[dayStem * BRANCH_COUNT + branch] =
+					code(timeRow.get(String.valueOf(branch))[0]);
+			}
+		}
+
+		for (int branch = 0; branch < BRANCH_COUNT; branch++) {
+			LocalTime[] range = timeRanges.get(String.valueOf(branch));
+			TIME_RANGE[branch] = range[0] + "~" + range[1];
+			int start = minuteOfDay(range[0]);
+			int end = minuteOfDay(range[1]);
+			for (int minute = start; minute != (end + 1) % MINUTES_PER_DAY;
+				minute = (minute + 1) % MINUTES_PER_DAY) {
+				TIME_BRANCH[minute] = (byte) branch;
+			}
+		}
+
+		for (int branch = 0; branch < BRANCH_COUNT; branch++) {
+			Map<String, Object> row = jijangan.get(CHINESE[STEM_COUNT + branch]);
+			for (int slot = 0; slot < JIJANGGAN_SLOTS; slot++) {
+				Object element = row.get(JIJANGGAN_KEYS[slot]);
+				int index = branch * JIJANGGAN_SLOTS + slot;
+				if (element instanceof Map<?, ?> data) {
+					JIJANGGAN_STEM[index] = code((String) data.get("chinese"));
+					JIJANGGAN_RATE[index] = (Integer) data.get("rate");
+				} else {
+					JIJANGGAN_STEM[index] = NONE;
+					JIJANGGAN_RATE[index] = 0;
+				}
+			}
+		}
+	}
+
+	private SajuTables() {
+	}
+
+	/**
+	 * 한자 간지를 코드로 변환한다. 알 수 없는 글자는 {@link #NONE}.
+	 */
+	public static int code(String chinese) {
+		if (chinese == null || chinese.length() != 1) {
+			return NONE;
+		}
+		return switch (chinese.charAt(0)) {
+			case '甲' -> 0;
+			case '乙' -> 1;
+			case '丙' -> 2;
+			case '丁' -> 3;
+			case '戊' -> 4;
+			case '己' -> 5;
+			case '庚' -> 6;
+			case '辛' -> 7;
+			case '壬' -> 8;
+			case '癸' -> 9;
+			case '子' -> 10;
+			case '丑' -> 11;
+			case '寅' -> 12;
+			case '卯' -> 13;
+			case '辰' -> 14;
+			case '巳' -> 15;
+			case '午' -> 16;
+			case '未' -> 17;
+			case '申' -> 18;
+			case '酉' -> 19;
+			case '戌' -> 20;
+			case '亥' -> 21;
+			default -> NONE;
+		};
+	}
+
+	public static boolean isStem(int code) {
+		return code >= 0 && code < STEM_COUNT;
+	}
+
+	public static boolean isBranch(int code) {
+		return code >= STEM_COUNT && code < CODE_COUNT;
+	}
+
+	public static int branchCode(int branchIndex) {
+		return STEM_COUNT + branchIndex;
+	}
+
+	public static String chinese(int code) {
+		return CHINESE[code];
+	}
+
+	public static String korean(int code) {
+		return KOREAN[code];
+	}
+
+	public static String minusPlus(int code) {
+		return MINUS_PLUS[code];
+	}
+
+	public static String fiveCircle(int code) {
+		return FIVE_CIRCLE[code];
+	}
+
+	public static String fiveCircleColor(int code) {
+		return FIVE_CIRCLE_COLOR[code];
+	}
+
+	/**
+	 * 일간 기준 십성
+	 *
+	 * @param dayStem 일간 코드 (0~9)
+	 * @param code    간지 코드 (0~21)
+	 */
+	public static String tenStar(int dayStem, int code) {
+		return TEN_STAR[dayStem * CODE_COUNT + code];
+	}
+
+	/**
+	 * 일간과 시지(0=子 ~ 11=亥)로 시간(천간 코드)을 구한다.
+	 */
+	public static int timeStem(int dayStem, int timeBranch) {
+		return TIME_STEM[dayStem * BRANCH_COUNT + timeBranch];
+	}
+
+	/**
+	 * 출생시각의 시지(0=子 ~ 11=亥). 초 이하는 버린다.
+	 */
+	public static int timeBranch(LocalTime time) {
+		return TIME_BRANCH[minuteOfDay(time)];
+	}
+
+	/**
+	 * 시지(0=子 ~ 11=亥)의 시간 범위, 예: "23:30~01:29"
+	 */
+	public static String timeRange(int timeBranch) {
+		return TIME_RANGE[timeBranch];
+	}
+
+	public static int minuteOfDay(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+
+	/**
+	 * 야자시(23:30~23:59) 여부
+	 */
+	public static boolean isLateZi(LocalTime time) {
+		return minuteOfDay(time) >= LATE_ZI_START;
+	}
+
+	/**
+	 * 지장간 천간 코드. 해당 슬롯이 비어 있으면 {@link #NONE}.
+	 *
+	 * @param branchIndex 지지 (0=子 ~ 11=亥)
+	 * @param slot        0=여기, 1=중기, 2=정기
+	 */
+	public static int jijangganStem(int branchIndex, int slot) {
+		return JIJANGGAN_STEM[branchIndex * JIJANGGAN_SLOTS + slot];
+	}
+
+	public static int jijangganRate(int branchIndex, int slot) {
+		return JIJANGGAN_RATE[branchIndex * JIJANGGAN_SLOTS + slot];
+	}
+
+	public static String colorOf(String fiveCircle) {
+		return switch (fiveCircle) {
+			case "목" -> "#4CAF50";
+			case "화" -> "#F44336";
+			case "토" -> "#FFD600";
+			case "금" -> "#E0E0E0";
+			case "수" -> "#039BE5";
+			default -> "";
+		};
+	}
+}
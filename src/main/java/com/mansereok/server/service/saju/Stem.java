@@ -0,0 +1,48 @@
+package com.mansereok.server.service.saju;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 천간. ordinal 은 {@link SajuTables} 의 천간 코드(0~9)와 같다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Stem {
+	GAP("甲", "갑", FiveElement.WOOD, YinYang.YANG),
+	EUL("乙", "을", FiveElement.WOOD, YinYang.YIN),
+	BYEONG("丙", "병", FiveElement.FIRE, YinYang.YANG),
+	JEONG("丁", "정", FiveElement.FIRE, YinYang.YIN),
+	MU("戊", "무", FiveElement.EARTH, YinYang.YANG),
+	GI("己", "기", FiveElement.EARTH, YinYang.YIN),
+	GYEONG("庚", "경", FiveElement.METAL, YinYang.YANG),
+	SIN("辛", "신", FiveElement.METAL, YinYang.YIN),
+	IM("壬", "임", FiveElement.WATER, YinYang.YANG),
+	GYE("癸", "계", FiveElement.WATER, YinYang.YIN);
+
+	private static final Stem[] VALUES = values();
+
+	private final String chinese;
+	private final String korean;
+	private final FiveElement element;
+	private final YinYang yinYang;
+
+	public static Stem of(int index) {
+		return VALUES[index];
+	}
+
+	public static Stem fromChinese(String chinese) {
+		int code = SajuTables.code(chinese);
+		if (!SajuTables.isStem(code)) {
+			throw new IllegalArgumentException("Unknown stem: " + chinese);
+		}
+		return VALUES[code];
+	}
+
+	/**
+	 * {@link SajuTables} 간지 코드
+	 */
+	public int code() {
+		return ordinal();
+	}
+}
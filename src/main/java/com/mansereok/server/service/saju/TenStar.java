@@ -0,0 +1,54 @@
+package com.mansereok.server.service.saju;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 십성. 일간과 대상 간지의 관계를 {@link SajuTables} 기준 데이터에서 한 번만 펼쳐 둔다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TenStar {
+	BIGYEON("비견", "比肩"),
+	GEOPJAE("겁재", "劫財"),
+	SIKSIN("식신", "食神"),
+	SANGGWAN("상관", "傷官"),
+	PYEONJAE("편재", "偏財"),
+	JEONGJAE("정재", "正財"),
+	PYEONGWAN("편관", "偏官"),
+	JEONGGWAN("정관", "正官"),
+	PYEONIN("편인", "偏印"),
+	JEONGIN("정인", "正印");
+
+	// [일간 * CODE_COUNT + 간지 코드] -> 십성
+	private static final TenStar[] TABLE = new TenStar[SajuTables.STEM_COUNT * SajuTables.CODE_COUNT];
+
+	static {
+		for (int dayStem = 0; dayStem < SajuTables.STEM_COUNT; dayStem++) {
+			for (int code = 0; code < SajuTables.CODE_COUNT; code++) {
+				TABLE[dayStem * SajuTables.CODE_COUNT + code] =
+					fromKorean(SajuTables.tenStar(dayStem, code));
+			}
+		}
+	}
+
+	private final String korean;
+	private final String chinese;
+
+	public static TenStar of(Stem dayStem, Stem stem) {
+		return TABLE[dayStem.ordinal() * SajuTables.CODE_COUNT + stem.code()];
+	}
+
+	public static TenStar of(Stem dayStem, Branch branch) {
+		return TABLE[dayStem.ordinal() * SajuTables.CODE_COUNT + branch.code()];
+	}
+
+	public static TenStar fromKorean(String korean) {
+		for (TenStar tenStar : values()) {
+			if (tenStar.getKorean().equals(korean)) {
+				return tenStar;
+			}
+		}
+		throw new IllegalArgumentException("Unknown ten star: " + korean);
+	}
+}
@@ -0,0 +1,53 @@
+package com.mansereok.server.service.saju;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 십이신살. 기준 지지(연지)의 삼합 국에서 각 지지가 차지하는 자리.
+ * <p>
+ * 삼합의 생지가 지살이고, 거기서 순행하며 연살, 월살, ... 천살 순으로 붙는다.
+ * 기준 지지 x 대상 지지 144칸을 클래스 로딩 시 한 번만 채운다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TwelveSinsal {
+	GEOPSAL("겁살", "劫殺"),
+	JAESAL("재살", "災殺"),
+	CHEONSAL("천살", "天殺"),
+	JISAL("지살", "地殺"),
+	YEONSAL("연살", "年殺"),
+	WOLSAL("월살", "月殺"),
+	MANGSINSAL("망신살", "亡身殺"),
+	JANGSEONGSAL("장성살", "將星殺"),
+	BANANSAL("반안살", "攀鞍殺"),
+	YEOKMASAL("역마살", "驛馬殺"),
+	YUKHAESAL("육해살", "六害殺"),
+	HWAGAESAL("화개살", "華蓋殺");
+
+	// 삼합 국별 생지 (지지 % 4): 申子辰 -> 申, 巳酉丑 -> 巳, 寅午戌 -> 寅, 亥卯未 -> 亥
+	private static final Branch[] SAENGJI = {Branch.SIN, Branch.SA, Branch.IN, Branch.HAE};
+
+	// [기준 지지 * BRANCH_COUNT + 대상 지지]
+	private static final TwelveSinsal[] TABLE =
+		new TwelveSinsal[SajuTables.BRANCH_COUNT * SajuTables.BRANCH_COUNT];
+
+	static {
+		TwelveSinsal[] sinsals = values();
+		for (Branch base : Branch.values()) {
+			int start = SAENGJI[base.ordinal() % SAENGJI.length].ordinal();
+			for (Branch branch : Branch.values()) {
+				TABLE[base.ordinal() * SajuTables.BRANCH_COUNT + branch.ordinal()] =
+					sinsals[Math.floorMod(branch.ordinal() - start + JISAL.ordinal(),
+						SajuTables.BRANCH_COUNT)];
+			}
+		}
+	}
+
+	private final String korean;
+	private final String chinese;
+
+	public static TwelveSinsal of(Branch base, Branch branch) {
+		return TABLE[base.ordinal() * SajuTables.BRANCH_COUNT + branch.ordinal()];
+	}
+}
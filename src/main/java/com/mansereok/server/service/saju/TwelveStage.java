@@ -0,0 +1,56 @@
+package com.mansereok.server.service.saju;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 십이운성. 일간이 각 지지에서 갖는 기운의 단계.
+ * <p>
+ * 양간은 장생지에서 순행, 음간은 장생지에서 역행한다. 일간 x 지지 120칸을 클래스 로딩 시 한 번만 채운다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TwelveStage {
+	JANGSAENG("장생", "長生"),
+	MOGYOK("목욕", "沐浴"),
+	GWANDAE("관대", "冠帶"),
+	GEONROK("건록", "建祿"),
+	JEWANG("제왕", "帝旺"),
+	SOE("쇠", "衰"),
+	BYEONG("병", "病"),
+	SA("사", "死"),
+	MYO("묘", "墓"),
+	JEOL("절", "絶"),
+	TAE("태", "胎"),
+	YANG("양", "養");
+
+	// 천간별 장생지: 甲亥 乙午 丙寅 丁酉 戊寅 己酉 庚巳 辛子 壬申 癸卯
+	private static final Branch[] JANGSAENG_BRANCH = {
+		Branch.HAE, Branch.O, Branch.IN, Branch.YU, Branch.IN,
+		Branch.YU, Branch.SA, Branch.JA, Branch.SIN, Branch.MYO
+	};
+
+	// [일간 * BRANCH_COUNT + 지지]
+	private static final TwelveStage[] TABLE =
+		new TwelveStage[SajuTables.STEM_COUNT * SajuTables.BRANCH_COUNT];
+
+	static {
+		TwelveStage[] stages = values();
+		for (Stem stem : Stem.values()) {
+			int start = JANGSAENG_BRANCH[stem.ordinal()].ordinal();
+			for (Branch branch : Branch.values()) {
+				int offset = stem.getYinYang() == YinYang.YANG
+					? branch.ordinal() - start : start - branch.ordinal();
+				TABLE[stem.ordinal() * SajuTables.BRANCH_COUNT + branch.ordinal()] =
+					stages[Math.floorMod(offset, SajuTables.BRANCH_COUNT)];
+			}
+		}
+	}
+
+	private final String korean;
+	private final String chinese;
+
+	public static TwelveStage of(Stem stem, Branch branch) {
+		return TABLE[stem.ordinal() * SajuTables.BRANCH_COUNT + branch.ordinal()];
+	}
+}
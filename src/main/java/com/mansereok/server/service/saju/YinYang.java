@@ -0,0 +1,17 @@
+package com.mansereok.server.service.saju;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 음양
+ */
+@Getter
+@RequiredArgsConstructor
+public enum YinYang {
+	YANG("양", "陽"),
+	YIN("음", "陰");
+
+	private final String korean;
+	private final String chinese;
+}
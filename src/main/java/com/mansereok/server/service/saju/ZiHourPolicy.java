@@ -0,0 +1,18 @@
+package com.mansereok.server.service.saju;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자시(23:30~01:29) 처리 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ZiHourPolicy {
+	// 23:30 이후 출생은 날짜를 다음날로 넘겨 삼주와 시주를 모두 다음날 기준으로 본다
+	UNIFIED("통자시"),
+	// 23:30~23:59(야자시)는 당일 삼주를 유지하고 시주만 다음날 일간 기준 자시로, 00:00~01:29(조자시)는 당일로 본다
+	SPLIT("야자시/조자시");
+
+	private final String korean;
+}
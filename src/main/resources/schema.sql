@@ -115,10 +115,12 @@ CREATE TABLE results
     solar_time   TIME         NOT NULL,
     gender       VARCHAR(10)  NOT NULL, -- "MALE", "FEMALE" 등
     is_lunar     BOOLEAN      NOT NULL,
+    chart_key    BIGINT,                -- 사주 명식 키 (ChartKey)
 
     -- 핵심 결과 정보
     ilgan        VARCHAR(10)  NOT NULL, -- 예: "임수"
     interpretation TEXT       NOT NULL, -- GPT가 생성한 긴 해석 내용
+    interpretation_template TEXT,       -- 이름 대신 자리표시(○○)로 만든 해석 (재사용용)
 
     -- 메타데이터
     created_at   DATETIME(6) NOT NULL,
@@ -126,7 +128,8 @@ CREATE TABLE results
 
     -- 검색 성능 향상을 위한 인덱스
     INDEX        idx_results_user_id (user_id),
-    INDEX        idx_results_saju (name, solar_date, solar_time) -- 이름과 생년월일시로 조회하는 경우
+    INDEX        idx_results_saju (name, solar_date, solar_time), -- 이름과 생년월일시로 조회하는 경우
+    INDEX        idx_results_chart_key (chart_key, solar_date, solar_time) -- 같은 명식의 해석 재사용
 );
 
 -- 궁합 분석 결과 저장 테이블
@@ -143,6 +146,8 @@ CREATE TABLE compatibility_results
     person1_ilgan        VARCHAR(10),
     person2_name         VARCHAR(100),
     person2_ilgan        VARCHAR(10),
+    person1_chart_key    BIGINT, -- 사주 명식 키 (ChartKey)
+    person2_chart_key    BIGINT,
 
     -- 궁합 분석 결과
     compatibility_score  INT, -- 궁합 점수 (0-100)
@@ -152,7 +157,20 @@ CREATE TABLE compatibility_results
     created_at           DATETIME(6) NOT NULL,
 
     -- 인덱스
-    INDEX idx_compatibility_results_user_id (user_id)
+    INDEX idx_compatibility_results_user_id (user_id),
+    INDEX idx_compatibility_results_chart_key (person1_chart_key, person2_chart_key)
+);
+
+-- Kafka 해석 파이프라인 요청 상태
+CREATE TABLE interpretation_requests
+(
+    request_id  VARCHAR(36) PRIMARY KEY,
+    type        VARCHAR(30) NOT NULL, -- INTERPRET / INTERPRET_COMPATIBILITY
+    status      VARCHAR(20) NOT NULL, -- QUEUED / RUNNING / SUCCEEDED / FAILED
+    result_id   BIGINT,               -- results.id 또는 compatibility_results.id
+    error       VARCHAR(500),
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL
 );
 
 CREATE TABLE payments (
@@ -169,6 +187,8 @@ CREATE INDEX idx_manses_solar_date ON manses(solar_date);
 CREATE INDEX idx_manses_lunar_date ON manses(lunar_date);
 -- solar_date와 leap_month의 조합은 사용자의 요청대로 유지
 CREATE INDEX idx_solar_leap ON manses(solar_date, leap_month);
+-- 음력 조회는 윤달 여부까지 포함해야 한 건으로 특정됨
+CREATE INDEX idx_lunar_leap ON manses(lunar_date, leap_month);
 
 -- 외래 키가 있는 테이블에는 인덱스 생성
 CREATE INDEX idx_personal_info_user_id ON personal_info(user_id);
@@ -0,0 +1,89 @@
+package com.mansereok.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mansereok.server.service.request.Gpt5Request;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class Gpt5StreamClientTest {
+
+	private final Gpt5StreamClient client = new Gpt5StreamClient("test-key", "http://localhost",
+		Duration.ofMinutes(1));
+
+	@Test
+	void assemblesOutputTextDeltas() throws Exception {
+		List<String> deltas = new ArrayList<>();
+
+		String text = client.read(reader("""
+			event: response.created
+			data: {"type":"response.created","response":{"id":"resp_1"}}
+
+			event: response.output_text.delta
+			data: {"type":"response.output_text.delta","delta":"홍길동님은 "}
+
+			event: response.output_text.delta
+			data: {"type":"response.output_text.delta","delta":"1990-05-15에\\n태어나셨습니다."}
+
+			event: response.output_text.done
+			data: {"type":"response.output_text.done","text":"홍길동님은 1990-05-15에\\n태어나셨습니다."}
+
+			event: response.completed
+			data: {"type":"response.completed","response":{"id":"resp_1"}}
+			"""), deltas::add);
+
+		assertThat(deltas).containsExactly("홍길동님은 ", "1990-05-15에\n태어나셨습니다.");
+		assertThat(text).isEqualTo("홍길동님은 1990-05-15에\n태어나셨습니다.");
+	}
+
+	@Test
+	void failsOnErrorEventOrTruncatedStream() {
+		assertThatThrownBy(() -> client.read(reader("""
+			data: {"type":"response.output_text.delta","delta":"홍길동님은 "}
+			data: {"type":"response.failed","response":{"error":{"message":"server_error"}}}
+			"""), delta -> {
+		})).isInstanceOf(IllegalArgumentException.class).hasMessage("GPT API 에러: server_error");
+
+		assertThatThrownBy(() -> client.read(reader("""
+			data: {"type":"response.output_text.delta","delta":"홍길동님은 "}
+			"""), delta -> {
+		})).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("끊겼습니다");
+	}
+
+	@Test
+	void failsOnIncompleteOrEmptyResponse() {
+		assertThatThrownBy(() -> client.read(reader("""
+			data: {"type":"response.output_text.delta","delta":"홍길동님은 "}
+			data: {"type":"response.incomplete","response":{"incomplete_details":{"reason":"max_output_tokens"}}}
+			"""), delta -> {
+		})).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("GPT 응답이 완료되지 않았습니다: max_output_tokens");
+
+		assertThatThrownBy(() -> client.read(reader("""
+			data: {"type":"response.created","response":{"id":"resp_1"}}
+			data: {"type":"response.completed","response":{"id":"resp_1"}}
+			"""), delta -> {
+		})).isInstanceOf(IllegalArgumentException.class).hasMessage("GPT 응답이 비어있습니다.");
+	}
+
+	@Test
+	void sendsStreamFlagOnlyWhenStreaming() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		assertThat(objectMapper.readTree(objectMapper.writeValueAsString(
+			new Gpt5Request("gpt-5", "input", 8000, "medium", "medium"))).has("stream")).isFalse();
+		assertThat(objectMapper.readTree(objectMapper.writeValueAsString(
+			new Gpt5Request("gpt-5", "input", 8000, "medium", "medium", true))).path("stream").asBoolean())
+			.isTrue();
+	}
+
+	private static BufferedReader reader(String body) {
+		return new BufferedReader(new StringReader(body));
+	}
+}
@@ -0,0 +1,121 @@
+package com.mansereok.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mansereok.server.entity.Result;
+import com.mansereok.server.repository.ResultRepository;
+import com.mansereok.server.service.InterpretationReuseCache.Reusable;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse.InputInfo;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse.SajuInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class InterpretationReuseCacheTest {
+
+	private static final LocalDate SOLAR_DATE = LocalDate.of(1990, 5, 15);
+	private static final LocalTime SOLAR_TIME = LocalTime.of(14, 30);
+	private static final long CHART_KEY = 0x1C_7687_5956L;
+
+	private final AtomicReference<LocalDateTime> now =
+		new AtomicReference<>(LocalDateTime.of(2025, 10, 1, 12, 0));
+	private final ResultRepository resultRepository = mock(ResultRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final InterpretationReuseCache cache = cache(null);
+
+	@Test
+	void reusesSameChartWithNewName() {
+		cache.put(response(SOLAR_TIME, false), "경금", "○○님은 1990-05-15에 태어나셨습니다. ○○님의 일간은");
+
+		Optional<Reusable> reusable = cache.find(response(SOLAR_TIME, false));
+
+		assertThat(reusable).isPresent();
+		assertThat(reusable.get().ilgan()).isEqualTo("경금");
+		assertThat(reusable.get().renderFor("김철수"))
+			.isEqualTo("김철수님은 1990-05-15에 태어나셨습니다. 김철수님의 일간은");
+		assertThat(cache.find(response(LocalTime.of(16, 30), false))).isEmpty();
+		assertThat(meterRegistry.get("manse.interpretation.reuse").tag("tier", "hot").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	void fallsBackToResultsTableAndKeepsInMemory() {
+		Result stored = Result.create(null, "홍길동", SOLAR_DATE, SOLAR_TIME, "MALE", false, CHART_KEY,
+			"경금", "홍길동님의 해석", "○○님의 해석");
+		when(resultRepository
+			.findFirstByChartKeyAndSolarDateAndSolarTimeAndIsLunarAndCreatedAtAfterOrderByIdDesc(
+				any(), any(), any(), any(), any()))
+			.thenReturn(Optional.of(stored));
+
+		assertThat(cache.find(response(SOLAR_TIME, false)).map(r -> r.renderFor("김철수")))
+			.contains("김철수님의 해석");
+		assertThat(cache.find(response(SOLAR_TIME, false))).isPresent();
+
+		verify(resultRepository, times(1))
+			.findFirstByChartKeyAndSolarDateAndSolarTimeAndIsLunarAndCreatedAtAfterOrderByIdDesc(
+				CHART_KEY, SOLAR_DATE, SOLAR_TIME, false, now.get().minusDays(30));
+		assertThat(meterRegistry.get("manse.interpretation.reuse").tag("tier", "db").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	void skipsResultsTableForLeapMonth() {
+		assertThat(cache.find(response(SOLAR_TIME, true))).isEmpty();
+
+		verify(resultRepository, never())
+			.findFirstByChartKeyAndSolarDateAndSolarTimeAndIsLunarAndCreatedAtAfterOrderByIdDesc(
+				any(), any(), any(), any(), any());
+	}
+
+	@Test
+	void expiresByMaxAgeAndNotBefore() {
+		cache.put(response(SOLAR_TIME, false), "경금", "○○님의 해석");
+
+		now.set(now.get().plusDays(29));
+		assertThat(cache.find(response(SOLAR_TIME, false))).isPresent();
+		now.set(now.get().plusDays(2));
+		assertThat(cache.find(response(SOLAR_TIME, false))).isEmpty();
+
+		InterpretationReuseCache promptChanged = cache(now.get().plusHours(1));
+		promptChanged.put(response(SOLAR_TIME, false), "경금", "○○님의 해석");
+		assertThat(promptChanged.find(response(SOLAR_TIME, false))).isEmpty();
+	}
+
+	@Test
+	void doesNotReuseResultWrittenWithRealName() {
+		// 실제 이름으로 만든 해석은 "길동님", "철수야" 같은 호칭이 섞여 있어 이름만 바꿔서는 다른 사람에게 줄 수 없다
+		Result stored = Result.create(null, "홍길동", SOLAR_DATE, SOLAR_TIME, "MALE", false, CHART_KEY,
+			"경금", "홍길동님, 길동님의 해석", null);
+		when(resultRepository
+			.findFirstByChartKeyAndSolarDateAndSolarTimeAndIsLunarAndCreatedAtAfterOrderByIdDesc(
+				any(), any(), any(), any(), any()))
+			.thenReturn(Optional.of(stored));
+
+		assertThat(cache.find(response(SOLAR_TIME, false))).isEmpty();
+		assertThat(meterRegistry.get("manse.interpretation.reuse").tag("tier", "miss").counter().count())
+			.isEqualTo(1);
+	}
+
+	private InterpretationReuseCache cache(LocalDateTime notBefore) {
+		return new InterpretationReuseCache(resultRepository, true, Duration.ofDays(30), notBefore, 100,
+			meterRegistry, now::get);
+	}
+
+	private static ManseryeokCalculationResponse response(LocalTime solarTime, boolean leapMonth) {
+		InputInfo input = new InputInfo(SOLAR_DATE, solarTime, "MALE", false, leapMonth);
+		long chartKey = solarTime.equals(SOLAR_TIME) ? CHART_KEY : CHART_KEY + 1;
+		return new ManseryeokCalculationResponse(input, new SajuInfo(), chartKey);
+	}
+}
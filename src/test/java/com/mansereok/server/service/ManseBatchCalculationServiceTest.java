@@ -0,0 +1,109 @@
+package com.mansereok.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.mansereok.server.repository.ManseRepository;
+import com.mansereok.server.service.calendar.LunarCalendarEngine;
+import com.mansereok.server.service.calendar.ManseCalendarIndex;
+import com.mansereok.server.service.calendar.SolarTermEngine;
+import com.mansereok.server.service.calendar.SolarTermIndex;
+import com.mansereok.server.service.request.ManseryeokCalculationRequest;
+import com.mansereok.server.service.response.ManseryeokBatchCalculationResponse;
+import com.mansereok.server.service.response.ManseryeokBatchCalculationResponse.Item;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ManseBatchCalculationServiceTest {
+
+	private final ManseRepository manseRepository = mock(ManseRepository.class);
+	private final SolarTermEngine solarTermEngine = new SolarTermEngine();
+	private final ManseCalendarIndex manseCalendarIndex = new ManseCalendarIndex(manseRepository);
+	private final ManseCalculationService manseCalculationService = new ManseCalculationService(
+		manseRepository,
+		manseCalendarIndex,
+		new SolarTermIndex(manseRepository, manseCalendarIndex),
+		solarTermEngine,
+		new LunarCalendarEngine(solarTermEngine),
+		new ManseCalculationCache(true, 1000, 4, new SimpleMeterRegistry()));
+	private final ManseBatchCalculationService batchService =
+		new ManseBatchCalculationService(manseCalculationService, 4, 100);
+
+	@AfterEach
+	void shutdown() {
+		batchService.shutdown();
+	}
+
+	@Test
+	void matchesSingleCalculationAndReportsErrorsPerItem() {
+		List<ManseryeokCalculationRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			requests.add(new ManseryeokCalculationRequest("홍길동",
+				LocalDate.of(1960 + i, 1 + i % 12, 1 + i % 28), LocalTime.of(i % 24, 15),
+				i % 2 == 0 ? "MALE" : "FEMALE", false, false));
+		}
+		requests.add(new ManseryeokCalculationRequest("음력", LocalDate.of(2023, 2, 1), LocalTime.of(8, 0),
+			"FEMALE", true, true));
+		requests.add(new ManseryeokCalculationRequest("윤달 없음", LocalDate.of(2024, 2, 1), null,
+			"MALE", true, true));
+		requests.add(new ManseryeokCalculationRequest("날짜 없음", null, null, "MALE", false, false));
+
+		ManseryeokBatchCalculationResponse response = batchService.calculate(requests);
+
+		assertThat(response.getTotal()).isEqualTo(43);
+		assertThat(response.getSucceeded()).isEqualTo(41);
+		assertThat(response.getFailed()).isEqualTo(2);
+		assertThat(response.getResults()).extracting(Item::getIndex)
+			.containsExactlyElementsOf(IntStream.range(0, 43).boxed().toList());
+
+		for (int i = 0; i < 41; i++) {
+			assertThat(response.getResults().get(i).getResult())
+				.as("index %d", i)
+				.isEqualTo(manseCalculationService.calculate(requests.get(i)));
+		}
+		assertThat(response.getResults().get(41).isSuccess()).isFalse();
+		assertThat(response.getResults().get(41).getError()).isNotBlank();
+		assertThat(response.getResults().get(42).getError()).contains("solarDate");
+
+		// 날짜는 한 번에 조회하고, 건별 계산에서는 DB 를 다시 조회하지 않는다
+		verify(manseRepository, times(1)).findBySolarDateIn(any());
+	}
+
+	@Test
+	void reportsOutOfRangeDatesPerItem() {
+		ManseryeokCalculationRequest valid = new ManseryeokCalculationRequest("정상", LocalDate.of(1990, 5, 5),
+			LocalTime.of(10, 0), "MALE", false, false);
+		ManseryeokBatchCalculationResponse response = batchService.calculate(List.of(
+			valid,
+			new ManseryeokCalculationRequest("양력 범위 밖", LocalDate.of(1500, 1, 1), LocalTime.of(10, 0),
+				"MALE", false, false),
+			new ManseryeokCalculationRequest("음력 범위 밖", LocalDate.of(2400, 1, 1), LocalTime.of(10, 0),
+				"FEMALE", true, false)));
+
+		assertThat(response.getSucceeded()).isEqualTo(1);
+		assertThat(response.getFailed()).isEqualTo(2);
+		assertThat(response.getResults().get(0).getResult())
+			.isEqualTo(manseCalculationService.calculate(valid));
+		assertThat(response.getResults().get(1).getError()).isNotBlank();
+		assertThat(response.getResults().get(2).getError()).isNotBlank();
+	}
+
+	@Test
+	void batchDoesNotQueryDatesOneByOne() {
+		batchService.calculate(List.of(
+			new ManseryeokCalculationRequest("a", LocalDate.of(1990, 5, 5), LocalTime.of(23, 40),
+				"MALE", false, false)));
+
+		verify(manseRepository, never()).findBySolarDate(any());
+	}
+}
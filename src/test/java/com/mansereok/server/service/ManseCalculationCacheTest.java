@@ -0,0 +1,62 @@
+package com.mansereok.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.mansereok.server.repository.ManseRepository;
+import com.mansereok.server.service.calendar.LunarCalendarEngine;
+import com.mansereok.server.service.calendar.ManseCalendarIndex;
+import com.mansereok.server.service.calendar.SolarTermEngine;
+import com.mansereok.server.service.calendar.SolarTermIndex;
+import com.mansereok.server.service.request.ManseryeokCalculationRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+class ManseCalculationCacheTest {
+
+	private final ManseRepository manseRepository = mock(ManseRepository.class);
+	private final SolarTermEngine solarTermEngine = new SolarTermEngine();
+	private final ManseCalendarIndex manseCalendarIndex = new ManseCalendarIndex(manseRepository);
+
+	private final ManseCalculationService cached = service(true);
+	private final ManseCalculationService uncached = service(false);
+
+	@Test
+	void cachedResultsMatchFullCalculation() {
+		// 2024-02-04 17:27 입춘일과 그 전날, 절입이 없는 날, 그리고 음력 2023년 (윤)2월
+		LocalDate[] dates = {LocalDate.of(2024, 2, 4), LocalDate.of(2024, 2, 3),
+			LocalDate.of(1988, 7, 15)};
+		for (int pass = 0; pass < 2; pass++) {
+			for (LocalDate date : dates) {
+				for (int minute = 0; minute < 24 * 60; minute += 7) {
+					LocalTime time = LocalTime.of(minute / 60, minute % 60);
+					for (String gender : new String[]{"MALE", "FEMALE"}) {
+						assertSame(new ManseryeokCalculationRequest("a", date, time, gender, false, false));
+					}
+				}
+			}
+			assertSame(new ManseryeokCalculationRequest("b", LocalDate.of(2023, 2, 1),
+				LocalTime.of(23, 45), "MALE", true, true));
+			assertSame(new ManseryeokCalculationRequest("b", LocalDate.of(2023, 2, 1),
+				LocalTime.of(23, 45), "MALE", true, false));
+		}
+	}
+
+	private void assertSame(ManseryeokCalculationRequest request) {
+		assertThat(cached.calculate(request))
+			.as("%s %s %s", request.getSolarDate(), request.getSolarTime(), request.getGender())
+			.isEqualTo(uncached.calculate(request));
+	}
+
+	private ManseCalculationService service(boolean cacheEnabled) {
+		return new ManseCalculationService(
+			manseRepository,
+			manseCalendarIndex,
+			new SolarTermIndex(manseRepository, manseCalendarIndex),
+			solarTermEngine,
+			new LunarCalendarEngine(solarTermEngine),
+			new ManseCalculationCache(cacheEnabled, 10_000, 4, new SimpleMeterRegistry()));
+	}
+}
@@ -0,0 +1,118 @@
+package com.mansereok.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.mansereok.server.repository.ManseRepository;
+import com.mansereok.server.service.calendar.LunarCalendarEngine;
+import com.mansereok.server.service.calendar.ManseCalendarIndex;
+import com.mansereok.server.service.calendar.SolarTermEngine;
+import com.mansereok.server.service.calendar.SolarTermIndex;
+import com.mansereok.server.service.request.ManseryeokCalculationRequest;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse.SajuInfo;
+import com.mansereok.server.service.saju.ZiHourPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ManseCalculationServiceTest {
+
+	private final ManseRepository manseRepository = mock(ManseRepository.class);
+	private final SolarTermEngine solarTermEngine = new SolarTermEngine();
+	private final ManseCalendarIndex manseCalendarIndex = new ManseCalendarIndex(manseRepository);
+
+	@Test
+	void midnightHasTimePillar() {
+		// 2024-02-10 갑진년 병인월 갑진일 -> 자정은 갑자시
+		SajuInfo saju = calculate(service(ZiHourPolicy.UNIFIED), LocalDate.of(2024, 2, 10),
+			LocalTime.MIDNIGHT);
+
+		assertThat(saju.getDaySky().getChinese() + saju.getDayGround().getChinese()).isEqualTo("甲辰");
+		assertThat(saju.getTimeSky().getChinese() + saju.getTimeGround().getChinese())
+			.isEqualTo("甲子");
+	}
+
+	@Test
+	void lateZiFollowsPolicy() {
+		LocalDate date = LocalDate.of(2024, 2, 10); // 甲辰일, 다음날 乙巳일
+		LocalTime time = LocalTime.of(23, 45);
+
+		// 통자시: 다음날 일주, 다음날 일간 기준 자시
+		SajuInfo unified = calculate(service(ZiHourPolicy.UNIFIED), date, time);
+		assertThat(unified.getDaySky().getChinese() + unified.getDayGround().getChinese())
+			.isEqualTo("乙巳");
+		assertThat(unified.getTimeSky().getChinese() + unified.getTimeGround().getChinese())
+			.isEqualTo("丙子");
+
+		// 야자시: 당일 일주, 시주는 다음날 일간 기준 자시
+		SajuInfo split = calculate(service(ZiHourPolicy.SPLIT), date, time);
+		assertThat(split.getDaySky().getChinese() + split.getDayGround().getChinese())
+			.isEqualTo("甲辰");
+		assertThat(split.getTimeSky().getChinese() + split.getTimeGround().getChinese())
+			.isEqualTo("丙子");
+
+		// 조자시는 두 방식 모두 당일
+		SajuInfo early = calculate(service(ZiHourPolicy.SPLIT), date, LocalTime.of(0, 45));
+		assertThat(early.getDaySky().getChinese() + early.getDayGround().getChinese())
+			.isEqualTo("甲辰");
+		assertThat(early.getTimeSky().getChinese() + early.getTimeGround().getChinese())
+			.isEqualTo("甲子");
+	}
+
+	@Test
+	void unknownTimeReturnsAllTimeCandidates() {
+		ManseryeokCalculationRequest request = new ManseryeokCalculationRequest("a",
+			LocalDate.of(2024, 2, 10), LocalTime.of(23, 45), "MALE", false, false, true);
+		SajuInfo saju = service(ZiHourPolicy.UNIFIED).calculate(request).getSaju();
+
+		// 출생시간을 모르면 정오 기준으로 날짜를 정하고 시주는 후보 12개로 준다
+		assertThat(saju.getDaySky().getChinese() + saju.getDayGround().getChinese()).isEqualTo("甲辰");
+		assertThat(saju.getTimeSky()).isNull();
+		assertThat(saju.getTimeCandidates()).hasSize(12);
+		assertThat(saju.getTimeCandidates()).extracting(
+				candidate -> candidate.getTimeSky().getChinese() + candidate.getTimeGround().getChinese())
+			.containsExactly("甲子", "乙丑", "丙寅", "丁卯", "戊辰", "己巳",
+				"庚午", "辛未", "壬申", "癸酉", "甲戌", "乙亥");
+		assertThat(saju.getTimeCandidates().get(0).getTimeRange()).isEqualTo("23:30~01:29");
+		assertThat(saju.getTimeCandidates().get(0).getTimeGround().getJijanggan()).isNotNull();
+
+		// 시간을 아는 경우와 같은 결과를 같은 인스턴스로 공유한다
+		for (int hour = 1; hour < 23; hour += 2) {
+			SajuInfo known = calculate(service(ZiHourPolicy.UNIFIED), LocalDate.of(2024, 2, 10),
+				LocalTime.of(hour, 45));
+			assertThat(saju.getTimeCandidates().get((hour + 1) / 2 % 12).getTimeSky())
+				.isSameAs(known.getTimeSky());
+		}
+	}
+
+	@Test
+	void birthBeforeIpchunKeepsOwnDayPillar() {
+		// 2024-02-04 입춘(17:27) 전 출생: 연주/월주는 전년도 癸卯년 乙丑월, 일주는 그날의 戊戌일
+		SajuInfo saju = calculate(service(ZiHourPolicy.UNIFIED), LocalDate.of(2024, 2, 4),
+			LocalTime.of(10, 0));
+
+		assertThat(saju.getYearSky().getChinese() + saju.getYearGround().getChinese()).isEqualTo("癸卯");
+		assertThat(saju.getMonthSky().getChinese() + saju.getMonthGround().getChinese()).isEqualTo("乙丑");
+		assertThat(saju.getDaySky().getChinese() + saju.getDayGround().getChinese()).isEqualTo("戊戌");
+		assertThat(saju.getTimeSky().getChinese() + saju.getTimeGround().getChinese()).isEqualTo("丁巳");
+	}
+
+	private SajuInfo calculate(ManseCalculationService service, LocalDate date, LocalTime time) {
+		return service.calculate(new ManseryeokCalculationRequest("a", date, time, "MALE", false, false))
+			.getSaju();
+	}
+
+	private ManseCalculationService service(ZiHourPolicy policy) {
+		ManseCalculationService service = new ManseCalculationService(
+			manseRepository,
+			manseCalendarIndex,
+			new SolarTermIndex(manseRepository, manseCalendarIndex),
+			solarTermEngine,
+			new LunarCalendarEngine(solarTermEngine),
+			new ManseCalculationCache(true, 1000, 4, new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(service, "ziHourPolicy", policy);
+		return service;
+	}
+}
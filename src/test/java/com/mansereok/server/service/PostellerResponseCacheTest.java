@@ -0,0 +1,99 @@
+package com.mansereok.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.mansereok.server.service.PostellerResponseCache.Endpoint;
+import com.mansereok.server.service.request.ManseryeokCreateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PostellerResponseCacheTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final PostellerResponseCache cache = new PostellerResponseCache(true, 100,
+		Duration.ofMinutes(10), meterRegistry, now::get);
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@Test
+	void ignoresNameAndNormalizesInput() {
+		assertThat(load(Endpoint.CHART, request("홍길동", "m", "1990/05/15", "14:30"))).isEqualTo(1);
+		assertThat(load(Endpoint.CHART, request("김철수", "M", "1990-05-15", "1430"))).isEqualTo(1);
+		assertThat(load(Endpoint.CHART, request("홍길동", "M", "1990/05/15", "14:31"))).isEqualTo(2);
+
+		// 엔드포인트마다 따로 보관한다
+		assertThat(load(Endpoint.DAEUN, request("홍길동", "M", "1990/05/15", "14:30"))).isEqualTo(3);
+
+		assertThat(meterRegistry.get("posteller.cache.chart.hit.ratio").gauge().value())
+			.isCloseTo(1 / 3.0, within(1e-9));
+		assertThat(meterRegistry.get("posteller.cache.daeun.gets").tag("result", "miss")
+			.functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void keepsLocationNameInKey() {
+		// 출생지 이름은 차트 프로필에 실려 해석 프롬프트로 들어가므로 다른 요청자의 것을 돌려주면 안 된다
+		ManseryeokCreateRequest seoul = request("홍길동", "M", "1990/05/15", "14:30");
+		seoul.setLocationName("서울특별시, 대한민국");
+		ManseryeokCreateRequest busan = request("홍길동", "M", "1990/05/15", "14:30");
+		busan.setLocationName("부산광역시, 대한민국");
+
+		assertThat(load(Endpoint.CHART, seoul)).isEqualTo(1);
+		assertThat(load(Endpoint.CHART, busan)).isEqualTo(2);
+		seoul.setLocationName(" 서울특별시, 대한민국");
+		assertThat(load(Endpoint.CHART, seoul)).isEqualTo(1);
+	}
+
+	@Test
+	void expiresAfterTtl() {
+		ManseryeokCreateRequest request = request("홍길동", "M", "1990/05/15", "14:30");
+		assertThat(load(Endpoint.OHAENG, request)).isEqualTo(1);
+
+		now.addAndGet(Duration.ofMinutes(9).toNanos());
+		assertThat(load(Endpoint.OHAENG, request)).isEqualTo(1);
+
+		now.addAndGet(Duration.ofMinutes(2).toNanos());
+		assertThat(load(Endpoint.OHAENG, request)).isEqualTo(2);
+		assertThat(meterRegistry.get("posteller.cache.ohaeng.gets").tag("result", "miss")
+			.functionCounter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotCacheFailures() {
+		ManseryeokCreateRequest request = request("홍길동", "M", "1990/05/15", "14:30");
+		assertThatThrownBy(() -> cache.get(Endpoint.CHART, request, () -> {
+			throw new RuntimeException("포스텔러 API 호출 실패");
+		})).hasMessage("포스텔러 API 호출 실패");
+
+		assertThat(load(Endpoint.CHART, request)).isEqualTo(1);
+	}
+
+	@Test
+	void disabledCacheAlwaysLoads() {
+		PostellerResponseCache disabled = new PostellerResponseCache(false, 100, Duration.ofMinutes(10),
+			meterRegistry, now::get);
+		ManseryeokCreateRequest request = request("홍길동", "M", "1990/05/15", "14:30");
+		disabled.get(Endpoint.CHART, request, calls::incrementAndGet);
+		assertThat(disabled.get(Endpoint.CHART, request, calls::incrementAndGet)).isEqualTo(2);
+	}
+
+	private int load(Endpoint endpoint, ManseryeokCreateRequest request) {
+		return cache.get(endpoint, request, calls::incrementAndGet);
+	}
+
+	private static ManseryeokCreateRequest request(String name, String gender, String birthday,
+		String birthtime) {
+		ManseryeokCreateRequest request = new ManseryeokCreateRequest();
+		request.setName(name);
+		request.setGender(gender);
+		request.setCalendar("S");
+		request.setBirthday(birthday);
+		request.setBirthtime(birthtime);
+		return request;
+	}
+}
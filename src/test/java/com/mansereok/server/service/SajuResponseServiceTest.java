@@ -0,0 +1,126 @@
+package com.mansereok.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mansereok.server.repository.ManseRepository;
+import com.mansereok.server.service.calendar.LunarCalendarEngine;
+import com.mansereok.server.service.calendar.ManseCalendarIndex;
+import com.mansereok.server.service.calendar.SolarTermEngine;
+import com.mansereok.server.service.calendar.SolarTermIndex;
+import com.mansereok.server.service.request.ManseryeokCreateRequest;
+import com.mansereok.server.service.saju.ChartEngine;
+import com.mansereok.server.service.saju.DaeunEngine;
+import com.mansereok.server.service.saju.OhaengEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class SajuResponseServiceTest {
+
+	private final ManseRepository manseRepository = mock(ManseRepository.class);
+	private final SolarTermEngine solarTermEngine = new SolarTermEngine();
+	private final LunarCalendarEngine lunarCalendarEngine = new LunarCalendarEngine(solarTermEngine);
+	private final ManseCalendarIndex manseCalendarIndex = new ManseCalendarIndex(manseRepository);
+	private final LocalSajuService localSajuService = new LocalSajuService(
+		new ManseCalculationService(
+			manseRepository,
+			manseCalendarIndex,
+			new SolarTermIndex(manseRepository, manseCalendarIndex),
+			solarTermEngine,
+			lunarCalendarEngine,
+			new ManseCalculationCache(true, 1000, 4, new SimpleMeterRegistry())),
+		new DaeunEngine(), new ChartEngine(manseCalendarIndex, lunarCalendarEngine), new OhaengEngine());
+	private final PostellerService postellerService = mock(PostellerService.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void routesByLocalPercent() {
+		ManseryeokCreateRequest request = request();
+		SajuResponses posteller = localSajuService.getAll(request);
+		when(postellerService.getAll(any())).thenReturn(posteller);
+
+		SajuResponses remote = service(0, 0).get(request);
+		assertThat(remote.chart().getData().getSajuChart().getDayPillar()).isNotNull();
+		verify(postellerService).getAll(request);
+		assertThat(count("manse.saju.source", "source", "posteller")).isEqualTo(1);
+
+		SajuResponses local = service(100, 0).get(request);
+		assertThat(local.daeun().getData().getDaeunList()).hasSize(10);
+		assertThat(count("manse.saju.source", "source", "local")).isEqualTo(1);
+	}
+
+	@Test
+	void shadowComparesFieldByField() throws Exception {
+		ManseryeokCreateRequest request = request();
+		SajuResponses remote = localSajuService.getAll(request);
+		remote.chart().getData().getSajuChart().getDayPillar().getUnseong().setName("장생");
+		remote.daeun().getData().setDaeunNumber(remote.daeun().getData().getDaeunNumber() + 1);
+		SajuResponses same = localSajuService.getAll(request);
+		when(postellerService.getAll(any())).thenReturn(same, remote);
+
+		SajuResponseService service = service(100, 100);
+		service.get(request);
+		awaitCount("manse.shadow.compares", "result", "match", 1);
+		service.get(request);
+		awaitCount("manse.shadow.compares", "result", "mismatch", 1);
+
+		assertThat(count("manse.shadow.mismatches", "field", "chart.day.unseong")).isEqualTo(1);
+		assertThat(count("manse.shadow.mismatches", "field", "daeun.number")).isEqualTo(1);
+		assertThat(meterRegistry.find("manse.shadow.mismatches").counters()).hasSize(2);
+	}
+
+	@Test
+	void comparatorIgnoresSmallPercentDifferences() {
+		ManseryeokCreateRequest request = request();
+		SajuResponses local = localSajuService.getAll(request);
+		SajuResponses remote = localSajuService.getAll(request);
+		remote.ohaeng().getData().getOhaeng().get(0).setPercent(
+			local.ohaeng().getData().getOhaeng().get(0).getPercent() + 0.5);
+		assertThat(SajuResponseComparator.diff(local, remote)).isEmpty();
+
+		remote.ohaeng().getData().getSipseong().get(0).setPercent(
+			local.ohaeng().getData().getSipseong().get(0).getPercent() + 5);
+		remote.daeun().getData().getWolunList().remove(0);
+		assertThat(SajuResponseComparator.diff(local, remote))
+			.containsExactly("daeun.wolun.ganji.size", "ohaeng.sipseong.percent");
+	}
+
+	@Test
+	void skipsShadowWhenNotSampled() {
+		service(100, 0).get(request());
+		verify(postellerService, never()).getAll(any());
+	}
+
+	private SajuResponseService service(int localPercent, int shadowPercent) {
+		return new SajuResponseService(localSajuService, postellerService, meterRegistry,
+			localPercent, shadowPercent, 4);
+	}
+
+	private double count(String name, String tag, String value) {
+		return meterRegistry.counter(name, tag, value).count();
+	}
+
+	private void awaitCount(String name, String tag, String value, double expected)
+		throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (count(name, tag, value) < expected && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(count(name, tag, value)).isEqualTo(expected);
+	}
+
+	private static ManseryeokCreateRequest request() {
+		ManseryeokCreateRequest request = new ManseryeokCreateRequest();
+		request.setName("홍길동");
+		request.setGender("M");
+		request.setCalendar("S");
+		request.setBirthday("1990/05/15");
+		request.setBirthtime("14:30");
+		request.setLocationName("서울특별시, 대한민국");
+		return request;
+	}
+}
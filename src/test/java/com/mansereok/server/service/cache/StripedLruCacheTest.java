@@ -0,0 +1,47 @@
+package com.mansereok.server.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class StripedLruCacheTest {
+
+	@Test
+	void evictsLeastRecentlyUsedWithinBound() {
+		StripedLruCache<String> cache = new StripedLruCache<>("test.cache", 2, 1);
+		cache.put(1, "a");
+		cache.put(2, "b");
+		assertThat(cache.get(1)).isEqualTo("a"); // 1 을 최근 사용으로
+		cache.put(3, "c");
+
+		assertThat(cache.get(2)).isNull();
+		assertThat(cache.get(1)).isEqualTo("a");
+		assertThat(cache.get(3)).isEqualTo("c");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.evictions()).isEqualTo(1);
+		assertThat(cache.hits()).isEqualTo(3);
+		assertThat(cache.misses()).isEqualTo(1);
+	}
+
+	@Test
+	void staysBoundedAcrossStripesAndExposesMetrics() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		StripedLruCache<Long> cache = new StripedLruCache<>("test.cache", 1024, 16);
+		cache.bindTo(registry);
+
+		for (long key = 0; key < 10_000; key++) {
+			cache.put(key, key);
+		}
+		cache.get(9_999);
+		cache.get(-1);
+
+		assertThat(cache.size()).isLessThanOrEqualTo(1024);
+		assertThat(cache.evictions()).isEqualTo(10_000 - cache.size());
+		assertThat(registry.get("test.cache.gets").tag("result", "hit").functionCounter().count())
+			.isEqualTo(1);
+		assertThat(registry.get("test.cache.gets").tag("result", "miss").functionCounter().count())
+			.isEqualTo(1);
+		assertThat(registry.get("test.cache.size").gauge().value()).isEqualTo(cache.size());
+	}
+}
@@ -0,0 +1,89 @@
+package com.mansereok.server.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mansereok.server.entity.Manse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.BeanUtils;
+
+class CalendarSnapshotFileTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void roundTripsThroughMappedFile() throws Exception {
+		CalendarSnapshot original = CalendarSnapshot.of(List.of(
+			manse(LocalDate.of(2024, 2, 3), LocalDate.of(2023, 12, 24), false, null, null,
+				"癸卯乙丑己卯"),
+			manse(LocalDate.of(2024, 2, 4), LocalDate.of(2023, 12, 25), false, "입춘",
+				LocalDateTime.of(2024, 2, 4, 17, 27), "甲辰丙寅庚辰"),
+			manse(LocalDate.of(2024, 2, 6), LocalDate.of(2023, 12, 27), false, null, null,
+				"甲辰丙寅壬午"),
+			manse(LocalDate.of(2023, 3, 22), LocalDate.of(2023, 2, 1), true, null, null,
+				"癸卯乙卯己亥")
+		).stream().sorted((a, b) -> a.getSolarDate().compareTo(b.getSolarDate())).toList());
+
+		Path path = directory.resolve("manse-calendar.bin");
+		CalendarSnapshotFile.write(original, path);
+		CalendarSnapshot mapped = CalendarSnapshotFile.map(path);
+
+		assertThat(Files.size(path)).isLessThan(64 + (long) mapped.size() * CalendarSnapshot.RECORD_SIZE);
+		assertThat(mapped.size()).isEqualTo(original.size());
+		assertThat(mapped.firstDate()).isEqualTo(LocalDate.of(2023, 3, 22));
+		for (int i = 0; i < original.size(); i++) {
+			assertThat(mapped.indexOf(original.firstEpochDay() + i))
+				.isEqualTo(original.indexOf(original.firstEpochDay() + i));
+			if (original.indexOf(original.firstEpochDay() + i) >= 0) {
+				assertThat(mapped.day(i)).isEqualTo(original.day(i));
+			}
+		}
+
+		CalendarDay ipchun = mapped.day(mapped.indexOf(LocalDate.of(2024, 2, 4).toEpochDay()));
+		assertThat(ipchun.season()).isEqualTo("입춘");
+		assertThat(ipchun.seasonStartTime()).isEqualTo(LocalDateTime.of(2024, 2, 4, 17, 27));
+		assertThat(mapped.indexOf(LocalDate.of(2024, 2, 5).toEpochDay())).isEqualTo(-1);
+		assertThat(mapped.day(mapped.indexOfLunar(LocalDate.of(2023, 2, 1), true)).solarDate())
+			.isEqualTo(LocalDate.of(2023, 3, 22));
+	}
+
+	@Test
+	void rejectsCorruptedFile() throws Exception {
+		CalendarSnapshot original = CalendarSnapshot.of(List.of(
+			manse(LocalDate.of(2024, 2, 4), LocalDate.of(2023, 12, 25), false, "입춘",
+				LocalDateTime.of(2024, 2, 4, 17, 27), "甲辰丙寅庚辰")));
+		Path path = directory.resolve("manse-calendar.bin");
+		CalendarSnapshotFile.write(original, path);
+
+		byte[] bytes = Files.readAllBytes(path);
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(path, bytes);
+
+		assertThatThrownBy(() -> CalendarSnapshotFile.map(path))
+			.hasMessageContaining("체크섬");
+	}
+
+	private static Manse manse(LocalDate solarDate, LocalDate lunarDate, boolean leapMonth,
+		String season, LocalDateTime seasonStartTime, String pillars) {
+		Manse manse = BeanUtils.instantiateClass(Manse.class);
+		manse.setSolarDate(solarDate);
+		manse.setLunarDate(lunarDate);
+		manse.setLeapMonth(leapMonth);
+		manse.setSeason(season);
+		manse.setSeasonStartTime(seasonStartTime);
+		manse.setYearSky(pillars.substring(0, 1));
+		manse.setYearGround(pillars.substring(1, 2));
+		manse.setMonthSky(pillars.substring(2, 3));
+		manse.setMonthGround(pillars.substring(3, 4));
+		manse.setDaySky(pillars.substring(4, 5));
+		manse.setDayGround(pillars.substring(5, 6));
+		return manse;
+	}
+}
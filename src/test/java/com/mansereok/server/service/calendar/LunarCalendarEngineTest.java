@@ -0,0 +1,51 @@
+package com.mansereok.server.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mansereok.server.service.calendar.LunarCalendarEngine.LunarDate;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class LunarCalendarEngineTest {
+
+	private final LunarCalendarEngine engine = new LunarCalendarEngine(new SolarTermEngine());
+
+	@Test
+	void knownLunarDates() {
+		// 한국천문연구원 음양력 변환
+		assertSolar(2024, 1, 1, false, LocalDate.of(2024, 2, 10));
+		assertSolar(2024, 8, 15, false, LocalDate.of(2024, 9, 17));
+		assertSolar(2023, 1, 1, false, LocalDate.of(2023, 1, 22));
+		assertSolar(2023, 2, 1, true, LocalDate.of(2023, 3, 22));
+		assertSolar(2025, 1, 1, false, LocalDate.of(2025, 1, 29));
+		assertSolar(2025, 6, 1, true, LocalDate.of(2025, 7, 25));
+		assertSolar(2020, 4, 1, true, LocalDate.of(2020, 5, 23));
+	}
+
+	@Test
+	void leapMonths() {
+		assertThat(engine.leapMonth(2020)).isEqualTo(4);
+		assertThat(engine.leapMonth(2023)).isEqualTo(2);
+		assertThat(engine.leapMonth(2024)).isZero();
+		assertThat(engine.leapMonth(2025)).isEqualTo(6);
+		assertThat(engine.toSolar(2024, 2, 1, true)).isEmpty();
+	}
+
+	@Test
+	void roundTripsEveryDay() {
+		LocalDate date = LocalDate.of(1900, 1, 31);
+		LocalDate end = LocalDate.of(2100, 12, 31);
+		while (!date.isAfter(end)) {
+			LunarDate lunar = engine.toLunar(date);
+			assertThat(engine.toSolar(lunar.year(), lunar.month(), lunar.day(), lunar.leapMonth()))
+				.as("%s -> %s", date, lunar)
+				.contains(date);
+			date = date.plusDays(1);
+		}
+	}
+
+	private void assertSolar(int year, int month, int day, boolean leap, LocalDate expected) {
+		assertThat(engine.toSolar(year, month, day, leap)).contains(expected);
+		assertThat(engine.toLunar(expected)).isEqualTo(new LunarDate(year, month, day, leap));
+	}
+}
@@ -0,0 +1,34 @@
+package com.mansereok.server.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mansereok.server.service.saju.SajuTables;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class SexagenaryDayTest {
+
+	@Test
+	void knownDayPillars() {
+		assertDayPillar(LocalDate.of(1900, 1, 1), "甲", "戌");
+		assertDayPillar(LocalDate.of(1970, 1, 1), "辛", "巳");
+		assertDayPillar(LocalDate.of(2000, 1, 1), "戊", "午");
+	}
+
+	@Test
+	void advancesOneStepPerDay() {
+		LocalDate date = LocalDate.of(1899, 12, 1);
+		for (int i = 0; i < 1000; i++) {
+			int today = SexagenaryDay.ganjiIndex(date);
+			int tomorrow = SexagenaryDay.ganjiIndex(date.plusDays(1));
+			assertThat(tomorrow).isEqualTo((today + 1) % 60);
+			date = date.plusDays(1);
+		}
+	}
+
+	private void assertDayPillar(LocalDate date, String sky, String ground) {
+		assertThat(SajuTables.chinese(SexagenaryDay.stem(date))).isEqualTo(sky);
+		assertThat(SajuTables.chinese(SajuTables.branchCode(SexagenaryDay.branch(date))))
+			.isEqualTo(ground);
+	}
+}
@@ -0,0 +1,64 @@
+package com.mansereok.server.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mansereok.server.service.saju.SajuTables;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class SolarTermEngineTest {
+
+	private final SolarTermEngine engine = new SolarTermEngine();
+
+	@Test
+	void knownSolarTerms() {
+		// 한국천문연구원 발표 절입시각 (KST)
+		assertTerm(2024, "소한", LocalDateTime.of(2024, 1, 6, 5, 49));
+		assertTerm(2024, "입춘", LocalDateTime.of(2024, 2, 4, 17, 27));
+		assertTerm(2024, "춘분", LocalDateTime.of(2024, 3, 20, 12, 6));
+		assertTerm(2024, "하지", LocalDateTime.of(2024, 6, 21, 5, 51));
+		assertTerm(2024, "동지", LocalDateTime.of(2024, 12, 21, 18, 21));
+		assertTerm(2023, "입춘", LocalDateTime.of(2023, 2, 4, 11, 42));
+		assertTerm(2025, "입춘", LocalDateTime.of(2025, 2, 3, 23, 10));
+	}
+
+	@Test
+	void findsSurroundingJeol() {
+		LocalDateTime birth = LocalDateTime.of(2024, 2, 10, 12, 0);
+
+		assertThat(engine.previousJeol(birth)).isEqualTo(engine.termTime(2024, SolarTermEngine.IPCHUN));
+		assertThat(engine.nextJeol(birth)).isEqualTo(engine.termTime(2024, 4));
+		assertThat(engine.previousJeol(LocalDateTime.of(2024, 1, 2, 0, 0)))
+			.isEqualTo(engine.termTime(2023, 22));
+	}
+
+	@Test
+	void yearAndMonthPillarsFollowJeol() {
+		assertPillars(LocalDate.of(2024, 1, 5), "癸卯", "甲子");
+		assertPillars(LocalDate.of(2024, 2, 3), "癸卯", "乙丑");
+		assertPillars(LocalDate.of(2024, 2, 4), "甲辰", "丙寅");
+		assertPillars(LocalDate.of(2024, 12, 31), "甲辰", "丙子");
+
+		CalendarDay ipchun = engine.calendarDay(LocalDate.of(2024, 2, 4));
+		assertThat(ipchun.season()).isEqualTo("입춘");
+		assertThat(ipchun.seasonStartTime()).isEqualTo(engine.termTime(2024, SolarTermEngine.IPCHUN));
+		assertThat(engine.calendarDay(LocalDate.of(2024, 2, 5)).hasSeason()).isFalse();
+	}
+
+	private void assertTerm(int year, String name, LocalDateTime expected) {
+		LocalDateTime computed = engine.termTime(year, SolarTermEngine.TERM_NAMES.indexOf(name));
+		assertThat(Duration.between(expected, computed).abs())
+			.as("%d %s: computed=%s", year, name, computed)
+			.isLessThanOrEqualTo(Duration.ofMinutes(1));
+	}
+
+	private void assertPillars(LocalDate date, String year, String month) {
+		CalendarDay day = engine.calendarDay(date);
+		assertThat(SajuTables.chinese(day.yearSky()) + SajuTables.chinese(day.yearGround()))
+			.as("%s 연주", date).isEqualTo(year);
+		assertThat(SajuTables.chinese(day.monthSky()) + SajuTables.chinese(day.monthGround()))
+			.as("%s 월주", date).isEqualTo(month);
+	}
+}
@@ -0,0 +1,78 @@
+package com.mansereok.server.service.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FanOutScopeTest {
+
+	private final FanOutExecutor executor = new FanOutExecutor(Duration.ofSeconds(5));
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void runsTasksConcurrently() {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		try (FanOutScope scope = executor.open()) {
+			// 서로 상대가 시작해야 끝나므로 순차 실행이면 제한 시간을 넘긴다
+			Supplier<String> a = scope.fork(() -> awaitOther(bothStarted, "a"));
+			Supplier<Integer> b = scope.fork(() -> awaitOther(bothStarted, "b").length());
+			scope.join();
+			assertThat(a.get()).isEqualTo("a");
+			assertThat(b.get()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void failsFastAndCancelsSiblings() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		long startedAt = System.nanoTime();
+		try (FanOutScope scope = executor.open()) {
+			scope.fork(() -> {
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+				return null;
+			});
+			scope.fork(() -> {
+				throw new RuntimeException("포스텔러 API 호출 실패");
+			});
+			assertThatThrownBy(scope::join).hasMessage("포스텔러 API 호출 실패");
+		}
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(2));
+	}
+
+	@Test
+	void sharesOneDeadline() {
+		FanOutExecutor shortExecutor = new FanOutExecutor(Duration.ofMillis(100));
+		try (FanOutScope scope = shortExecutor.open()) {
+			scope.fork(() -> {
+				Thread.sleep(10_000);
+				return null;
+			});
+			assertThatThrownBy(scope::join).hasMessageContaining("제한 시간");
+		} finally {
+			shortExecutor.shutdown();
+		}
+	}
+
+	private static String awaitOther(CountDownLatch bothStarted, String value) throws Exception {
+		bothStarted.countDown();
+		if (!bothStarted.await(2, TimeUnit.SECONDS)) {
+			throw new IllegalStateException("다른 작업이 시작되지 않았습니다.");
+		}
+		return value;
+	}
+}
@@ -0,0 +1,106 @@
+package com.mansereok.server.service.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.mansereok.server.exception.JobRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InterpretationJobExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final InterpretationJobExecutor executor = new InterpretationJobExecutor(meterRegistry, 1, 2,
+		Duration.ofHours(1), Duration.ofMinutes(1));
+
+	@BeforeEach
+	void registerMetrics() {
+		executor.registerMetrics();
+	}
+
+	@Test
+	void runsJobsInSubmissionOrder() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		InterpretationJob first = executor.submit(JobType.INTERPRET, () -> {
+			block(release);
+			return "첫 번째";
+		});
+		InterpretationJob second = executor.submit(JobType.INTERPRET, () -> "두 번째");
+		InterpretationJob third = executor.submit(JobType.INTERPRETATION, () -> "세 번째");
+
+		assertThat(first.getStatus()).isEqualTo(JobStatus.RUNNING);
+		assertThat(executor.queuePosition(second)).isEqualTo(1);
+		assertThat(executor.queuePosition(third)).isEqualTo(2);
+		assertThat(executor.toResponse(third).getQueuePosition()).isEqualTo(2);
+		assertThat(meterRegistry.get("manse.jobs.queued").gauge().value()).isEqualTo(2);
+
+		release.countDown();
+		await().atMost(Duration.ofSeconds(5)).until(() -> third.getStatus() == JobStatus.SUCCEEDED);
+
+		assertThat(first.getResult()).isEqualTo("첫 번째");
+		assertThat(second.getResult()).isEqualTo("두 번째");
+		assertThat(third.getResult()).isEqualTo("세 번째");
+		assertThat(third.getStartedAt()).isAfterOrEqualTo(second.getStartedAt());
+		assertThat(executor.toResponse(third).getQueuePosition()).isNull();
+		assertThat(executor.find(first.getId())).containsSame(first);
+	}
+
+	@Test
+	void rejectsWhenQueueIsFull() {
+		CountDownLatch release = new CountDownLatch(1);
+		executor.submit(JobType.INTERPRET, () -> {
+			block(release);
+			return "실행 중";
+		});
+		executor.submit(JobType.INTERPRET, () -> "대기 1");
+		executor.submit(JobType.INTERPRET, () -> "대기 2");
+
+		assertThatThrownBy(() -> executor.submit(JobType.INTERPRET, () -> "거절"))
+			.isInstanceOf(JobRejectedException.class);
+		assertThat(meterRegistry.get("manse.jobs.rejected").counter().count()).isEqualTo(1);
+		release.countDown();
+	}
+
+	@Test
+	void recordsFailureAndPurgesFinishedJobs() {
+		InterpretationJobExecutor shortRetention = new InterpretationJobExecutor(new SimpleMeterRegistry(),
+			1, 1, Duration.ZERO, Duration.ofMinutes(1));
+		InterpretationJob job = shortRetention.submit(JobType.COMPATIBILITY, () -> {
+			throw new IllegalArgumentException("GPT API 에러");
+		});
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> job.getStatus() == JobStatus.FAILED);
+		assertThat(job.getError()).contains("GPT API 에러");
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> {
+			shortRetention.purge();
+			return shortRetention.find(job.getId()).isEmpty();
+		});
+	}
+
+	@Test
+	void releasesSlotWhenJobThrowsError() {
+		InterpretationJob broken = executor.submit(JobType.INTERPRET, () -> {
+			throw new StackOverflowError("깊은 재귀");
+		});
+		InterpretationJob next = executor.submit(JobType.INTERPRET, () -> "다음 작업");
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> next.getStatus() == JobStatus.SUCCEEDED);
+		assertThat(broken.getStatus()).isEqualTo(JobStatus.FAILED);
+		assertThat(broken.getError()).contains("깊은 재귀");
+		assertThat(meterRegistry.get("manse.jobs.running").gauge().value()).isZero();
+	}
+
+	private static void block(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package com.mansereok.server.service.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mansereok.server.entity.InterpretationRequest;
+import com.mansereok.server.entity.Result;
+import com.mansereok.server.repository.CompatibilityResultRepository;
+import com.mansereok.server.repository.InterpretationRequestRepository;
+import com.mansereok.server.repository.ResultRepository;
+import com.mansereok.server.service.ManseCalculationService;
+import com.mansereok.server.service.ManseInterpretationService;
+import com.mansereok.server.service.job.JobStatus;
+import com.mansereok.server.service.request.ManseCompatibilityAnalysisRequest;
+import com.mansereok.server.service.request.ManseInterpretationRequest;
+import com.mansereok.server.service.response.InterpretationRequestResponse;
+import com.mansereok.server.service.response.ManseCompatibilityAnalysisResponse;
+import com.mansereok.server.service.response.ManseInterpretationResponse;
+import com.mansereok.server.service.response.ManseryeokCalculationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(classes = InterpretationPipelineTest.Config.class, properties = {
+	"manse.pipeline.enabled=true",
+	"manse.pipeline.topic=manse.interpretation.requests.test",
+	"manse.pipeline.partitions=2",
+	"manse.pipeline.concurrency=2",
+	"spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}"
+})
+@EmbeddedKafka
+class InterpretationPipelineTest {
+
+	private static final long CHART_KEY = 0x1234_5678L;
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+	@Autowired
+	private InterpretationPipelineService pipelineService;
+	@Autowired
+	private InterpretationPipelineWorker worker;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockitoBean
+	private ManseCalculationService manseCalculationService;
+	@MockitoBean
+	private ManseInterpretationService manseInterpretationService;
+	@MockitoBean
+	private InterpretationRequestRepository interpretationRequestRepository;
+	@MockitoBean
+	private ResultRepository resultRepository;
+	@MockitoBean
+	private CompatibilityResultRepository compatibilityResultRepository;
+
+	private final Map<String, InterpretationRequest> requests = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		when(interpretationRequestRepository.save(any())).thenAnswer(invocation -> {
+			InterpretationRequest request = invocation.getArgument(0);
+			requests.put(request.getRequestId(), request);
+			return request;
+		});
+		// JPA 처럼 조회할 때마다 다른 인스턴스를 돌려준다. 발행 쪽이 들고 있는 객체를 워커가 바꾸지 않도록
+		when(interpretationRequestRepository.findById(anyString()))
+			.thenAnswer(invocation -> Optional.ofNullable(requests.get(invocation.<String>getArgument(0)))
+				.map(InterpretationPipelineTest::copy));
+
+		ManseryeokCalculationResponse calculation = new ManseryeokCalculationResponse(null, null, CHART_KEY);
+		when(manseCalculationService.calculate(any())).thenReturn(calculation);
+	}
+
+	@Test
+	void processesSameChartRequestsInPublishOrderAndStoresResults() {
+		List<String> processed = new CopyOnWriteArrayList<>();
+		when(manseInterpretationService.interpret(anyString(), any())).thenAnswer(invocation -> {
+			String name = invocation.getArgument(0);
+			processed.add(name);
+			return new ManseInterpretationResponse(100L + processed.size(), name, "임수", name + "님의 해석");
+		});
+		Result stored = Result.create(null, "사람1", LocalDate.of(1990, 5, 15), LocalTime.of(14, 30),
+			"male", false, CHART_KEY, "임수", "사람1님의 해석", null);
+		when(resultRepository.findById(101L)).thenReturn(Optional.of(stored));
+
+		List<String> requestIds = IntStream.rangeClosed(1, 5)
+			.mapToObj(i -> pipelineService.submitInterpret(interpretRequest("사람" + i)))
+			.peek(response -> assertThat(response.getStatus()).isEqualTo(JobStatus.QUEUED))
+			.map(InterpretationRequestResponse::getRequestId)
+			.toList();
+
+		await().atMost(TIMEOUT).until(() -> requestIds.stream()
+			.allMatch(id -> requests.get(id).getStatus() == JobStatus.SUCCEEDED));
+
+		// 같은 명식 키는 같은 파티션이므로 발행 순서대로 처리된다
+		assertThat(processed).containsExactly("사람1", "사람2", "사람3", "사람4", "사람5");
+		assertThat(requests.get(requestIds.get(4)).getResultId()).isEqualTo(105L);
+
+		InterpretationRequestResponse first = pipelineService.find(requestIds.get(0)).orElseThrow();
+		assertThat(first.getStatus()).isEqualTo(JobStatus.SUCCEEDED);
+		assertThat(first.getResult()).isInstanceOfSatisfying(ManseInterpretationResponse.class,
+			result -> assertThat(result.getInterpretation()).isEqualTo("사람1님의 해석"));
+	}
+
+	@Test
+	void recordsFailedCompatibilityAnalysis() {
+		ManseCompatibilityAnalysisResponse failed = new ManseCompatibilityAnalysisResponse(null, "철수",
+			"임수", "영희", "병화", "궁합 분석 중 서버 오류가 발생했습니다.", null);
+		when(manseInterpretationService.analyzeCompatibility(eq("철수"), any(), eq("영희"), any()))
+			.thenReturn(failed);
+
+		String requestId = pipelineService.submitInterpretCompatibility(compatibilityRequest("철수", "영희"))
+			.getRequestId();
+
+		await().atMost(TIMEOUT).until(() -> requests.get(requestId).getStatus() == JobStatus.FAILED);
+		InterpretationRequestResponse response = pipelineService.find(requestId).orElseThrow();
+		assertThat(response.getError()).isEqualTo("궁합 분석 중 서버 오류가 발생했습니다.");
+		assertThat(response.getResult()).isNull();
+	}
+
+	@Test
+	void skipsRedeliveredRequestThatAlreadyFinished() throws Exception {
+		ManseInterpretationResponse interpretation = new ManseInterpretationResponse(7L, "홍길동", "임수", "해석");
+		when(manseInterpretationService.interpret(eq("홍길동"), any())).thenReturn(interpretation);
+
+		String requestId = pipelineService.submitInterpret(interpretRequest("홍길동")).getRequestId();
+		await().atMost(TIMEOUT).until(() -> requests.get(requestId).getStatus() == JobStatus.SUCCEEDED);
+
+		worker.consume(objectMapper.writeValueAsString(
+			InterpretationRequestedEvent.interpret(requestId, interpretRequest("홍길동"))));
+
+		verify(manseInterpretationService, times(1)).interpret(eq("홍길동"), any());
+		assertThat(requests.get(requestId).getResultId()).isEqualTo(7L);
+	}
+
+	private static InterpretationRequest copy(InterpretationRequest stored) {
+		InterpretationRequest copy = InterpretationRequest.create(stored.getRequestId(), stored.getType());
+		switch (stored.getStatus()) {
+			case RUNNING -> copy.running();
+			case SUCCEEDED -> copy.succeeded(stored.getResultId());
+			case FAILED -> copy.failed(stored.getError());
+			default -> {
+			}
+		}
+		return copy;
+	}
+
+	private static ManseInterpretationRequest interpretRequest(String name) {
+		return new ManseInterpretationRequest(name, LocalDate.of(1990, 5, 15), LocalTime.of(14, 30), "male",
+			false, false);
+	}
+
+	private static ManseCompatibilityAnalysisRequest compatibilityRequest(String name1, String name2) {
+		ManseCompatibilityAnalysisRequest request = new ManseCompatibilityAnalysisRequest();
+		request.setPerson1(person(name1, "male"));
+		request.setPerson2(person(name2, "female"));
+		return request;
+	}
+
+	private static ManseCompatibilityAnalysisRequest.PersonInfo person(String name, String gender) {
+		ManseCompatibilityAnalysisRequest.PersonInfo person = new ManseCompatibilityAnalysisRequest.PersonInfo();
+		person.setName(name);
+		person.setSolarDate(LocalDate.of(1992, 3, 1));
+		person.setSolarTime(LocalTime.of(9, 0));
+		person.setGender(gender);
+		person.setIsLunar(false);
+		person.setIsLeapMonth(false);
+		return person;
+	}
+
+	@Configuration
+	@ImportAutoConfiguration({KafkaAutoConfiguration.class, JacksonAutoConfiguration.class})
+	@Import({InterpretationPipelineConfig.class, InterpretationPipelineService.class,
+		InterpretationPipelineWorker.class})
+	static class Config {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
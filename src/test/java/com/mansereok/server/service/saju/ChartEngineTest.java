@@ -0,0 +1,113 @@
+package com.mansereok.server.service.saju;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mansereok.server.service.calendar.CalendarDay;
+import com.mansereok.server.service.calendar.LunarCalendarEngine;
+import com.mansereok.server.service.calendar.ManseCalendarIndex;
+import com.mansereok.server.service.calendar.SolarTermEngine;
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData;
+import com.mansereok.server.service.response.ChartCreateResponse.BasicChartData.Pillar;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ChartEngineTest {
+
+	private final ManseCalendarIndex manseCalendarIndex = mock(ManseCalendarIndex.class);
+	private final ChartEngine engine = new ChartEngine(manseCalendarIndex,
+		new LunarCalendarEngine(new SolarTermEngine()));
+
+	@Test
+	void twelveSinsals() {
+		// 申子辰 생년: 申 지살, 酉 연살, 子 장성살, 寅 역마살, 辰 화개살, 巳 겁살
+		Branch ja = Branch.fromChinese("子");
+		assertThat(TwelveSinsal.of(ja, Branch.fromChinese("申"))).isEqualTo(TwelveSinsal.JISAL);
+		assertThat(TwelveSinsal.of(ja, Branch.fromChinese("酉"))).isEqualTo(TwelveSinsal.YEONSAL);
+		assertThat(TwelveSinsal.of(ja, ja)).isEqualTo(TwelveSinsal.JANGSEONGSAL);
+		assertThat(TwelveSinsal.of(ja, Branch.fromChinese("寅"))).isEqualTo(TwelveSinsal.YEOKMASAL);
+		assertThat(TwelveSinsal.of(ja, Branch.fromChinese("辰"))).isEqualTo(TwelveSinsal.HWAGAESAL);
+		assertThat(TwelveSinsal.of(ja, Branch.fromChinese("巳"))).isEqualTo(TwelveSinsal.GEOPSAL);
+		// 寅午戌 생년: 申 역마살, 亥 겁살
+		Branch o = Branch.fromChinese("午");
+		assertThat(TwelveSinsal.of(o, Branch.fromChinese("申"))).isEqualTo(TwelveSinsal.YEOKMASAL);
+		assertThat(TwelveSinsal.of(o, Branch.fromChinese("亥"))).isEqualTo(TwelveSinsal.GEOPSAL);
+	}
+
+	@Test
+	void buildsChart() {
+		LocalDate date = LocalDate.of(2024, 2, 10);
+		BasicChartData data = engine.create(new SajuChart(date, date, LocalTime.of(12, 30),
+			null, Ganji.fromChinese("甲辰"), Ganji.fromChinese("丙寅"), Ganji.fromChinese("甲辰"),
+			Ganji.fromChinese("庚午"), true, 3, 2027));
+
+		Pillar day = data.getSajuChart().getDayPillar();
+		assertThat(day.getCheongan().getChinese() + day.getJiji().getChinese()).isEqualTo("甲辰");
+		assertThat(day.getCheongan().getSipseong().getName()).isEqualTo("비견");
+		assertThat(day.getJijangganList()).extracting("chinese").containsExactly("乙", "癸", "戊");
+		assertThat(day.getUnseong().getName()).isEqualTo("쇠");
+		assertThat(data.getSajuChart().getTimePillar().getUnseong().getName()).isEqualTo("사");
+
+		assertThat(data.getSinsal().getYearSinsal().getName()).isEqualTo("화개살");
+		assertThat(data.getSinsal().getMonthSinsal().getName()).isEqualTo("역마살");
+		assertThat(data.getSinsal().getTimeSinsal().getChinese()).isEqualTo("災殺");
+
+		assertThat(data.getProfile().getSexagenaryCycle()).isEqualTo("갑진년 병인월 갑진일 경오시");
+		assertThat(data.getProfile().getSunBirth()).isEqualTo("2024/02/10 12:30");
+		assertThat(data.getProfile().getLunBirth()).isEqualTo("2024/01/01 12:30");
+	}
+
+	@Test
+	void leavesTimePillarEmptyWhenTimeIsUnknown() {
+		LocalDate date = LocalDate.of(2024, 2, 10);
+		BasicChartData data = engine.create(new SajuChart(date, date, null, null,
+			Ganji.fromChinese("甲辰"), Ganji.fromChinese("丙寅"), Ganji.fromChinese("甲辰"), null,
+			true, 3, 2027));
+
+		assertThat(data.getSajuChart().getTimePillar()).isNull();
+		assertThat(data.getSinsal().getTimeSinsal()).isNull();
+		assertThat(data.getProfile().getSexagenaryCycle()).isEqualTo("갑진년 병인월 갑진일");
+		assertThat(data.getProfile().getSunBirth()).isEqualTo("2024/02/10");
+	}
+
+	@Test
+	void showsActualBirthDateForLateZiHour() {
+		// 통자시: 23:45 출생은 삼주를 다음날(5/6)로 보지만 출생일은 그대로 5/5 이다
+		BasicChartData data = engine.create(new SajuChart(LocalDate.of(1990, 5, 6),
+			LocalDate.of(1990, 5, 5), LocalTime.of(23, 45), null, Ganji.fromChinese("庚午"),
+			Ganji.fromChinese("辛巳"), Ganji.fromChinese("辛巳"), Ganji.fromChinese("戊子"), true, 3, 1993));
+
+		assertThat(data.getProfile().getSunBirth()).isEqualTo("1990/05/05 23:45");
+		assertThat(data.getProfile().getLunBirth()).isEqualTo("1990/04/11 23:45");
+		assertThat(data.getProfile().getAdjustedBirth()).isEqualTo("1990/05/05 23:45");
+	}
+
+	@Test
+	void prefersLunarDateFromManseTable() {
+		// 테이블의 윤달 표기를 그대로 쓴다
+		LocalDate date = LocalDate.of(2023, 3, 22);
+		CalendarDay day = new CalendarDay(date, LocalDate.of(2023, 2, 1), true, null, null, 0, 0, 0, 0, 0, 0);
+		when(manseCalendarIndex.findBySolarDate(date)).thenReturn(Optional.of(day));
+
+		BasicChartData data = engine.create(new SajuChart(date, date, null, null,
+			Ganji.fromChinese("癸卯"), Ganji.fromChinese("乙卯"), Ganji.fromChinese("丁巳"), null,
+			true, 3, 2026));
+
+		assertThat(data.getProfile().getLunBirth()).isEqualTo("2023/02/01 (윤)");
+	}
+
+	@Test
+	void leavesLunarBirthEmptyOutsideSupportedRange() {
+		LocalDate date = LocalDate.of(1650, 6, 1);
+		BasicChartData data = engine.create(new SajuChart(date, date, null, null,
+			Ganji.fromChinese("庚寅"), Ganji.fromChinese("壬午"), Ganji.fromChinese("甲子"), null,
+			true, 3, 1653));
+
+		assertThat(data.getProfile().getSunBirth()).isEqualTo("1650/06/01");
+		assertThat(data.getProfile().getLunBirth()).isNull();
+		assertThat(data.getSajuChart().getDayPillar()).isNotNull();
+	}
+}
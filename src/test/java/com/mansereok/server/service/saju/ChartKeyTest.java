@@ -0,0 +1,60 @@
+package com.mansereok.server.service.saju;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+class ChartKeyTest {
+
+	@Test
+	void packsAndUnpacksChart() {
+		SajuChart chart = chart(Ganji.fromChinese("癸未"), true, 7);
+
+		long key = ChartKey.of(chart, "MALE");
+
+		assertThat(ChartKey.year(key).chinese()).isEqualTo("庚午");
+		assertThat(ChartKey.month(key).chinese()).isEqualTo("辛巳");
+		assertThat(ChartKey.day(key).chinese()).isEqualTo("庚辰");
+		assertThat(ChartKey.time(key).chinese()).isEqualTo("癸未");
+		assertThat(ChartKey.isMale(key)).isTrue();
+		assertThat(ChartKey.isForward(key)).isTrue();
+		assertThat(ChartKey.bigFortuneNumber(key)).isEqualTo(7);
+		assertThat(key >>> 38).isZero();
+	}
+
+	@Test
+	void distinguishesEveryField() {
+		long key = ChartKey.of(chart(Ganji.fromChinese("癸未"), true, 7), "MALE");
+
+		assertThat(ChartKey.of(chart(Ganji.fromChinese("癸未"), true, 7), "FEMALE")).isNotEqualTo(key);
+		assertThat(ChartKey.of(chart(Ganji.fromChinese("癸未"), false, 7), "MALE")).isNotEqualTo(key);
+		assertThat(ChartKey.of(chart(Ganji.fromChinese("癸未"), true, 8), "MALE")).isNotEqualTo(key);
+		assertThat(ChartKey.of(chart(Ganji.fromChinese("甲申"), true, 7), "MALE")).isNotEqualTo(key);
+		assertThat(ChartKey.of(chart(null, true, 7), "MALE")).isNotEqualTo(key);
+	}
+
+	@Test
+	void marksUnknownTime() {
+		long key = ChartKey.of(chart(null, false, 3), "FEMALE");
+
+		assertThat(ChartKey.time(key)).isNull();
+		assertThat(ChartKey.day(key).chinese()).isEqualTo("庚辰");
+		assertThat(ChartKey.isMale(key)).isFalse();
+	}
+
+	@Test
+	void rejectsOutOfRangeBigFortuneNumber() {
+		assertThatThrownBy(() -> ChartKey.of(chart(null, true, 16), "MALE"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static SajuChart chart(Ganji time, boolean forward, int bigFortuneNumber) {
+		return new SajuChart(LocalDate.of(1990, 5, 15), LocalDate.of(1990, 5, 15),
+			time != null ? LocalTime.of(14, 30) : null, null,
+			Ganji.fromChinese("庚午"), Ganji.fromChinese("辛巳"), Ganji.fromChinese("庚辰"),
+			time, forward, bigFortuneNumber, 1997);
+	}
+}
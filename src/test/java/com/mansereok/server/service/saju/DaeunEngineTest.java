@@ -0,0 +1,89 @@
+package com.mansereok.server.service.saju;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mansereok.server.service.response.DaeunCreateResponse;
+import com.mansereok.server.service.response.DaeunCreateResponse.DaeunInfo;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class DaeunEngineTest {
+
+	private final DaeunEngine engine = new DaeunEngine();
+
+	@Test
+	void twelveStages() {
+		assertThat(TwelveStage.of(Stem.fromChinese("甲"), Branch.fromChinese("亥"))).isEqualTo(TwelveStage.JANGSAENG);
+		assertThat(TwelveStage.of(Stem.fromChinese("甲"), Branch.fromChinese("寅"))).isEqualTo(TwelveStage.GEONROK);
+		assertThat(TwelveStage.of(Stem.fromChinese("丙"), Branch.fromChinese("午"))).isEqualTo(TwelveStage.JEWANG);
+		// 음간은 역행한다
+		assertThat(TwelveStage.of(Stem.fromChinese("乙"), Branch.fromChinese("巳"))).isEqualTo(TwelveStage.MOGYOK);
+		assertThat(TwelveStage.of(Stem.fromChinese("癸"), Branch.fromChinese("子"))).isEqualTo(TwelveStage.GEONROK);
+	}
+
+	@Test
+	void monthGanjiFollowsSolarTermMonths() {
+		assertThat(DaeunEngine.monthGanji(2024, 1).chinese()).isEqualTo("乙丑");
+		assertThat(DaeunEngine.monthGanji(2024, 2).chinese()).isEqualTo("丙寅");
+		assertThat(DaeunEngine.monthGanji(2024, 12).chinese()).isEqualTo("丙子");
+		assertThat(DaeunEngine.monthGanji(2025, 1).chinese()).isEqualTo("丁丑");
+	}
+
+	@Test
+	void forwardChart() {
+		DaeunCreateResponse.SajuData data = engine.create(chart(true));
+
+		assertThat(data.getDaeunNumber()).isEqualTo(3);
+		assertThat(data.getDaeunGanji()).isEqualTo("丁卯");
+		assertThat(data.getDaeunList()).hasSize(DaeunEngine.DAEUN_COUNT);
+		assertThat(data.getYeonunList()).hasSize(DaeunEngine.YEARS);
+		assertThat(data.getWolunList()).hasSize(DaeunEngine.YEARS * 12);
+
+		DaeunInfo first = data.getDaeunList().get(0);
+		assertThat(first.getGanji().getCheongan().getChinese() + first.getGanji().getJiji().getChinese())
+			.isEqualTo("丁卯");
+		assertThat(first.getAge()).isEqualTo(3);
+		assertThat(first.getYear()).isEqualTo(2027);
+		assertThat(data.getDaeunList().get(9).getAge()).isEqualTo(93);
+
+		// 일간 甲 기준: 丁은 상관, 卯는 제왕
+		assertThat(first.getGanji().getCheongan().getSipseong().getName()).isEqualTo("상관");
+		assertThat(first.getGanji().getUnseong().getName()).isEqualTo("제왕");
+
+		assertThat(data.getYeonunList().get(0).getGanji().getCheongan().getChinese()).isEqualTo("甲");
+		assertThat(data.getYeonunList().get(1).getYear()).isEqualTo(2025);
+		assertThat(data.getWolunList().get(13).getMonth()).isEqualTo(2);
+		assertThat(data.getWolunList().get(13).getGanji().getJiji().getChinese()).isEqualTo("寅");
+	}
+
+	@Test
+	void backwardChart() {
+		DaeunCreateResponse.SajuData data = engine.create(chart(false));
+
+		assertThat(data.getDaeunGanji()).isEqualTo("乙丑");
+		assertThat(data.getDaeunList()).extracting(
+				daeun -> daeun.getGanji().getCheongan().getChinese() + daeun.getGanji().getJiji().getChinese())
+			.startsWith("乙丑", "甲子", "癸亥");
+	}
+
+	@Test
+	void usesActualBirthYearForLateZiHourOnNewYearsEve() {
+		// 통자시: 2023-12-31 23:45 출생은 삼주를 2024-01-01 로 보지만 출생년은 2023 이다
+		DaeunCreateResponse.SajuData data = engine.create(new SajuChart(LocalDate.of(2024, 1, 1),
+			LocalDate.of(2023, 12, 31), null, null, Ganji.fromChinese("癸卯"), Ganji.fromChinese("甲子"),
+			Ganji.fromChinese("甲子"), null, true, 3, 2026));
+
+		assertThat(data.getDaeunList().get(0).getYear()).isEqualTo(2026);
+		assertThat(data.getDaeunList().get(0).getMonth()).isEqualTo(12);
+		assertThat(data.getYeonunList().get(0).getYear()).isEqualTo(2023);
+		assertThat(data.getYeonunList().get(1).getAge()).isEqualTo(1);
+		assertThat(data.getWolunList().get(12).getYear()).isEqualTo(2024);
+		assertThat(data.getWolunList().get(12).getAge()).isEqualTo(1);
+	}
+
+	private static SajuChart chart(boolean forward) {
+		return new SajuChart(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1), null, null,
+			Ganji.fromChinese("甲辰"), Ganji.fromChinese("丙寅"), Ganji.fromChinese("甲子"), null,
+			forward, 3, 2027);
+	}
+}
@@ -0,0 +1,37 @@
+package com.mansereok.server.service.saju;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class GanjiTest {
+
+	@Test
+	void combinesStemAndBranch() {
+		for (int index = 0; index < Ganji.CYCLE; index++) {
+			Ganji ganji = Ganji.of(index);
+			assertThat(Ganji.of(ganji.stem(), ganji.branch())).isSameAs(ganji);
+			assertThat(Ganji.fromChinese(ganji.chinese())).isSameAs(ganji);
+		}
+		assertThat(Ganji.of(0).chinese()).isEqualTo("甲子");
+		assertThat(Ganji.of(59).korean()).isEqualTo("계해");
+		assertThat(Ganji.fromChinese("丙寅").index()).isEqualTo(2);
+	}
+
+	@Test
+	void advancesAroundTheCycle() {
+		Ganji gyehae = Ganji.fromChinese("癸亥");
+		assertThat(gyehae.plus(1).chinese()).isEqualTo("甲子");
+		assertThat(Ganji.fromChinese("甲子").plus(-1)).isSameAs(gyehae);
+		assertThat(Ganji.fromChinese("丙寅").plus(-10).chinese()).isEqualTo("丙辰");
+	}
+
+	@Test
+	void rejectsImpossibleCombinations() {
+		assertThatThrownBy(() -> Ganji.of(Stem.GAP, Branch.CHUK))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Ganji.fromChinese("甲"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,70 @@
+package com.mansereok.server.service.saju;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.mansereok.server.service.response.OhaengCreateResponse;
+import com.mansereok.server.service.response.OhaengCreateResponse.AnalysisData.ElementInfo;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import org.junit.jupiter.api.Test;
+
+class OhaengEngineTest {
+
+	private final OhaengEngine engine = new OhaengEngine();
+
+	@Test
+	void jijangganRatesAddUpToOneUnit() {
+		for (Branch branch : Branch.values()) {
+			int total = 0;
+			for (int slot = 0; slot < SajuTables.JIJANGGAN_SLOTS; slot++) {
+				total += SajuTables.jijangganRate(branch.ordinal(), slot);
+			}
+			assertThat(total).as(branch.getChinese()).isEqualTo(OhaengEngine.UNIT);
+		}
+	}
+
+	@Test
+	void weighsStemsBranchesAndMonthBranch() {
+		OhaengCreateResponse.AnalysisData data = engine.create(chart(Ganji.fromChinese("庚午")));
+
+		assertThat(data.getOhaeng()).extracting(info -> info.getElement().getName())
+			.containsExactly("목", "화", "토", "금", "수");
+		// 천간 4 + 지지 4 + 월지 한 번 더 = 9 글자
+		assertThat(sum(data.getOhaeng(), ElementInfo::getPoint)).isCloseTo(9.0, within(0.2));
+		assertThat(sum(data.getOhaeng(), ElementInfo::getPercent)).isCloseTo(100.0, within(0.3));
+
+		// 목: 甲 甲 + 辰(乙 9) x2 + 寅(甲 16) x 월지 2 = 110
+		ElementInfo wood = data.getOhaeng().get(FiveElement.WOOD.ordinal());
+		assertThat(wood.getPoint()).isEqualTo(3.7);
+		assertThat(wood.getPercent()).isEqualTo(40.7);
+		assertThat(wood.getDescription()).isEqualTo("과다");
+
+		// 십성에는 일간 자신이 빠진다
+		assertThat(data.getSipseong()).hasSize(10);
+		assertThat(sum(data.getSipseong(), ElementInfo::getPoint)).isCloseTo(8.0, within(0.2));
+		assertThat(data.getSipseong().get(TenStar.of(Stem.fromChinese("甲"), Stem.fromChinese("庚"))
+			.ordinal()).getElement().getSipseong().getName()).isEqualTo("편관");
+	}
+
+	@Test
+	void skipsTimePillarWhenTimeIsUnknown() {
+		OhaengCreateResponse.AnalysisData data = engine.create(chart(null));
+
+		assertThat(sum(data.getOhaeng(), ElementInfo::getPoint)).isCloseTo(7.0, within(0.2));
+		assertThat(data.getOhaeng().get(FiveElement.METAL.ordinal()).getDescription()).isEqualTo("없음");
+	}
+
+	private static double sum(List<ElementInfo> infos, ToDoubleFunction<ElementInfo> value) {
+		return infos.stream().mapToDouble(value).sum();
+	}
+
+	private static SajuChart chart(Ganji time) {
+		LocalDate date = LocalDate.of(2024, 2, 10);
+		return new SajuChart(date, date, time == null ? null : LocalTime.of(12, 30), null,
+			Ganji.fromChinese("甲辰"), Ganji.fromChinese("丙寅"), Ganji.fromChinese("甲辰"),
+			time, true, 3, 2027);
+	}
+}
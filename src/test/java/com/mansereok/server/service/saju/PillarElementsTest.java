@@ -0,0 +1,41 @@
+package com.mansereok.server.service.saju;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mansereok.server.service.response.ManseryeokCalculationResponse.PillarElement;
+import org.junit.jupiter.api.Test;
+
+class PillarElementsTest {
+
+	@Test
+	void sharesPrecomputedInstances() {
+		assertThat(PillarElements.of(Stem.GAP, Stem.GYEONG))
+			.isSameAs(PillarElements.of(Stem.GAP, Stem.GYEONG));
+		assertThat(PillarElements.of(Branch.IN, Stem.GAP).getJijanggan())
+			.isSameAs(PillarElements.jijanggan(Branch.IN))
+			.isSameAs(PillarElements.of(Branch.IN, Stem.GYE).getJijanggan());
+	}
+
+	@Test
+	void matchesTypedModel() {
+		for (Stem dayStem : Stem.values()) {
+			for (Stem stem : Stem.values()) {
+				PillarElement element = PillarElements.of(stem, dayStem);
+				assertThat(element.getChinese()).isEqualTo(stem.getChinese());
+				assertThat(element.getTenStar()).isEqualTo(TenStar.of(dayStem, stem).getKorean());
+				assertThat(element.getJijanggan()).isNull();
+			}
+			for (Branch branch : Branch.values()) {
+				PillarElement element = PillarElements.of(branch, dayStem);
+				assertThat(element.getChinese()).isEqualTo(branch.getChinese());
+				assertThat(element.getFiveCircle()).isEqualTo(branch.getElement().getKorean());
+				assertThat(element.getTenStar()).isEqualTo(TenStar.of(dayStem, branch).getKorean());
+			}
+		}
+
+		// 寅 지장간: 戊 7, 丙 7, 甲 16
+		assertThat(PillarElements.jijanggan(Branch.IN).getFirst().getChinese()).isEqualTo("戊");
+		assertThat(PillarElements.jijanggan(Branch.IN).getThird().getChinese()).isEqualTo("甲");
+		assertThat(PillarElements.jijanggan(Branch.MYO).getSecond()).isNull();
+	}
+}
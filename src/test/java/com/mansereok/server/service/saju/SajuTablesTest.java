@@ -0,0 +1,141 @@
+package com.mansereok.server.service.saju;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mansereok.server.service.SajuDataService;
+import java.lang.management.ManagementFactory;
+import java.time.LocalTime;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SajuTablesTest {
+
+	private static final int ITERATIONS = 200_000;
+
+	private final SajuDataService sajuDataService = new SajuDataService();
+
+	@Test
+	void tablesMatchReferenceData() {
+		Map<String, Map<String, String>> tenStar = sajuDataService.getTenStar();
+		Map<String, String> korean = sajuDataService.convertChineseToKorean();
+		Map<String, String> minusPlus = sajuDataService.getMinusPlus();
+
+		for (int dayStem = 0; dayStem < SajuTables.STEM_COUNT; dayStem++) {
+			for (int code = 0; code < SajuTables.CODE_COUNT; code++) {
+				String chinese = SajuTables.chinese(code);
+				String expected = tenStar.get(SajuTables.chinese(dayStem)).get(chinese);
+
+				assertThat(SajuTables.code(chinese)).isEqualTo(code);
+				assertThat(SajuTables.tenStar(dayStem, code) + "," + SajuTables.fiveCircle(code))
+					.isEqualTo(expected);
+				assertThat(SajuTables.korean(code)).isEqualTo(korean.get(chinese));
+				assertThat(SajuTables.minusPlus(code)).isEqualTo(minusPlus.get(chinese));
+			}
+			for (int branch = 0; branch < SajuTables.BRANCH_COUNT; branch++) {
+				String[] expected = sajuDataService.getTimeJuData2()
+					.get(SajuTables.chinese(dayStem)).get(String.valueOf(branch));
+				assertThat(SajuTables.chinese(SajuTables.timeStem(dayStem, branch)))
+					.isEqualTo(expected[0]);
+			}
+		}
+	}
+
+	@Test
+	void timeBranchTableCoversEveryMinute() {
+		Map<String, LocalTime[]> ranges = sajuDataService.getTimeJuData();
+		for (int minute = 0; minute < SajuTables.MINUTES_PER_DAY; minute++) {
+			LocalTime time = LocalTime.of(minute / 60, minute % 60);
+			LocalTime[] range = ranges.get(String.valueOf(SajuTables.timeBranch(time)));
+			boolean inRange = range[0].isBefore(range[1])
+				? !time.isBefore(range[0]) && !time.isAfter(range[1])
+				: !time.isBefore(range[0]) || !time.isAfter(range[1]);
+			assertThat(inRange).as("%s", time).isTrue();
+		}
+
+		assertThat(SajuTables.timeBranch(LocalTime.MIDNIGHT)).isZero();
+		assertThat(SajuTables.timeBranch(LocalTime.of(23, 30))).isZero();
+		assertThat(SajuTables.timeBranch(LocalTime.of(1, 29, 59))).isZero();
+		assertThat(SajuTables.timeBranch(LocalTime.of(1, 30))).isEqualTo(1);
+		assertThat(SajuTables.timeBranch(LocalTime.of(3, 29, 30))).isEqualTo(1);
+		assertThat(SajuTables.timeBranch(LocalTime.of(23, 29))).isEqualTo(11);
+		assertThat(SajuTables.isLateZi(LocalTime.of(23, 29, 59))).isFalse();
+		assertThat(SajuTables.isLateZi(LocalTime.of(23, 59, 59))).isTrue();
+	}
+
+	@Test
+	void enumsMatchReferenceData() {
+		for (Stem stem : Stem.values()) {
+			int code = stem.code();
+			assertThat(stem.getChinese()).isEqualTo(SajuTables.chinese(code));
+			assertThat(stem.getKorean()).isEqualTo(SajuTables.korean(code));
+			assertThat(stem.getElement().getKorean()).isEqualTo(SajuTables.fiveCircle(code));
+			assertThat(stem.getElement().getColor()).isEqualTo(SajuTables.fiveCircleColor(code));
+			assertThat(stem.getYinYang().getKorean()).isEqualTo(SajuTables.minusPlus(code));
+			assertThat(Stem.fromChinese(stem.getChinese())).isSameAs(stem);
+		}
+		for (Branch branch : Branch.values()) {
+			int code = branch.code();
+			assertThat(branch.getChinese()).isEqualTo(SajuTables.chinese(code));
+			assertThat(branch.getKorean()).isEqualTo(SajuTables.korean(code));
+			assertThat(branch.getElement().getKorean()).isEqualTo(SajuTables.fiveCircle(code));
+			assertThat(branch.getYinYang().getKorean()).isEqualTo(SajuTables.minusPlus(code));
+			assertThat(Branch.fromChinese(branch.getChinese())).isSameAs(branch);
+		}
+		for (Stem dayStem : Stem.values()) {
+			for (Stem stem : Stem.values()) {
+				assertThat(TenStar.of(dayStem, stem).getKorean())
+					.isEqualTo(SajuTables.tenStar(dayStem.code(), stem.code()));
+			}
+			for (Branch branch : Branch.values()) {
+				assertThat(TenStar.of(dayStem, branch).getKorean())
+					.isEqualTo(SajuTables.tenStar(dayStem.code(), branch.code()));
+			}
+		}
+	}
+
+	@Test
+	void referenceDataIsBuiltOnce() {
+		assertThat(sajuDataService.getTenStar()).isSameAs(sajuDataService.getTenStar());
+		assertThat(sajuDataService.getJijangan()).isSameAs(new SajuDataService().getJijangan());
+	}
+
+	@Test
+	void lookupsDoNotAllocate() {
+		com.sun.management.ThreadMXBean threads =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().threadId();
+
+		// warm-up
+		long checksum = lookupAll(ITERATIONS);
+
+		long before = threads.getThreadAllocatedBytes(threadId);
+		checksum += lookupAll(ITERATIONS);
+		long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+		// checksum 을 써야 조회 루프가 제거되지 않는다
+		assertThat(checksum).isPositive();
+		assertThat(allocated)
+			.as("%d lookups allocated %d bytes", ITERATIONS * 8L, allocated)
+			.isLessThan(1024);
+	}
+
+	// formatChinese 가 한 번의 계산에서 수행하는 8개 기둥 조회를 흉내낸다.
+	private long lookupAll(int iterations) {
+		String[] pillars = {"庚", "午", "辛", "巳", "甲", "子", "辛", "未"};
+		long checksum = 0;
+		for (int i = 0; i < iterations; i++) {
+			int dayStem = SajuTables.code(pillars[4]);
+			for (String pillar : pillars) {
+				int code = SajuTables.code(pillar);
+				checksum += SajuTables.tenStar(dayStem, code).length()
+					+ SajuTables.korean(code).length()
+					+ SajuTables.fiveCircle(code).length()
+					+ SajuTables.minusPlus(code).length();
+				if (SajuTables.isBranch(code)) {
+					checksum += SajuTables.jijangganRate(code - SajuTables.STEM_COUNT, 2);
+				}
+			}
+		}
+		return checksum;
+	}
+}